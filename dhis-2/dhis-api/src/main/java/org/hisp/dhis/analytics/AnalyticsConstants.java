@@ -47,4 +47,7 @@ public class AnalyticsConstants {
   public static final String ORG_UNIT_GROUPSET_STRUCT_ALIAS = "ougs";
 
   public static final String NULL = "null";
+
+  /** Name of the timer of analytics query phases, tagged by phase and table type. */
+  public static final String ANALYTICS_QUERY_METRIC = "analytics.query";
 }
@@ -52,6 +52,8 @@ public interface CacheProvider {
 
   <V> Cache<V> createIsDataApprovedCache();
 
+  <V> Cache<V> createDataApprovalStatusCache();
+
   <V> Cache<V> createAllConstantsCache();
 
   <V> Cache<V> createInUserOrgUnitHierarchyCache();
@@ -84,6 +86,10 @@ public interface CacheProvider {
 
   <V> Cache<V> createAnalyticsSqlCache();
 
+  <V> Cache<V> createAnalyticsCountCache();
+
+  <V> Cache<V> createAnalyticsProgramIndicatorCache();
+
   <V> Cache<V> createPropertyTransformerCache();
 
   <V> Cache<V> createUserGroupNameCache();
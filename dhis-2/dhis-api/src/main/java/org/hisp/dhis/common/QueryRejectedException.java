@@ -27,33 +27,31 @@
  * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
  * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
  */
-package org.hisp.dhis.tracker.export.trackedentity.aggregates;
+package org.hisp.dhis.common;
 
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
-import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadFactory;
+import org.hisp.dhis.feedback.ErrorCode;
 
 /**
- * Exposes a static method to fetch an Executor for the Aggregates operations
- *
- * @author Luciano Fiandesio
+ * Thrown when a query is not run because the system or the current user has reached the limit of
+ * concurrent queries. The query can be retried later.
  */
-class ThreadPoolManager {
-  // Thread factory that sets a user-defined thread name (useful for debugging
-  // purposes)
-  private ThreadPoolManager() {
-    throw new IllegalStateException("only used for its static fields");
-  }
+public class QueryRejectedException extends ErrorCodeException {
+  private final boolean userLimit;
 
-  private static final ThreadFactory threadFactory =
-      new ThreadFactoryBuilder().setNameFormat("TRACKER-TE-FETCH-%d").setDaemon(true).build();
-
-  /** Cached thread pool: not bound to a size, but can reuse existing threads. */
-  private static final Executor AGGREGATE_THREAD_POOL =
-      Executors.newCachedThreadPool(threadFactory);
+  /**
+   * Constructor.
+   *
+   * @param errorCode the {@link ErrorCode}.
+   * @param userLimit whether the limit of the current user, rather than the system wide limit, was
+   *     reached.
+   */
+  public QueryRejectedException(ErrorCode errorCode, boolean userLimit) {
+    super(errorCode);
+    this.userLimit = userLimit;
+  }
 
-  static Executor getPool() {
-    return AGGREGATE_THREAD_POOL;
+  /** Returns true if the limit of the current user was reached. */
+  public boolean isUserLimit() {
+    return userLimit;
   }
 }
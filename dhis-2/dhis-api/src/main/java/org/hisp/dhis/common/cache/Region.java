@@ -38,6 +38,7 @@ public enum Region {
   analyticsResponse,
   defaultObjectCache,
   isDataApproved,
+  dataApprovalStatus,
   allConstantsCache,
   inUserOrgUnitHierarchy,
   inUserSearchOrgUnitHierarchy,
@@ -54,6 +55,8 @@ public enum Region {
   metadataAttributes,
   canDataWriteCocCache,
   analyticsSql,
+  analyticsCount,
+  analyticsProgramIndicator,
   propertyTransformerCache,
   programHasRulesCache,
   userGroupNameCache,
@@ -36,6 +36,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import java.io.Serializable;
 import java.util.Comparator;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
@@ -98,7 +99,13 @@ public final class DataIntegrityCheck implements Serializable {
 
   private final transient Function<DataIntegrityCheck, DataIntegrityDetails> runDetailsCheck;
 
-  public DataIntegrityCheck addExecution(long time) {
+  /**
+   * Names that might refer to the tables the check reads from, empty when unknown. Used to detect
+   * if a previous result of the check is still valid.
+   */
+  @Builder.Default private final transient Set<String> tables = Set.of();
+
+  public synchronized DataIntegrityCheck addExecution(long time) {
     executionCount++;
     executionTime += time;
     return this;
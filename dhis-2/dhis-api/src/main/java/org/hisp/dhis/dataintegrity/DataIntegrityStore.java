@@ -29,6 +29,9 @@
  */
 package org.hisp.dhis.dataintegrity;
 
+import java.util.Set;
+import javax.annotation.CheckForNull;
+
 /**
  * Database support for running data integrity checks.
  *
@@ -54,4 +57,18 @@ public interface DataIntegrityStore {
    * @return the mapped details
    */
   DataIntegrityDetails queryDetails(DataIntegrityCheck check, String sql);
+
+  /**
+   * Returns a value which changes when rows of the given tables are inserted, updated or deleted
+   * according to the database statistics. Names which are not relations are ignored. The value only
+   * serves to detect if any of the tables changed between two calls.
+   *
+   * <p>The statistics are collected asynchronously so recent changes might not be reflected yet.
+   *
+   * @param tables the names of the tables
+   * @return the modification state, or null if it is unknown because no tables are given or any of
+   *     the names refers to a view or another relation which is not a plain table
+   */
+  @CheckForNull
+  String getModificationState(Set<String> tables);
 }
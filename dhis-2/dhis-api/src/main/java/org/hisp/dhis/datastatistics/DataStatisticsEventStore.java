@@ -49,6 +49,13 @@ public interface DataStatisticsEventStore extends GenericStore<DataStatisticsEve
    */
   Map<DataStatisticsEventType, Double> getDataStatisticsEventCount(Date startDate, Date endDate);
 
+  /**
+   * Inserts the given events using multi-row inserts instead of saving them one by one.
+   *
+   * @param events the events to insert
+   */
+  void insertAll(List<DataStatisticsEvent> events);
+
   /**
    * Returns top favorites by views
    *
@@ -48,6 +48,14 @@ public interface DataStatisticsService {
    */
   int addEvent(DataStatisticsEvent event);
 
+  /**
+   * Records a DataStatistics event asynchronously. The event is buffered and written together with
+   * other events shortly after.
+   *
+   * @param event object to be saved
+   */
+  void recordEvent(DataStatisticsEvent event);
+
   /**
    * Gets number of saved events from a start date to an end date.
    *
@@ -29,6 +29,7 @@
  */
 package org.hisp.dhis.datavalue;
 
+import java.util.Collection;
 import java.util.List;
 import javax.annotation.Nonnull;
 import org.hisp.dhis.category.CategoryOptionCombo;
@@ -72,6 +73,13 @@ public interface DataValueAuditStore {
    */
   void deleteDataValueAudits(DataElement dataElement);
 
+  /**
+   * Deletes all data value audits for the given data elements in a single statement.
+   *
+   * @param dataElements the data elements.
+   */
+  void deleteDataValueAudits(@Nonnull Collection<DataElement> dataElements);
+
   /**
    * Deletes all data value audits for the given category option combo. Both properties:
    * categoryOptionCombo & attributeOptionCombo are checked for a match.
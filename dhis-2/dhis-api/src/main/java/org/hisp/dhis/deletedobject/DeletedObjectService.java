@@ -29,7 +29,10 @@
  */
 package org.hisp.dhis.deletedobject;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author Morten Olav Hansen <mortenoh@gmail.com>
@@ -50,4 +53,10 @@ public interface DeletedObjectService {
   List<DeletedObject> getDeletedObjects();
 
   List<DeletedObject> getDeletedObjects(DeletedObjectQuery query);
+
+  /**
+   * @param klasses the short class names of the deleted objects.
+   * @return the time of the latest deletion by class name, classes without deletions are omitted.
+   */
+  Map<String, Date> getLastDeletedAt(Collection<String> klasses);
 }
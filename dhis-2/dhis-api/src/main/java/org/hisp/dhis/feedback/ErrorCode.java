@@ -489,6 +489,8 @@ public enum ErrorCode {
   E7148("Could not create CTE SQL query, unexpected error: `{0}`"),
   E7149("Invalid measure filter operator: `{0}`"),
   E7150("No periods found for subexpression query"),
+  E7151("Too many analytics queries are running for the current user, please try again later"),
+  E7152("Analytics is busy with other queries, please try again later"),
   /* Analytics outliers */
 
   E7180(
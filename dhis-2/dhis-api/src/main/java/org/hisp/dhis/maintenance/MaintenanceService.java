@@ -32,6 +32,7 @@ package org.hisp.dhis.maintenance;
 import org.hisp.dhis.common.event.ApplicationCacheClearedEvent;
 import org.hisp.dhis.dataelement.DataElement;
 import org.hisp.dhis.organisationunit.OrganisationUnit;
+import org.hisp.dhis.scheduling.JobProgress;
 
 /**
  * @author Lars Helge Overland
@@ -45,7 +46,18 @@ public interface MaintenanceService {
    *
    * @return the number of deleted data values.
    */
-  int deleteZeroDataValues();
+  default int deleteZeroDataValues() {
+    return deleteZeroDataValues(JobProgress.noop());
+  }
+
+  /**
+   * Same as {@link #deleteZeroDataValues()} but deletes in chunks which are reported to the given
+   * progress.
+   *
+   * @param progress to report each deleted chunk to
+   * @return the number of deleted data values.
+   */
+  int deleteZeroDataValues(JobProgress progress);
 
   /**
    * Permanently deletes data values which have been soft deleted, i.e. data values where the
@@ -53,7 +65,18 @@ public interface MaintenanceService {
    *
    * @return the number of deleted data values.
    */
-  int deleteSoftDeletedDataValues();
+  default int deleteSoftDeletedDataValues() {
+    return deleteSoftDeletedDataValues(JobProgress.noop());
+  }
+
+  /**
+   * Same as {@link #deleteSoftDeletedDataValues()} but deletes in chunks which are reported to the
+   * given progress.
+   *
+   * @param progress to report each deleted chunk to
+   * @return the number of deleted data values.
+   */
+  int deleteSoftDeletedDataValues(JobProgress progress);
 
   /**
    * Permanently deletes events which have been soft-deleted, i.e. events where the deleted property
@@ -61,7 +84,18 @@ public interface MaintenanceService {
    *
    * @return the number of deleted events.
    */
-  int deleteSoftDeletedEvents();
+  default int deleteSoftDeletedEvents() {
+    return deleteSoftDeletedEvents(JobProgress.noop());
+  }
+
+  /**
+   * Same as {@link #deleteSoftDeletedEvents()} but deletes in chunks which are reported to the
+   * given progress.
+   *
+   * @param progress to report each deleted chunk to
+   * @return the number of deleted events.
+   */
+  int deleteSoftDeletedEvents(JobProgress progress);
 
   /**
    * Permanently deletes relationships which have been soft deleted, i.e. relationships where the
@@ -77,7 +111,18 @@ public interface MaintenanceService {
    *
    * @return the number of deleted Enrollments.
    */
-  int deleteSoftDeletedEnrollments();
+  default int deleteSoftDeletedEnrollments() {
+    return deleteSoftDeletedEnrollments(JobProgress.noop());
+  }
+
+  /**
+   * Same as {@link #deleteSoftDeletedEnrollments()} but deletes in chunks which are reported to the
+   * given progress.
+   *
+   * @param progress to report each deleted chunk to
+   * @return the number of deleted Enrollments.
+   */
+  int deleteSoftDeletedEnrollments(JobProgress progress);
 
   /**
    * Permanently deletes tracked entities which have been soft deleted, i.e. tracked entities where
@@ -30,6 +30,7 @@
 package org.hisp.dhis.maintenance;
 
 import java.util.List;
+import org.hisp.dhis.scheduling.JobProgress;
 
 /**
  * @author Lars Helge Overland
@@ -39,25 +40,28 @@ public interface MaintenanceStore {
    * Deletes data values registered with 0 as value and associated with data elements with sum as
    * aggregation operator.
    *
+   * @param progress to report each deleted chunk to
    * @return the number of deleted data values.
    */
-  int deleteZeroDataValues();
+  int deleteZeroDataValues(JobProgress progress);
 
   /**
    * Permanently deletes data values which have been soft deleted, i.e. data values where the
    * deleted property is true.
    *
+   * @param progress to report each deleted chunk to
    * @return the number of deleted data values.
    */
-  int deleteSoftDeletedDataValues();
+  int deleteSoftDeletedDataValues(JobProgress progress);
 
   /**
    * Permanently deletes events which have been soft-deleted, i.e. events where the deleted property
    * is true.
    *
+   * @param progress to report each deleted chunk to
    * @return the number of deleted events
    */
-  int deleteSoftDeletedEvents();
+  int deleteSoftDeletedEvents(JobProgress progress);
 
   int hardDeleteEvents(List<String> eventsToDelete, String eventSelect, String eventDeleteQuery);
 
@@ -73,9 +77,10 @@ public interface MaintenanceStore {
    * Permanently deletes Enrollments which have been soft deleted, i.e. Enrollments where the
    * deleted property is true.
    *
+   * @param progress to report each deleted chunk to
    * @return the number of deleted Enrollments
    */
-  int deleteSoftDeletedEnrollments();
+  int deleteSoftDeletedEnrollments(JobProgress progress);
 
   /**
    * Permanently deletes tracked entities which have been soft deleted, i.e. tracked entities where
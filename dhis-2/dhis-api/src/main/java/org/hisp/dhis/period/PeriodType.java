@@ -77,9 +77,17 @@ public abstract class PeriodType implements Serializable {
           .withMaximumSize(30000)
           .build();
 
-  private String getCacheKey(Date date) {
-    return getCalendar().name() + getName() + date.getTime();
-  }
+  /**
+   * Cache for period lookup by ISO string. The cached periods are never handed out, lookups return
+   * copies so that callers can modify and persist them.
+   */
+  private static final Cache<Period> ISO_PERIOD_CACHE =
+      new SimpleCacheBuilder<Period>()
+          .forRegion("isoPeriodCache")
+          .expireAfterAccess(12, TimeUnit.HOURS)
+          .withInitialCapacity(10000)
+          .withMaximumSize(30000)
+          .build();
 
   private String getCacheKey(Date date, String customKey) {
     return getCalendar().name() + getName() + date.getTime() + customKey;
@@ -102,6 +110,7 @@ public abstract class PeriodType implements Serializable {
    */
   public static void invalidatePeriodCache() {
     PERIOD_CACHE.invalidateAll();
+    ISO_PERIOD_CACHE.invalidateAll();
   }
 
   private static CalendarService calendarService;
@@ -324,20 +333,7 @@ public abstract class PeriodType implements Serializable {
    * @return the valid Period based on the given date
    */
   public Period createPeriod(Date date) {
-    Optional<Period> optional = PERIOD_CACHE.get(getCacheKey(date));
-    Period period;
-
-    if (optional.isPresent()) {
-      period = optional.get();
-      period.setDateField(null);
-
-      return optional.get();
-    } else {
-      period = createPeriod(date, getCalendar());
-      PERIOD_CACHE.put(getCacheKey(date), period);
-    }
-
-    return period;
+    return createPeriod(date, getCalendar());
   }
 
   /**
@@ -370,7 +366,8 @@ public abstract class PeriodType implements Serializable {
    * @return the valid Period based on the given date
    */
   public Period createPeriod(Date date, org.hisp.dhis.calendar.Calendar calendar) {
-    Optional<Period> optional = PERIOD_CACHE.get(getCacheKey(calendar, date));
+    String cacheKey = getCacheKey(calendar, date);
+    Optional<Period> optional = PERIOD_CACHE.get(cacheKey);
     Period period;
 
     if (optional.isPresent()) {
@@ -380,7 +377,7 @@ public abstract class PeriodType implements Serializable {
       return optional.get();
     } else {
       period = createPeriod(calendar.fromIso(DateTimeUnit.fromJdkDate(date)), calendar);
-      PERIOD_CACHE.put(getCacheKey(calendar, date), period);
+      PERIOD_CACHE.put(cacheKey, period);
     }
 
     return period;
@@ -527,20 +524,31 @@ public abstract class PeriodType implements Serializable {
 
   /**
    * Returns a period based on the given date string in ISO format. Returns null if the date string
-   * cannot be parsed to a period.
+   * cannot be parsed to a period. Parsed periods are cached per calendar, the returned period is
+   * always a new instance.
    *
    * @param isoPeriod the date string in ISO format.
    * @return a period.
    */
   public static Period getPeriodFromIsoString(String isoPeriod) {
-    if (isoPeriod != null) {
-      PeriodType periodType = getPeriodTypeFromIsoString(isoPeriod);
+    if (isoPeriod == null) {
+      return null;
+    }
 
-      try {
-        return periodType != null ? periodType.createPeriod(isoPeriod) : null;
-      } catch (Exception ex) {
-        // Do nothing and return null
-      }
+    Period period =
+        ISO_PERIOD_CACHE.get(
+            getCalendar().name() + isoPeriod, key -> parsePeriodFromIsoString(isoPeriod));
+
+    return period != null ? new Period(period) : null;
+  }
+
+  private static Period parsePeriodFromIsoString(String isoPeriod) {
+    PeriodType periodType = getPeriodTypeFromIsoString(isoPeriod);
+
+    try {
+      return periodType != null ? periodType.createPeriod(isoPeriod) : null;
+    } catch (Exception ex) {
+      // Do nothing and return null
     }
 
     return null;
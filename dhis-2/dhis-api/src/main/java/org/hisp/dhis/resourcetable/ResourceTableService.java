@@ -35,8 +35,12 @@ import org.hisp.dhis.scheduling.JobProgress;
  * @author Lars Helge Overland
  */
 public interface ResourceTableService {
-  /** Generates resource tables. */
-  void generateResourceTables();
+  /**
+   * Generates resource tables. Tables which are independent of each other are generated in
+   * parallel. Each table is generated in its own transaction, a table which fails to generate keeps
+   * its previous content.
+   */
+  void generateResourceTables(JobProgress progress);
 
   /** Replicates resource tables in the analytics database. */
   void replicateAnalyticsResourceTables();
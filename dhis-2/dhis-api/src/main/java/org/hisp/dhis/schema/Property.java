@@ -35,13 +35,18 @@ import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlProperty;
 import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlRootElement;
 import com.google.common.base.MoreObjects;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.commons.lang3.ClassUtils;
 import org.hisp.dhis.common.DxfNamespaces;
 import org.hisp.dhis.common.EmbeddedObject;
 import org.hisp.dhis.common.IdentifiableObject;
@@ -71,10 +76,25 @@ public class Property implements Ordered, Klass {
   @Setter private PropertyType itemPropertyType;
 
   /** Direct link to getter for this property. */
-  @Getter @Setter private Method getterMethod;
+  @Getter private Method getterMethod;
 
   /** Direct link to setter for this property. */
-  @Getter @Setter private Method setterMethod;
+  @Getter private Method setterMethod;
+
+  /**
+   * Compiled, reflection-free accessor for the getter, if one could be created at introspection
+   * time.
+   */
+  private Function<Object, Object> getter;
+
+  /**
+   * Compiled, reflection-free accessor for the setter, if one could be created at introspection
+   * time.
+   */
+  private BiConsumer<Object, Object> setter;
+
+  /** Parameter type of the setter method, set together with the compiled setter. */
+  private Class<?> setterType;
 
   /**
    * Name for this property, if this class is a collection, it is the name of the items -inside- the
@@ -245,6 +265,103 @@ public class Property implements Ordered, Klass {
     this.setterMethod = setter;
   }
 
+  public void setGetterMethod(Method getterMethod) {
+    this.getterMethod = getterMethod;
+    this.getter = null;
+  }
+
+  public void setSetterMethod(Method setterMethod) {
+    this.setterMethod = setterMethod;
+    this.setter = null;
+    this.setterType = null;
+  }
+
+  /**
+   * Sets the compiled accessors for the getter and setter methods of this property. Accessors are
+   * reset whenever the getter or setter method is changed.
+   *
+   * @param getter the compiled getter, or null to use the getter method.
+   * @param setter the compiled setter, or null to use the setter method.
+   */
+  public void setAccessors(Function<Object, Object> getter, BiConsumer<Object, Object> setter) {
+    this.getter = getter;
+    this.setter = setter;
+    this.setterType = setter == null ? null : setterMethod.getParameterTypes()[0];
+  }
+
+  boolean hasCompiledGetter() {
+    return getter != null;
+  }
+
+  boolean hasCompiledSetter() {
+    return setter != null;
+  }
+
+  /**
+   * Reads the value of this property from the given object. Uses the compiled accessor when
+   * present, and the getter method otherwise. Objects of another type are passed to the getter
+   * method, which fails with an {@link IllegalArgumentException} like a reflective call.
+   *
+   * @param object the object to read from.
+   * @return the property value, or null if the object is null or the property has no accessible
+   *     getter.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T getValue(Object object) {
+    if (object == null) {
+      return null;
+    }
+
+    if (getter != null && getterMethod.getDeclaringClass().isInstance(object)) {
+      return (T) getter.apply(object);
+    }
+
+    return (T) invoke(getterMethod, object);
+  }
+
+  /**
+   * Writes the value of this property to the given object. Uses the compiled accessor when present,
+   * and the setter method otherwise. Values the compiled accessor cannot accept, like null for a
+   * primitive or values that need a widening conversion, are passed to the setter method, which
+   * converts them or fails with an {@link IllegalArgumentException} like a reflective call.
+   *
+   * @param object the object to write to, does nothing if null.
+   * @param value the property value.
+   */
+  public void setValue(Object object, Object value) {
+    if (object == null) {
+      return;
+    }
+
+    if (setter != null
+        && setterMethod.getDeclaringClass().isInstance(object)
+        && isInstance(setterType, value)) {
+      setter.accept(object, value);
+    } else {
+      invoke(setterMethod, object, value);
+    }
+  }
+
+  private static boolean isInstance(Class<?> type, Object value) {
+    return value == null
+        ? !type.isPrimitive()
+        : ClassUtils.primitiveToWrapper(type).isInstance(value);
+  }
+
+  private static Object invoke(Method method, Object target, Object... args) {
+    if (method == null
+        || Modifier.isProtected(method.getModifiers())
+        || Modifier.isPrivate(method.getModifiers())) {
+      return null;
+    }
+
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException | IllegalAccessException ex) {
+      throw new RuntimeException(ex);
+    }
+  }
+
   @Override
   @JsonProperty
   @JacksonXmlProperty(namespace = DxfNamespaces.DXF_2_0)
@@ -356,6 +356,14 @@ public non-sealed interface SystemSettings extends Settings {
     return asDate("keyLastSuccessfulDataSynch", new Date(0L));
   }
 
+  /**
+   * @return position after the last data value acknowledged by the remote server in a data
+   *     synchronization that did not complete, or empty if there is none
+   */
+  default String getDataSynchCheckpoint() {
+    return asString("keyDataSynchCheckpoint", "");
+  }
+
   default Date getLastSuccessfulEventsDataSynch() {
     return asDate("keyLastSuccessfulEventsDataSynch", new Date(0L));
   }
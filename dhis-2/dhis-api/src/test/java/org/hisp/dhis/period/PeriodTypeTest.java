@@ -31,6 +31,7 @@ package org.hisp.dhis.period;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
 import java.util.List;
@@ -129,6 +130,25 @@ class PeriodTypeTest {
         PeriodTypeEnum.YEARLY, PeriodType.getPeriodType(PeriodTypeEnum.YEARLY).getPeriodTypeEnum());
   }
 
+  @Test
+  void testGetPeriodFromIsoStringReturnsNewInstances() {
+    Period first = PeriodType.getPeriodFromIsoString("2018Q2");
+    Period second = PeriodType.getPeriodFromIsoString("2018Q2");
+
+    assertNotSame(first, second);
+    assertEquals(first, second);
+
+    first.setId(42);
+    first.setDateField("created");
+    second = PeriodType.getPeriodFromIsoString("2018Q2");
+
+    assertEquals(0, second.getId());
+    assertNull(second.getDateField());
+    assertEquals("2018Q2", second.getIsoDate());
+    assertNull(PeriodType.getPeriodFromIsoString("2018X2"));
+    assertNull(PeriodType.getPeriodFromIsoString(null));
+  }
+
   @Test
   void testGetShiftedPeriod() {
     Period aug2022 = PeriodType.getPeriodFromIsoString("202208");
@@ -38,8 +38,11 @@ import com.networknt.schema.JsonSchema;
 import com.networknt.schema.ValidationMessage;
 import java.io.InputStream;
 import java.nio.file.Path;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import lombok.extern.slf4j.Slf4j;
 import org.hisp.dhis.jsonschema.JsonSchemaValidator;
 import org.springframework.core.io.AbstractFileResolvingResource;
@@ -53,6 +56,13 @@ import org.springframework.core.io.UrlResource;
  */
 @Slf4j
 class DataIntegrityYamlReader {
+  private static final Pattern IDENTIFIER = Pattern.compile("[a-z_][a-z0-9_]*");
+
+  private static final Pattern TIME_DEPENDENT =
+      Pattern.compile(
+          "\\b(now|current_date|current_time|current_timestamp|localtime|localtimestamp"
+              + "|clock_timestamp|statement_timestamp|transaction_timestamp|timeofday)\\b");
+
   private DataIntegrityYamlReader() {
     throw new UnsupportedOperationException("util");
   }
@@ -219,6 +229,7 @@ class DataIntegrityYamlReader {
                     dataIntegrityRecord.sqlToSummary().apply(sanitiseSQL(yamlFile.summarySql)))
                 .runDetailsCheck(
                     dataIntegrityRecord.sqlToDetails().apply(sanitiseSQL(yamlFile.detailsSql)))
+                .tables(getIdentifiers(yamlFile.summarySql, yamlFile.detailsSql))
                 .build());
   }
 
@@ -257,6 +268,29 @@ class DataIntegrityYamlReader {
             .replace("|| '%'", ""));
   }
 
+  /**
+   * Collects all identifiers used in the SQL queries. This includes the names of all tables the
+   * queries read from, which is all that matters as other identifiers are not table names. When any
+   * of the queries depends on the current time no identifiers are returned, as the result of such a
+   * check can change without any table being modified.
+   */
+  private static Set<String> getIdentifiers(String... sqls) {
+    Set<String> identifiers = new HashSet<>();
+    for (String sql : sqls) {
+      if (sql != null) {
+        String lowerSql = sql.toLowerCase();
+        if (TIME_DEPENDENT.matcher(lowerSql).find()) {
+          return Set.of();
+        }
+        Matcher matcher = IDENTIFIER.matcher(lowerSql);
+        while (matcher.find()) {
+          identifiers.add(matcher.group());
+        }
+      }
+    }
+    return Set.copyOf(identifiers);
+  }
+
   enum ResourceLocation {
     CLASS_PATH,
     FILE_SYSTEM
@@ -34,6 +34,7 @@ import static java.lang.System.currentTimeMillis;
 import static java.util.Collections.unmodifiableCollection;
 import static java.util.function.Predicate.not;
 import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.partitioningBy;
 import static java.util.stream.Collectors.toUnmodifiableSet;
 import static java.util.stream.StreamSupport.stream;
 import static org.hisp.dhis.commons.collection.ListUtils.getDuplicates;
@@ -84,6 +85,8 @@ import org.hisp.dhis.dataset.DataSetService;
 import org.hisp.dhis.expression.Expression;
 import org.hisp.dhis.expression.ExpressionService;
 import org.hisp.dhis.expression.ExpressionValidationOutcome;
+import org.hisp.dhis.external.conf.ConfigurationKey;
+import org.hisp.dhis.external.conf.DhisConfigurationProvider;
 import org.hisp.dhis.external.location.LocationManager;
 import org.hisp.dhis.external.location.LocationManagerException;
 import org.hisp.dhis.i18n.I18n;
@@ -152,6 +155,8 @@ public class DefaultDataIntegrityService implements DataIntegrityService {
 
   private final SchemaService schemaService;
 
+  private final DhisConfigurationProvider config;
+
   private Cache<DataIntegritySummary> summaryCache;
 
   private Cache<DataIntegrityDetails> detailsCache;
@@ -160,6 +165,11 @@ public class DefaultDataIntegrityService implements DataIntegrityService {
 
   private final Set<String> runningDetailsChecks = ConcurrentHashMap.newKeySet();
 
+  /** Modification states of the tables read by a check at the time its cached result was made. */
+  private final Map<String, String> summaryModificationStates = new ConcurrentHashMap<>();
+
+  private final Map<String, String> detailsModificationStates = new ConcurrentHashMap<>();
+
   @PostConstruct
   public void init() {
     summaryCache = cacheProvider.createDataIntegritySummaryCache();
@@ -651,6 +661,7 @@ public class DefaultDataIntegrityService implements DataIntegrityService {
         expandChecks(checks, true),
         progress,
         summaryCache,
+        summaryModificationStates,
         runningSummaryChecks,
         check -> check.getRunSummaryCheck().apply(check),
         (check, startTime, ex) ->
@@ -673,6 +684,7 @@ public class DefaultDataIntegrityService implements DataIntegrityService {
         expandChecks(checks, true),
         progress,
         detailsCache,
+        detailsModificationStates,
         runningDetailsChecks,
         check -> check.getRunDetailsCheck().apply(check),
         (check, startTime, ex) ->
@@ -720,41 +732,89 @@ public class DefaultDataIntegrityService implements DataIntegrityService {
       Set<String> checks,
       JobProgress progress,
       Cache<T> cache,
+      Map<String, String> modificationStates,
       Set<String> running,
       Function<DataIntegrityCheck, T> runCheck,
       DataIntegrityCheckErrorHandler<T> createErrorReport) {
     try {
       running.addAll(checks);
-      progress.startingProcess("Data integrity check");
-      progress.startingStage(stageDesc, checks.size(), SKIP_ITEM);
-      progress.runStage(
+      // programmatic checks share the transaction so they must run sequentially
+      Map<Boolean, List<DataIntegrityCheck>> checksByProgrammatic =
           checks.stream()
               .map(checksByName::get)
               .filter(Objects::nonNull)
-              .sorted(DataIntegrityCheck.FAST_TO_SLOW),
+              .sorted(DataIntegrityCheck.FAST_TO_SLOW)
+              .collect(partitioningBy(DataIntegrityCheck::isProgrammatic));
+      List<DataIntegrityCheck> databaseChecks = checksByProgrammatic.get(false);
+      List<DataIntegrityCheck> programmaticChecks = checksByProgrammatic.get(true);
+      Consumer<DataIntegrityCheck> work =
+          check ->
+              runDataIntegrityCheck(
+                  check, cache, modificationStates, running, runCheck, createErrorReport);
+
+      progress.startingProcess("Data integrity check");
+      progress.startingStage(stageDesc, databaseChecks.size(), SKIP_ITEM);
+      progress.runStageInParallel(
+          config.getIntProperty(ConfigurationKey.SYSTEM_DATA_INTEGRITY_PARALLELISM),
+          databaseChecks,
           DataIntegrityCheck::getDescription,
-          check -> {
-            Date startTime = new Date();
-            T res;
-            try {
-              res = runCheck.apply(check);
-            } catch (RuntimeException ex) {
-              cache.put(check.getName(), createErrorReport.createErrorReport(check, startTime, ex));
-              throw ex;
-            } finally {
-              running.remove(check.getName());
-            }
-            if (res != null) {
-              check.addExecution(currentTimeMillis() - startTime.getTime());
-              cache.put(check.getName(), res);
-            }
-          });
+          work);
+      if (!programmaticChecks.isEmpty()) {
+        progress.startingStage(stageDesc + " (programmatic)", programmaticChecks.size(), SKIP_ITEM);
+        progress.runStage(programmaticChecks.stream(), DataIntegrityCheck::getDescription, work);
+      }
       progress.completedProcess(null);
     } finally {
       running.removeAll(checks);
     }
   }
 
+  /**
+   * Runs a single check and caches its result. When the check is known to only read from plain
+   * tables which have not been modified since the cached result was computed the check is skipped.
+   * Checks which depend on the current time or read from views are never skipped.
+   *
+   * <p>The modification state is taken before the check runs. As the database statistics are
+   * collected asynchronously a change made just before a check is skipped can go unnoticed. Such a
+   * change is picked up by the next run at the latest, and cached results expire after an hour.
+   */
+  private <T> void runDataIntegrityCheck(
+      DataIntegrityCheck check,
+      Cache<T> cache,
+      Map<String, String> modificationStates,
+      Set<String> running,
+      Function<DataIntegrityCheck, T> runCheck,
+      DataIntegrityCheckErrorHandler<T> createErrorReport) {
+    String name = check.getName();
+    Date startTime = new Date();
+    T res;
+    try {
+      String modificationState = dataIntegrityStore.getModificationState(check.getTables());
+      if (modificationState != null
+          && modificationState.equals(modificationStates.get(name))
+          && cache.get(name).isPresent()) {
+        log.debug("Skipping data integrity check {} as its tables are unchanged", name);
+        return;
+      }
+      modificationStates.remove(name);
+      res = runCheck.apply(check);
+      if (res != null && modificationState != null) {
+        modificationStates.put(name, modificationState);
+      }
+    } catch (RuntimeException ex) {
+      cache.put(name, createErrorReport.createErrorReport(check, startTime, ex));
+      throw ex;
+    } finally {
+      running.remove(name);
+    }
+    if (res != null) {
+      long time = currentTimeMillis() - startTime.getTime();
+      log.debug("Data integrity check {} done in {} ms", name, time);
+      check.addExecution(time);
+      cache.put(name, res);
+    }
+  }
+
   private Set<String> expandChecks(Set<String> names, boolean restricted) {
     ensureConfigurationsAreLoaded();
 
@@ -35,6 +35,7 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import java.util.Date;
 import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.hisp.dhis.dataintegrity.DataIntegrityCheck;
 import org.hisp.dhis.dataintegrity.DataIntegrityDetails;
@@ -86,6 +87,28 @@ public class HibernateDataIntegrityStore implements DataIntegrityStore {
             .collect(toUnmodifiableList()));
   }
 
+  @Override
+  @Transactional(readOnly = true)
+  public String getModificationState(Set<String> tables) {
+    if (tables.isEmpty()) {
+      return null;
+    }
+    // views and other relations without own statistics make the state unknown
+    Object state =
+        entityManager
+            .createNativeQuery(
+                "select case when bool_or(c.relkind <> 'r') then null else concat("
+                    + "coalesce(sum(s.n_tup_ins + s.n_tup_upd + s.n_tup_del), 0), ':', "
+                    + "max(greatest(s.last_vacuum, s.last_autovacuum, "
+                    + "s.last_analyze, s.last_autoanalyze))) end "
+                    + "from pg_class c left join pg_stat_user_tables s on s.relid = c.oid "
+                    + "where c.relnamespace = current_schema()::regnamespace "
+                    + "and c.relname in (:tables) and c.relkind in ('r', 'p', 'v', 'm', 'f')")
+            .setParameter("tables", tables)
+            .getSingleResult();
+    return state == null ? null : state.toString();
+  }
+
   private static String getIndex(Object[] row, int index) {
     return row.length <= index ? null : (String) row[index];
   }
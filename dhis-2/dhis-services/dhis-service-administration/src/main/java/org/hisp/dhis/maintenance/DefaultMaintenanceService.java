@@ -43,6 +43,7 @@ import org.hisp.dhis.dataset.CompleteDataSetRegistrationService;
 import org.hisp.dhis.datavalue.DataValueAuditService;
 import org.hisp.dhis.datavalue.DataValueService;
 import org.hisp.dhis.organisationunit.OrganisationUnit;
+import org.hisp.dhis.scheduling.JobProgress;
 import org.hisp.dhis.tracker.export.event.EventChangeLogService;
 import org.hisp.dhis.user.CurrentUserUtil;
 import org.hisp.dhis.user.User;
@@ -87,8 +88,10 @@ public class DefaultMaintenanceService implements MaintenanceService {
   // -------------------------------------------------------------------------
 
   @Override
-  public int deleteZeroDataValues() {
-    int result = maintenanceStore.deleteZeroDataValues();
+  public int deleteZeroDataValues(JobProgress progress) {
+    progress.startingStage("Deleting zero data values");
+    int result = maintenanceStore.deleteZeroDataValues(progress);
+    progress.completedStage("Deleted {} rows", result);
 
     log.info("Deleted zero data values: " + result);
 
@@ -96,8 +99,10 @@ public class DefaultMaintenanceService implements MaintenanceService {
   }
 
   @Override
-  public int deleteSoftDeletedDataValues() {
-    int result = maintenanceStore.deleteSoftDeletedDataValues();
+  public int deleteSoftDeletedDataValues(JobProgress progress) {
+    progress.startingStage("Permanently deleting soft deleted data values");
+    int result = maintenanceStore.deleteSoftDeletedDataValues(progress);
+    progress.completedStage("Deleted {} rows", result);
 
     log.info("Permanently deleted soft deleted data values: " + result);
 
@@ -105,8 +110,10 @@ public class DefaultMaintenanceService implements MaintenanceService {
   }
 
   @Override
-  public int deleteSoftDeletedEvents() {
-    int result = maintenanceStore.deleteSoftDeletedEvents();
+  public int deleteSoftDeletedEvents(JobProgress progress) {
+    progress.startingStage("Permanently deleting soft deleted events");
+    int result = maintenanceStore.deleteSoftDeletedEvents(progress);
+    progress.completedStage("Deleted {} rows", result);
 
     log.info("Permanently deleted soft deleted events: " + result);
 
@@ -123,8 +130,10 @@ public class DefaultMaintenanceService implements MaintenanceService {
   }
 
   @Override
-  public int deleteSoftDeletedEnrollments() {
-    int result = maintenanceStore.deleteSoftDeletedEnrollments();
+  public int deleteSoftDeletedEnrollments(JobProgress progress) {
+    progress.startingStage("Permanently deleting soft deleted enrollments");
+    int result = maintenanceStore.deleteSoftDeletedEnrollments(progress);
+    progress.completedStage("Deleted {} rows", result);
 
     log.info("Permanently deleted soft deleted enrollments: " + result);
 
@@ -29,32 +29,58 @@
  */
 package org.hisp.dhis.maintenance.jdbc;
 
+import static java.lang.System.currentTimeMillis;
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.joining;
+
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntUnaryOperator;
+import javax.annotation.CheckForNull;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.hisp.dhis.artemis.audit.Audit;
 import org.hisp.dhis.artemis.audit.AuditManager;
 import org.hisp.dhis.artemis.audit.AuditableEntity;
 import org.hisp.dhis.audit.AuditScope;
 import org.hisp.dhis.audit.AuditType;
 import org.hisp.dhis.common.SoftDeletableObject;
+import org.hisp.dhis.external.conf.ConfigurationKey;
+import org.hisp.dhis.external.conf.DhisConfigurationProvider;
 import org.hisp.dhis.maintenance.MaintenanceStore;
 import org.hisp.dhis.program.Enrollment;
 import org.hisp.dhis.program.Event;
 import org.hisp.dhis.relationship.Relationship;
+import org.hisp.dhis.scheduling.JobProgress;
 import org.hisp.dhis.trackedentity.TrackedEntity;
+import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.support.rowset.SqlRowSet;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * @author Lars Helge Overland
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class JdbcMaintenanceStore implements MaintenanceStore {
+  /**
+   * Replay lag is null for replicas which are caught up and idle, but also for all replicas if the
+   * user lacks the pg_monitor role, in which case the replay position is null as well.
+   */
+  private static final String REPLICATION_LAG_QUERY =
+      "select count(*) filter (where replay_lag is null and replay_lsn is null) as unknown, "
+          + "coalesce(max(extract(epoch from replay_lag)), 0) as lag from pg_stat_replication";
+
   private static final Map<Class<? extends SoftDeletableObject>, SoftDeletableObject>
       ENTITY_MAPPER =
           Map.of(
@@ -67,43 +93,60 @@ public class JdbcMaintenanceStore implements MaintenanceStore {
 
   private final AuditManager auditManager;
 
+  private final DhisConfigurationProvider config;
+
+  private final TransactionTemplate transactionTemplate;
+
+  private final AtomicBoolean replicationLagUnknownLogged = new AtomicBoolean();
+
   // -------------------------------------------------------------------------
   // MaintenanceStore implementation
   // -------------------------------------------------------------------------
 
   @Override
-  public int deleteZeroDataValues() {
+  public int deleteZeroDataValues(JobProgress progress) {
     String sql =
-        "delete from datavalue dv "
+        "delete from datavalue where ctid = any(array("
+            + "select dv.ctid from datavalue dv "
             + "where dv.dataelementid in ( "
             + "select de.dataelementid "
             + "from dataelement de "
             + "where de.aggregationtype = 'SUM' "
             + "and de.zeroissignificant is false ) "
-            + "and dv.value = '0';";
+            + "and dv.value = '0' limit ?))";
 
-    return jdbcTemplate.update(sql);
+    return deleteInChunks(progress, "zero data values", size -> jdbcTemplate.update(sql, size));
   }
 
   @Override
-  public int deleteSoftDeletedDataValues() {
-    String sql = "delete from datavalue dv " + "where dv.deleted is true;";
+  public int deleteSoftDeletedDataValues(JobProgress progress) {
+    String sql =
+        "delete from datavalue where ctid = any(array("
+            + "select dv.ctid from datavalue dv where dv.deleted is true limit ?))";
 
-    return jdbcTemplate.update(sql);
+    return deleteInChunks(
+        progress, "soft deleted data values", size -> jdbcTemplate.update(sql, size));
   }
 
   @Override
-  public int deleteSoftDeletedEvents() {
-    List<String> deletedEvents =
-        getDeletionEntities("(select uid from event where deleted is true)");
-
-    if (deletedEvents.isEmpty()) {
-      return 0;
-    }
-
-    String eventSelect = "(select eventid from event where deleted is true)";
-
-    return hardDeleteEvents(deletedEvents, eventSelect, "delete from event where deleted is true");
+  public int deleteSoftDeletedEvents(JobProgress progress) {
+    long[] after = {0L};
+    return deleteInChunks(
+        progress,
+        "soft deleted events",
+        size -> {
+          Map<Long, String> events =
+              getDeletionChunk("event", "eventid", "deleted is true", after[0], size);
+          if (events.isEmpty()) {
+            return 0;
+          }
+          after[0] = Collections.max(events.keySet());
+          String eventSelect = toIdList(events.keySet());
+          return hardDeleteEvents(
+              List.copyOf(events.values()),
+              eventSelect,
+              "delete from event where eventid in " + eventSelect);
+        });
   }
 
   @Override
@@ -124,8 +167,7 @@ public class JdbcMaintenanceStore implements MaintenanceStore {
           "delete from programmessage_phonenumbers where programmessagephonenumberid in "
               + pmSelect,
           // delete related events notes
-          "delete from event_notes where eventid in " + eventSelect,
-          "delete from note where noteid not in (select noteid from event_notes union all select noteid from enrollment_notes)",
+          deleteNotes("event_notes", "eventid", eventSelect),
           // delete other objects related to events
           "delete from relationshipitem where eventid in " + eventSelect,
           "delete from trackedentitydatavalueaudit where eventid in " + eventSelect,
@@ -170,16 +212,23 @@ public class JdbcMaintenanceStore implements MaintenanceStore {
   }
 
   @Override
-  public int deleteSoftDeletedEnrollments() {
-    String enrollmentSelect = "(select enrollmentid from enrollment where deleted is true)";
-
-    List<String> deletedEnrollments =
-        getDeletionEntities("select uid from enrollment where deleted is true");
-
-    if (deletedEnrollments.isEmpty()) {
-      return 0;
-    }
+  public int deleteSoftDeletedEnrollments(JobProgress progress) {
+    long[] after = {0L};
+    return deleteInChunks(
+        progress,
+        "soft deleted enrollments",
+        size -> {
+          Map<Long, String> enrollments =
+              getDeletionChunk("enrollment", "enrollmentid", "deleted is true", after[0], size);
+          if (enrollments.isEmpty()) {
+            return 0;
+          }
+          after[0] = Collections.max(enrollments.keySet());
+          return hardDeleteEnrollments(enrollments, toIdList(enrollments.keySet()));
+        });
+  }
 
+  private int hardDeleteEnrollments(Map<Long, String> enrollments, String enrollmentSelect) {
     List<String> associatedEvents =
         getDeletionEntities("select uid from event where enrollmentid in " + enrollmentSelect);
 
@@ -204,9 +253,8 @@ public class JdbcMaintenanceStore implements MaintenanceStore {
           "delete from programmessage_phonenumbers where programmessagephonenumberid in "
               + pmSelect,
           // delete notes linked to both enrollments and events
-          "delete from event_notes where eventid in " + eventSelect,
-          "delete from enrollment_notes where enrollmentid in " + enrollmentSelect,
-          "delete from note where noteid not in (select noteid from event_notes union all select noteid from enrollment_notes)",
+          deleteNotes("event_notes", "eventid", eventSelect),
+          deleteNotes("enrollment_notes", "enrollmentid", enrollmentSelect),
           // delete other entries linked to events
           "delete from relationshipitem where eventid in " + eventSelect,
           "delete from trackedentitydatavalueaudit where eventid in " + eventSelect,
@@ -219,14 +267,14 @@ public class JdbcMaintenanceStore implements MaintenanceStore {
           "delete from programnotificationinstance where enrollmentid in " + enrollmentSelect,
           "delete from event where enrollmentid in " + enrollmentSelect,
           // finally delete the enrollments themselves
-          "delete from enrollment where deleted is true"
+          "delete from enrollment where enrollmentid in " + enrollmentSelect
         };
 
     int result = jdbcTemplate.batchUpdate(sqlStmts)[sqlStmts.length - 1];
 
     if (result > 0) {
       auditHardDeletedEntity(associatedEvents, Event.class);
-      auditHardDeletedEntity(deletedEnrollments, Enrollment.class);
+      auditHardDeletedEntity(List.copyOf(enrollments.values()), Enrollment.class);
     }
 
     return result;
@@ -375,6 +423,155 @@ public class JdbcMaintenanceStore implements MaintenanceStore {
     return deletedUids;
   }
 
+  /**
+   * Deletes rows in chunks of {@link ConfigurationKey#MAINTENANCE_DELETE_CHUNK_SIZE} until a chunk
+   * deletes nothing or the progress is cancelled. Each chunk runs and commits in its own
+   * transaction so locks are held only briefly. A run that is interrupted leaves the remaining rows
+   * in place, a later run continues with them.
+   *
+   * @param progress to report each chunk as work item to
+   * @param name of the rows deleted, used for reporting
+   * @param chunk deletes a chunk of at most the given number of rows and returns the number of rows
+   *     deleted
+   * @return total number of rows deleted
+   */
+  private int deleteInChunks(JobProgress progress, String name, IntUnaryOperator chunk) {
+    int size = Math.max(1, config.getIntProperty(ConfigurationKey.MAINTENANCE_DELETE_CHUNK_SIZE));
+    long start = currentTimeMillis();
+    int total = 0;
+    int deleted = 1;
+    for (int n = 1; deleted > 0 && !progress.isCancelled(); n++) {
+      awaitReplication(progress);
+      progress.startingWorkItem("Deleting chunk {} of {}", n, name);
+      long chunkStart = currentTimeMillis();
+      try {
+        deleted = requireNonNull(transactionTemplate.execute(status -> chunk.applyAsInt(size)));
+      } catch (RuntimeException ex) {
+        progress.failedWorkItem(ex);
+        throw ex;
+      }
+      long chunkMillis = Math.max(1, currentTimeMillis() - chunkStart);
+      total += deleted;
+      progress.completedWorkItem(
+          "Deleted {} rows ({} rows/s)", deleted, deleted * 1000L / chunkMillis);
+      if (deleted > 0) pause(chunkMillis);
+    }
+    log.info(
+        "Deleted {} {} ({} rows/s)",
+        total,
+        name,
+        total * 1000L / Math.max(1, currentTimeMillis() - start));
+    return total;
+  }
+
+  /**
+   * Pauses in proportion to the time the previous chunk took, so that deletions leave room for
+   * other work and back off further when the database is busy.
+   */
+  private void pause(long chunkMillis) {
+    long pauseMillis =
+        chunkMillis
+            * config.getIntProperty(ConfigurationKey.MAINTENANCE_DELETE_PAUSE_PERCENT)
+            / 100;
+    if (pauseMillis > 0) sleep(pauseMillis);
+  }
+
+  /**
+   * Waits while any replica lags behind more than the configured maximum. Deletion continues when
+   * the lag cannot be determined.
+   */
+  private void awaitReplication(JobProgress progress) {
+    int maxLag = config.getIntProperty(ConfigurationKey.MAINTENANCE_DELETE_MAX_REPLICATION_LAG);
+    if (maxLag <= 0) return;
+    Double lag = getReplicationLag();
+    if (lag == null || lag <= maxLag) return;
+    log.info("Replication lag of {}s exceeds {}s, pausing deletion", lag, maxLag);
+    while (lag != null && lag > maxLag && !progress.isCancelled()) {
+      sleep(1000L);
+      lag = getReplicationLag();
+    }
+  }
+
+  /**
+   * @return the maximum replay lag of all replicas in seconds, 0 if there are none, or null if it
+   *     is unknown for any of them
+   */
+  @CheckForNull
+  private Double getReplicationLag() {
+    try {
+      return jdbcTemplate.queryForObject(
+          REPLICATION_LAG_QUERY,
+          (rs, row) -> {
+            long unknown = rs.getLong("unknown");
+            if (unknown > 0) {
+              if (replicationLagUnknownLogged.compareAndSet(false, true)) {
+                log.warn(
+                    "Replication lag of {} replicas is unknown, deletions are not throttled; "
+                        + "grant the pg_monitor role to the database user to enable {}",
+                    unknown,
+                    ConfigurationKey.MAINTENANCE_DELETE_MAX_REPLICATION_LAG.getKey());
+              }
+              return null;
+            }
+            return rs.getDouble("lag");
+          });
+    } catch (DataAccessException ex) {
+      log.debug("Failed to determine replication lag: {}", ex.getMessage());
+      return null;
+    }
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * @return ID and UID of the next chunk of rows matching the filter ordered by ID, starting after
+   *     the given ID
+   */
+  private Map<Long, String> getDeletionChunk(
+      String table, String idColumn, String filter, long after, int size) {
+    Map<Long, String> chunk = new LinkedHashMap<>();
+    jdbcTemplate.query(
+        "select "
+            + idColumn
+            + ", uid from "
+            + table
+            + " where "
+            + filter
+            + " and "
+            + idColumn
+            + " > ? order by "
+            + idColumn
+            + " limit ?",
+        (RowCallbackHandler) rs -> chunk.put(rs.getLong(1), rs.getString(2)),
+        after,
+        size);
+    return chunk;
+  }
+
+  private static String toIdList(Collection<Long> ids) {
+    return ids.stream().map(String::valueOf).collect(joining(",", "(", ")"));
+  }
+
+  /**
+   * Deletes the link rows to the notes of the selected owners together with the notes they link to,
+   * instead of scanning the whole note table for orphans.
+   */
+  private static String deleteNotes(String linkTable, String ownerColumn, String ownerSelect) {
+    return "with deleted as (delete from "
+        + linkTable
+        + " where "
+        + ownerColumn
+        + " in "
+        + ownerSelect
+        + " returning noteid) delete from note where noteid in (select noteid from deleted)";
+  }
+
   private void auditHardDeletedEntity(
       List<String> deletedEntities, Class<? extends SoftDeletableObject> entity) {
     if (deletedEntities == null || deletedEntities.isEmpty()) {
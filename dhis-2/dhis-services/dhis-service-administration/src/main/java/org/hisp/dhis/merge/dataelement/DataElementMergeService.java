@@ -53,6 +53,7 @@ import org.hisp.dhis.merge.dataelement.handler.AnalyticalDataElementMergeHandler
 import org.hisp.dhis.merge.dataelement.handler.DataDataElementMergeHandler;
 import org.hisp.dhis.merge.dataelement.handler.MetadataDataElementMergeHandler;
 import org.hisp.dhis.merge.dataelement.handler.TrackerDataElementMergeHandler;
+import org.hisp.dhis.system.util.Clock;
 import org.springframework.stereotype.Service;
 
 /**
@@ -114,10 +115,15 @@ public class DataElementMergeService implements MergeService {
 
     // merge metadata
     log.info("Handling DataElement reference associations and merges");
+    Clock clock = new Clock(log).startClock();
     dataMergeHandlers.forEach(h -> h.merge(sources, target, request));
+    clock.logTime("Merged DataElement data");
     metadataMergeHandlers.forEach(h -> h.merge(sources, target));
+    clock.logTime("Merged DataElement metadata references");
     commonMergeHandlers.forEach(h -> h.merge(sources, target));
+    clock.logTime("Merged DataElement expression references");
     auditMergeHandlers.forEach(h -> h.merge(sources, request));
+    clock.logTime("Merged DataElement audits");
 
     // a flush is required here to bring Hibernate into a consistent state, due to some of the
     // above merge operations involving required native queries (queries involving JSONB). This
@@ -94,7 +94,7 @@ public class DataDataElementMergeHandler {
       @Nonnull List<DataElement> sources, @Nonnull MergeRequest mergeRequest) {
     if (mergeRequest.isDeleteSources()) {
       log.info("Deleting source data value audit records as source DataElements are being deleted");
-      sources.forEach(dataValueAuditStore::deleteDataValueAudits);
+      dataValueAuditStore.deleteDataValueAudits(sources);
     } else {
       log.info(
           "Leaving source data value audit records as is, source DataElements are not being deleted");
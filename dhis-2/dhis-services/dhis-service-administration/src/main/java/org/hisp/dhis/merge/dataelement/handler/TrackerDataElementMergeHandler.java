@@ -240,7 +240,7 @@ public class TrackerDataElementMergeHandler {
       @Nonnull List<DataElement> sources, @Nonnull MergeRequest mergeRequest) {
     if (mergeRequest.isDeleteSources()) {
       log.info("Deleting source event change log records as source DataElements are being deleted");
-      sources.forEach(eventChangeLogService::deleteEventChangeLog);
+      eventChangeLogService.deleteEventChangeLog(sources);
     } else {
       log.info(
           "Leaving source event change log records as is, source DataElements are not being deleted");
@@ -29,7 +29,7 @@
  */
 package org.hisp.dhis.merge.orgunit;
 
-import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import java.util.Iterator;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -43,6 +43,7 @@ import org.hisp.dhis.merge.orgunit.handler.DataOrgUnitMergeHandler;
 import org.hisp.dhis.merge.orgunit.handler.MetadataOrgUnitMergeHandler;
 import org.hisp.dhis.merge.orgunit.handler.TrackerOrgUnitMergeHandler;
 import org.hisp.dhis.organisationunit.OrganisationUnit;
+import org.hisp.dhis.system.util.Clock;
 import org.hisp.dhis.util.ObjectUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -59,7 +60,7 @@ public class DefaultOrgUnitMergeService implements OrgUnitMergeService {
 
   private final IdentifiableObjectManager idObjectManager;
 
-  private final ImmutableList<OrgUnitMergeHandler> handlers;
+  private final ImmutableMap<String, OrgUnitMergeHandler> handlers;
 
   public DefaultOrgUnitMergeService(
       OrgUnitMergeValidator validator,
@@ -81,7 +82,13 @@ public class DefaultOrgUnitMergeService implements OrgUnitMergeService {
 
     validator.validate(request);
 
-    handlers.forEach(handler -> handler.merge(request));
+    Clock clock = new Clock(log).startClock();
+
+    handlers.forEach(
+        (name, handler) -> {
+          handler.merge(request);
+          clock.logTime("Merged {}", name);
+        });
 
     // Persistence framework will inspect and update associated objects
 
@@ -112,31 +119,31 @@ public class DefaultOrgUnitMergeService implements OrgUnitMergeService {
   // Private methods
   // -------------------------------------------------------------------------
 
-  private ImmutableList<OrgUnitMergeHandler> getMergeHandlers(
+  private ImmutableMap<String, OrgUnitMergeHandler> getMergeHandlers(
       MetadataOrgUnitMergeHandler metadataHandler,
       AnalyticalObjectOrgUnitMergeHandler analyticalObjectHandler,
       DataOrgUnitMergeHandler dataHandler,
       TrackerOrgUnitMergeHandler trackerHandler) {
-    return ImmutableList.<OrgUnitMergeHandler>builder()
-        .add((r) -> metadataHandler.mergeDataSets(r))
-        .add((r) -> metadataHandler.mergePrograms(r))
-        .add((r) -> metadataHandler.mergeOrgUnitGroups(r))
-        .add((r) -> metadataHandler.mergeCategoryOptions(r))
-        .add((r) -> metadataHandler.mergeOrganisationUnits(r))
-        .add((r) -> metadataHandler.mergeUsers(r))
-        .add((r) -> metadataHandler.mergeConfiguration(r))
-        .add((r) -> analyticalObjectHandler.mergeAnalyticalObjects(r))
-        .add((r) -> dataHandler.mergeDataValueAudits(r))
-        .add((r) -> dataHandler.mergeDataValues(r))
-        .add((r) -> dataHandler.mergeDataApprovalAudits(r))
-        .add((r) -> dataHandler.mergeDataApprovals(r))
-        .add((r) -> dataHandler.mergeLockExceptions(r))
-        .add((r) -> dataHandler.mergeValidationResults(r))
-        .add((r) -> dataHandler.mergeMinMaxDataElements(r))
-        .add((r) -> dataHandler.mergeInterpretations(r))
-        .add((r) -> trackerHandler.mergeProgramMessages(r))
-        .add((r) -> trackerHandler.mergeEnrollments(r))
-        .add((r) -> trackerHandler.mergeTrackedEntities(r))
+    return ImmutableMap.<String, OrgUnitMergeHandler>builder()
+        .put("data sets", metadataHandler::mergeDataSets)
+        .put("programs", metadataHandler::mergePrograms)
+        .put("org unit groups", metadataHandler::mergeOrgUnitGroups)
+        .put("category options", metadataHandler::mergeCategoryOptions)
+        .put("organisation units", metadataHandler::mergeOrganisationUnits)
+        .put("users", metadataHandler::mergeUsers)
+        .put("configuration", metadataHandler::mergeConfiguration)
+        .put("analytical objects", analyticalObjectHandler::mergeAnalyticalObjects)
+        .put("data value audits", dataHandler::mergeDataValueAudits)
+        .put("data values", dataHandler::mergeDataValues)
+        .put("data approval audits", dataHandler::mergeDataApprovalAudits)
+        .put("data approvals", dataHandler::mergeDataApprovals)
+        .put("lock exceptions", dataHandler::mergeLockExceptions)
+        .put("validation results", dataHandler::mergeValidationResults)
+        .put("min-max data elements", dataHandler::mergeMinMaxDataElements)
+        .put("interpretations", dataHandler::mergeInterpretations)
+        .put("program messages", trackerHandler::mergeProgramMessages)
+        .put("enrollments", trackerHandler::mergeEnrollments)
+        .put("tracked entities", trackerHandler::mergeTrackedEntities)
         .build();
   }
 
@@ -34,12 +34,8 @@ import static org.hisp.dhis.common.IdentifiableObjectUtils.getIdentifiers;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.hisp.dhis.common.IdentifiableObjectUtils;
-import org.hisp.dhis.dataapproval.DataApprovalAuditService;
-import org.hisp.dhis.dataset.DataSetService;
-import org.hisp.dhis.datavalue.DataValueAuditService;
 import org.hisp.dhis.merge.DataMergeStrategy;
 import org.hisp.dhis.merge.orgunit.OrgUnitMergeRequest;
-import org.hisp.dhis.minmax.MinMaxDataElementService;
 import org.hisp.dhis.validation.ValidationResultService;
 import org.hisp.dhis.validation.ValidationResultsDeletionRequest;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
@@ -61,18 +57,10 @@ public class DataOrgUnitMergeHandler {
 
   private final NamedParameterJdbcTemplate jdbcTemplate;
 
-  private final DataValueAuditService dataValueAuditService;
-
-  private final DataSetService dataSetService;
-
-  private final DataApprovalAuditService dataApprovalAuditService;
-
   private final ValidationResultService validationResultService;
 
-  private final MinMaxDataElementService minMaxDataElementService;
-
   public void mergeDataValueAudits(OrgUnitMergeRequest request) {
-    request.getSources().forEach(ou -> dataValueAuditService.deleteDataValueAudits(ou));
+    delete("delete from DataValueAudit d where d.organisationUnit.id in (:sources)", request);
   }
 
   @Transactional
@@ -126,7 +114,7 @@ public class DataOrgUnitMergeHandler {
   }
 
   public void mergeDataApprovalAudits(OrgUnitMergeRequest request) {
-    request.getSources().forEach(ou -> dataApprovalAuditService.deleteDataApprovalAudits(ou));
+    delete("delete from DataApprovalAudit d where d.organisationUnit.id in (:sources)", request);
   }
 
   @Transactional
@@ -179,7 +167,7 @@ public class DataOrgUnitMergeHandler {
   }
 
   public void mergeLockExceptions(OrgUnitMergeRequest request) {
-    request.getSources().forEach(ou -> dataSetService.deleteLockExceptions(ou));
+    delete("delete from LockException l where l.organisationUnit.id in (:sources)", request);
   }
 
   public void mergeValidationResults(OrgUnitMergeRequest request) {
@@ -190,7 +178,7 @@ public class DataOrgUnitMergeHandler {
   }
 
   public void mergeMinMaxDataElements(OrgUnitMergeRequest request) {
-    request.getSources().forEach(ou -> minMaxDataElementService.removeMinMaxDataElements(ou));
+    delete("delete from MinMaxDataElement m where m.source.id in (:sources)", request);
   }
 
   @Transactional
@@ -209,4 +197,15 @@ public class DataOrgUnitMergeHandler {
         .setParameter("sources", IdentifiableObjectUtils.getIdentifiers(request.getSources()))
         .executeUpdate();
   }
+
+  /**
+   * Deletes the objects referencing any of the sources with a single statement rather than one
+   * statement per source org unit.
+   */
+  private void delete(String hql, OrgUnitMergeRequest request) {
+    entityManager
+        .createQuery(hql)
+        .setParameter("sources", IdentifiableObjectUtils.getIdentifiers(request.getSources()))
+        .executeUpdate();
+  }
 }
@@ -46,6 +46,8 @@ import static org.hisp.dhis.test.utils.Assertions.assertContainsOnly;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.ArgumentMatchers.eq;
@@ -58,8 +60,10 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -75,6 +79,8 @@ import org.hisp.dhis.dataintegrity.DataIntegrityDetails.DataIntegrityIssue;
 import org.hisp.dhis.dataset.DataSet;
 import org.hisp.dhis.dataset.DataSetService;
 import org.hisp.dhis.expression.ExpressionService;
+import org.hisp.dhis.external.conf.ConfigurationKey;
+import org.hisp.dhis.external.conf.DhisConfigurationProvider;
 import org.hisp.dhis.external.location.DefaultLocationManager;
 import org.hisp.dhis.i18n.I18n;
 import org.hisp.dhis.i18n.I18nManager;
@@ -98,12 +104,16 @@ import org.hisp.dhis.programrule.ProgramRuleActionService;
 import org.hisp.dhis.programrule.ProgramRuleService;
 import org.hisp.dhis.programrule.ProgramRuleVariable;
 import org.hisp.dhis.programrule.ProgramRuleVariableService;
+import org.hisp.dhis.scheduling.JobProgress;
 import org.hisp.dhis.schema.SchemaService;
+import org.hisp.dhis.test.cache.TestCache;
 import org.hisp.dhis.test.random.BeanRandomizer;
 import org.hisp.dhis.validation.ValidationRuleService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -159,6 +169,10 @@ class DataIntegrityServiceTest {
 
   @Mock private ProgramRuleActionService programRuleActionService;
 
+  @Mock private DhisConfigurationProvider config;
+
+  @Captor private ArgumentCaptor<Set<String>> tablesCaptor;
+
   @InjectMocks private DefaultDataIntegrityService subject;
 
   private DataElementGroup elementGroupA;
@@ -528,6 +542,55 @@ class DataIntegrityServiceTest {
     assertFalse(dataIntegrityChecks.isEmpty());
   }
 
+  @Test
+  void testRunSummaryChecks_SkipWhenTablesUnchanged() {
+    setUpSummaryChecks();
+    when(dataIntegrityStore.getModificationState(any())).thenReturn("10:", "10:", "11:");
+
+    subject.runSummaryChecks(Set.of("options_sets_empty"), JobProgress.noop());
+    DataIntegritySummary summary =
+        subject.getSummaries(Set.of("options_sets_empty"), 0).get("options_sets_empty");
+    subject.runSummaryChecks(Set.of("options_sets_empty"), JobProgress.noop());
+
+    verify(dataIntegrityStore, times(1)).querySummary(any(), anyString());
+    assertSame(
+        summary, subject.getSummaries(Set.of("options_sets_empty"), 0).get("options_sets_empty"));
+
+    subject.runSummaryChecks(Set.of("options_sets_empty"), JobProgress.noop());
+
+    verify(dataIntegrityStore, times(2)).querySummary(any(), anyString());
+    assertNotSame(
+        summary, subject.getSummaries(Set.of("options_sets_empty"), 0).get("options_sets_empty"));
+
+    verify(dataIntegrityStore, times(3)).getModificationState(tablesCaptor.capture());
+    assertTrue(tablesCaptor.getValue().containsAll(Set.of("optionset", "optionvalue")));
+  }
+
+  @Test
+  void testRunSummaryChecks_RunWhenModificationStateUnknown() {
+    setUpSummaryChecks();
+    when(dataIntegrityStore.getModificationState(any())).thenReturn(null);
+
+    subject.runSummaryChecks(Set.of("options_sets_empty"), JobProgress.noop());
+    subject.runSummaryChecks(Set.of("options_sets_empty"), JobProgress.noop());
+
+    verify(dataIntegrityStore, times(2)).querySummary(any(), anyString());
+  }
+
+  private void setUpSummaryChecks() {
+    when(i18nManager.getI18n(DataIntegrityService.class)).thenReturn(i18n);
+    when(i18n.getString(anyString(), anyString())).thenReturn("default");
+    when(i18n.getString(contains("severity"), eq("WARNING"))).thenReturn("WARNING");
+    when(config.getIntProperty(ConfigurationKey.SYSTEM_DATA_INTEGRITY_PARALLELISM)).thenReturn(1);
+    when(cacheProvider.createDataIntegritySummaryCache()).thenReturn(new TestCache<>());
+    when(dataIntegrityStore.querySummary(any(), anyString()))
+        .thenAnswer(
+            invocation ->
+                new DataIntegritySummary(
+                    invocation.getArgument(0), new Date(), new Date(), null, 0, null));
+    subject.init();
+  }
+
   private Map<String, DataElement> createRandomDataElements(int quantity, String uidSeed) {
 
     return IntStream.range(1, quantity + 1)
@@ -103,6 +103,7 @@ class DataIntegrityYamlReaderTest {
             + " should be added to the category.",
         check.getRecommendation());
     assertFalse(check.isSlow());
+    assertTrue(check.getTables().containsAll(Set.of("category", "categories_categoryoptions")));
     assertTrue(
         check
             .getRunDetailsCheck()
@@ -111,6 +112,14 @@ class DataIntegrityYamlReaderTest {
             .get(0)
             .getComment()
             .startsWith("SELECT uid,name from category"));
+
+    // Checks depending on the current time cannot be skipped based on table modifications
+    DataIntegrityCheck timeDependent =
+        checks.stream()
+            .filter(c -> c.getName().equals("periods_3y_future"))
+            .findFirst()
+            .orElseThrow();
+    assertTrue(timeDependent.getTables().isEmpty());
   }
 
   @Test
@@ -37,6 +37,7 @@ import static org.hisp.dhis.analytics.analyze.RequestExecutionPlanStore.Executio
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -75,7 +76,12 @@ public class RequestExecutionPlanStore implements ExecutionPlanStore {
   public RequestExecutionPlanStore(
       @Qualifier("executionPlanJdbcTemplate") JdbcTemplate jdbcTemplate) {
     this.jdbcTemplate = jdbcTemplate;
-    this.executorService = Executors.newScheduledThreadPool(10);
+    this.executorService =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder()
+                .setNameFormat("EXECUTION-PLAN-EXPIRY")
+                .setDaemon(true)
+                .build());
     this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
   }
 
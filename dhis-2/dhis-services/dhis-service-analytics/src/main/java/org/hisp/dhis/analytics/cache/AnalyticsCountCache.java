@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2004-2022, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.analytics.cache;
+
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.hisp.dhis.cache.Cache;
+import org.hisp.dhis.cache.CacheProvider;
+import org.hisp.dhis.commons.util.SystemUtils;
+import org.hisp.dhis.system.executor.ExecutorRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * Computes the total number of rows of paged analytics queries concurrently with the page query and
+ * caches the counts, so that paging through a result does not count it again for every page. The
+ * cache is shared by all nodes when a distributed cache is used, so that paging is consistent when
+ * requests are balanced across nodes and counts are cleared everywhere after table generation.
+ */
+@Slf4j
+@Component
+public class AnalyticsCountCache {
+  private final AnalyticsCacheSettings analyticsCacheSettings;
+
+  private final Cache<Long> countCache;
+
+  private final Executor executor;
+
+  public AnalyticsCountCache(
+      CacheProvider cacheProvider,
+      AnalyticsCacheSettings analyticsCacheSettings,
+      ExecutorRegistry executorRegistry) {
+    this.analyticsCacheSettings = analyticsCacheSettings;
+    this.countCache = cacheProvider.createAnalyticsCountCache();
+    int threads = SystemUtils.getCpuCores();
+    this.executor = executorRegistry.getExecutor("ANALYTICS-COUNT", threads, threads * 10);
+  }
+
+  /**
+   * Starts counting on a separate thread unless a count for the given key is cached. The returned
+   * supplier blocks until the count is available and rethrows any exception of the counter.
+   *
+   * @param key the cache key of the query, which must not depend on paging.
+   * @param counter the function running the count query.
+   * @return supplier of the count.
+   */
+  public LongSupplier getOrCountAsync(String key, LongSupplier counter) {
+    boolean enabled = isEnabled();
+    Optional<Long> cached = enabled ? countCache.get(key) : Optional.empty();
+
+    if (cached.isPresent()) {
+      long count = cached.get();
+      return () -> count;
+    }
+
+    CompletableFuture<Long> count =
+        supplyAsync(
+            () -> {
+              long value = counter.getAsLong();
+              if (enabled) {
+                countCache.put(key, value);
+              }
+              return value;
+            },
+            executor);
+
+    return () -> {
+      try {
+        return count.join();
+      } catch (CompletionException ex) {
+        throw ex.getCause() instanceof RuntimeException cause ? cause : ex;
+      }
+    };
+  }
+
+  /** Clears the current cache by removing all existing entries. */
+  public void invalidateAll() {
+    countCache.invalidateAll();
+
+    log.info("Analytics count cache cleared");
+  }
+
+  public boolean isEnabled() {
+    return analyticsCacheSettings.isCachingEnabled();
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2004-2022, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.analytics.cache;
+
+import static java.util.stream.Collectors.joining;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.hisp.dhis.analytics.QueryKey;
+import org.hisp.dhis.analytics.event.EventQueryParams;
+import org.hisp.dhis.cache.Cache;
+import org.hisp.dhis.cache.CacheProvider;
+import org.hisp.dhis.common.Grid;
+import org.hisp.dhis.organisationunit.OrganisationUnit;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the aggregated rows of planned program indicator queries, so that a program indicator
+ * requested by many dashboard items or in different combinations with other data items is computed
+ * only once per analytics table generation. Entries are removed when the analytics tables are
+ * regenerated, which clears the shared cache for all nodes when a distributed cache is used.
+ */
+@Slf4j
+@Component
+public class ProgramIndicatorCache {
+  private final AnalyticsCacheSettings analyticsCacheSettings;
+
+  private final Cache<List<List<Object>>> rowCache;
+
+  public ProgramIndicatorCache(
+      CacheProvider cacheProvider, AnalyticsCacheSettings analyticsCacheSettings) {
+    this.analyticsCacheSettings = analyticsCacheSettings;
+    this.rowCache = cacheProvider.createAnalyticsProgramIndicatorCache();
+  }
+
+  /**
+   * Adds the rows of the given planned query to the grid. Rows of program indicator queries are
+   * taken from the cache if present, otherwise they are fetched and cached.
+   *
+   * @param query the planned {@link EventQueryParams}.
+   * @param grid the {@link Grid} to add rows to.
+   * @param fetcher the function adding the rows of the query to a grid.
+   */
+  public void addRows(EventQueryParams query, Grid grid, Consumer<Grid> fetcher) {
+    if (!isEnabled() || !query.hasProgramIndicatorDimension() || query.analyzeOnly()) {
+      fetcher.accept(grid);
+      return;
+    }
+
+    String key = getKey(query);
+    Optional<List<List<Object>>> cached = rowCache.get(key);
+
+    if (cached.isPresent()) {
+      cached.get().forEach(row -> grid.addRow().addValuesAsList(row));
+      return;
+    }
+
+    int height = grid.getHeight();
+    fetcher.accept(grid);
+
+    List<List<Object>> rows = new ArrayList<>();
+    for (List<Object> row : grid.getRows().subList(height, grid.getHeight())) {
+      rows.add(new ArrayList<>(row));
+    }
+    rowCache.put(key, rows);
+  }
+
+  /**
+   * The key of the query does not cover the table and partitions the query was planned for and the
+   * org units of the user, which all affect the rows.
+   */
+  private static String getKey(EventQueryParams query) {
+    return new QueryKey()
+        .add("query", query.getKey())
+        .addIgnoreNull("tableName", query.getTableName())
+        .addIgnoreNull("partitions", query.getPartitions())
+        .addIgnoreNull("userOrgUnitType", query.getUserOrgUnitType())
+        .addIgnoreNull(
+            "userOrgUnits",
+            query.getUserOrgUnits(),
+            () ->
+                query.getUserOrgUnits().stream()
+                    .map(OrganisationUnit::getUid)
+                    .sorted()
+                    .collect(joining(",")))
+        .build();
+  }
+
+  /** Clears the current cache by removing all existing entries. */
+  public void invalidateAll() {
+    rowCache.invalidateAll();
+
+    log.info("Program indicator cache cleared");
+  }
+
+  public boolean isEnabled() {
+    return analyticsCacheSettings.isCachingEnabled();
+  }
+}
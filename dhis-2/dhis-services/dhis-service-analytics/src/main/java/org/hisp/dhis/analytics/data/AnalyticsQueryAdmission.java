@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2004-2022, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.analytics.data;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static org.hisp.dhis.external.conf.ConfigurationKey.ANALYTICS_ADMISSION_MAX_COST;
+import static org.hisp.dhis.external.conf.ConfigurationKey.ANALYTICS_ADMISSION_MAX_USER_COST;
+import static org.hisp.dhis.external.conf.ConfigurationKey.ANALYTICS_ADMISSION_MAX_WAIT;
+
+import com.google.common.collect.MapMaker;
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.CheckForNull;
+import lombok.extern.slf4j.Slf4j;
+import org.hisp.dhis.analytics.DataQueryParams;
+import org.hisp.dhis.common.QueryRejectedException;
+import org.hisp.dhis.external.conf.DhisConfigurationProvider;
+import org.hisp.dhis.feedback.ErrorCode;
+import org.hisp.dhis.monitoring.metrics.ApplicationMetrics;
+import org.hisp.dhis.organisationunit.OrganisationUnit;
+import org.hisp.dhis.user.CurrentUserUtil;
+import org.springframework.stereotype.Component;
+
+/**
+ * Limits the analytics queries running at the same time, both for the whole system and for each
+ * user, so that a few heavy dashboards cannot exhaust the database.
+ *
+ * <p>Each query is given a cost from 1 to {@link #MAX_QUERY_COST} estimated from its partitions,
+ * periods, organisation units and data items. Queries wait in a fair queue until their cost fits
+ * into the budgets. A query which waited longer than the configured time is rejected with a {@link
+ * QueryRejectedException}.
+ */
+@Slf4j
+@Component
+public class AnalyticsQueryAdmission {
+  static final int MAX_QUERY_COST = 8;
+
+  private static final String WAIT_METRIC = "analytics.admission.wait";
+
+  private static final Admission UNLIMITED = () -> {};
+
+  private final int maxCost;
+
+  private final int maxUserCost;
+
+  private final long maxWaitMillis;
+
+  @CheckForNull private final Semaphore globalBudget;
+
+  /**
+   * Budget of each user by username. Values are weak, as a budget is only needed while an admission
+   * of the user is waiting or held, and then it is referenced by that admission.
+   */
+  @CheckForNull private final ConcurrentMap<String, Semaphore> userBudgets;
+
+  private final ApplicationMetrics metrics;
+
+  public AnalyticsQueryAdmission(DhisConfigurationProvider config, ApplicationMetrics metrics) {
+    this.maxCost = config.getIntProperty(ANALYTICS_ADMISSION_MAX_COST);
+    this.maxUserCost = config.getIntProperty(ANALYTICS_ADMISSION_MAX_USER_COST);
+    this.maxWaitMillis =
+        TimeUnit.SECONDS.toMillis(config.getIntProperty(ANALYTICS_ADMISSION_MAX_WAIT));
+    this.globalBudget = maxCost > 0 ? new Semaphore(maxCost, true) : null;
+    this.userBudgets = maxUserCost > 0 ? new MapMaker().weakValues().makeMap() : null;
+    this.metrics = metrics;
+  }
+
+  /**
+   * Waits until the given queries, which run concurrently, fit into the budgets of the system and
+   * of the current user. The returned admission must be closed when the queries are done.
+   *
+   * @param queries the queries to run.
+   * @return the admission of the queries.
+   * @throws QueryRejectedException if the queries did not fit into the budgets in time.
+   */
+  public Admission admit(List<DataQueryParams> queries) {
+    if (globalBudget == null && userBudgets == null) {
+      return UNLIMITED;
+    }
+
+    int cost = queries.stream().mapToInt(AnalyticsQueryAdmission::estimateCost).sum();
+    long deadline = System.currentTimeMillis() + maxWaitMillis;
+    ApplicationMetrics.Sample wait = metrics.start();
+
+    Semaphore userBudget = getUserBudget();
+    int userCost = min(cost, maxUserCost);
+
+    if (userBudget != null && !tryAcquire(userBudget, userCost, deadline)) {
+      wait.stop(WAIT_METRIC, "result", "rejected");
+      log.info("Rejected analytics query of cost {} due to user limit", cost);
+      throw new QueryRejectedException(ErrorCode.E7151, true);
+    }
+
+    int globalCost = min(cost, maxCost);
+
+    if (globalBudget != null && !tryAcquire(globalBudget, globalCost, deadline)) {
+      if (userBudget != null) {
+        userBudget.release(userCost);
+      }
+      wait.stop(WAIT_METRIC, "result", "rejected");
+      log.info("Rejected analytics query of cost {} due to system limit", cost);
+      throw new QueryRejectedException(ErrorCode.E7152, false);
+    }
+
+    wait.stop(WAIT_METRIC, "result", "admitted");
+
+    return () -> {
+      if (globalBudget != null) {
+        globalBudget.release(globalCost);
+      }
+      if (userBudget != null) {
+        userBudget.release(userCost);
+      }
+    };
+  }
+
+  /**
+   * Estimates the cost of the given query, from 1 to {@link #MAX_QUERY_COST}. Each two additional
+   * yearly partitions, each order of magnitude of requested values and organisation units in the
+   * upper two levels of the hierarchy add to the cost.
+   *
+   * @param params the {@link DataQueryParams}.
+   * @return the cost.
+   */
+  static int estimateCost(DataQueryParams params) {
+    int partitions = params.hasPartitions() ? params.getPartitions().getPartitions().size() : 1;
+    long values =
+        (long) max(1, params.getAllPeriods().size())
+            * max(1, params.getAllOrganisationUnits().size())
+            * max(1, params.getAllDataDimensionItems().size());
+    boolean upperLevels =
+        params.getAllOrganisationUnits().stream()
+            .anyMatch(ou -> ou instanceof OrganisationUnit unit && unit.getLevel() <= 2);
+
+    int cost = 1 + (partitions - 1) / 2 + (int) Math.log10(values) + (upperLevels ? 1 : 0);
+    return min(max(cost, 1), MAX_QUERY_COST);
+  }
+
+  @CheckForNull
+  private Semaphore getUserBudget() {
+    if (userBudgets == null || !CurrentUserUtil.hasCurrentUser()) {
+      return null;
+    }
+    return userBudgets.computeIfAbsent(
+        CurrentUserUtil.getCurrentUsername(), username -> new Semaphore(maxUserCost, true));
+  }
+
+  private static boolean tryAcquire(Semaphore budget, int permits, long deadline) {
+    try {
+      long timeout = max(0, deadline - System.currentTimeMillis());
+      return budget.tryAcquire(permits, timeout, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  /** The permission to run queries, which releases the used budget when closed. */
+  @FunctionalInterface
+  public interface Admission extends AutoCloseable {
+    @Override
+    void close();
+  }
+}
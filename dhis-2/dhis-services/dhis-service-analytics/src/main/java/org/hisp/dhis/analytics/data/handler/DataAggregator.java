@@ -29,6 +29,8 @@
  */
 package org.hisp.dhis.analytics.data.handler;
 
+import static org.hisp.dhis.analytics.AnalyticsConstants.ANALYTICS_QUERY_METRIC;
+import static org.hisp.dhis.analytics.AnalyticsTableType.DATA_VALUE;
 import static org.hisp.dhis.analytics.DataQueryParams.DX_INDEX;
 import static org.hisp.dhis.analytics.DataQueryParams.VALUE_ID;
 import static org.hisp.dhis.analytics.DataQueryParams.newBuilder;
@@ -42,6 +44,7 @@ import lombok.RequiredArgsConstructor;
 import org.hisp.dhis.analytics.DataQueryParams;
 import org.hisp.dhis.common.DimensionalObject;
 import org.hisp.dhis.common.Grid;
+import org.hisp.dhis.monitoring.metrics.ApplicationMetrics;
 import org.hisp.dhis.system.grid.ListGrid;
 import org.springframework.stereotype.Component;
 
@@ -58,6 +61,8 @@ public class DataAggregator {
 
   private final DataHandler dataHandler;
 
+  private final ApplicationMetrics metrics;
+
   /**
    * Returns a grid with aggregated data.
    *
@@ -103,6 +108,8 @@ public class DataAggregator {
     // Meta-data
     // ---------------------------------------------------------------------
 
+    ApplicationMetrics.Sample postProcessing = metrics.start();
+
     metaDataHandler.addMetaData(params, grid);
 
     metaDataHandler.handleDataValueSet(params, grid);
@@ -111,6 +118,9 @@ public class DataAggregator {
 
     postHandleGrid(params, grid);
 
+    postProcessing.stop(
+        ANALYTICS_QUERY_METRIC, "phase", "postprocess", "tableType", DATA_VALUE.name());
+
     return grid;
   }
 
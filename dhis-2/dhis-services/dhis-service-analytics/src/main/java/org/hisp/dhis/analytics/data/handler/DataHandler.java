@@ -39,6 +39,7 @@ import static org.apache.commons.lang3.ArrayUtils.remove;
 import static org.apache.commons.lang3.StringUtils.join;
 import static org.hisp.dhis.analytics.AnalyticsAggregationType.COUNT;
 import static org.hisp.dhis.analytics.AnalyticsAggregationType.SUM;
+import static org.hisp.dhis.analytics.AnalyticsConstants.ANALYTICS_QUERY_METRIC;
 import static org.hisp.dhis.analytics.AnalyticsTableType.COMPLETENESS;
 import static org.hisp.dhis.analytics.AnalyticsTableType.COMPLETENESS_TARGET;
 import static org.hisp.dhis.analytics.AnalyticsTableType.DATA_VALUE;
@@ -115,6 +116,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -132,6 +135,8 @@ import org.hisp.dhis.analytics.QueryPlanner;
 import org.hisp.dhis.analytics.QueryPlannerParams;
 import org.hisp.dhis.analytics.RawAnalyticsManager;
 import org.hisp.dhis.analytics.analyze.ExecutionPlanStore;
+import org.hisp.dhis.analytics.data.AnalyticsQueryAdmission;
+import org.hisp.dhis.analytics.data.AnalyticsQueryAdmission.Admission;
 import org.hisp.dhis.analytics.event.EventQueryParams;
 import org.hisp.dhis.analytics.event.data.EventAggregateService;
 import org.hisp.dhis.analytics.resolver.ExpressionResolver;
@@ -153,6 +158,7 @@ import org.hisp.dhis.expression.ExpressionService;
 import org.hisp.dhis.expressiondimensionitem.ExpressionDimensionItem;
 import org.hisp.dhis.indicator.Indicator;
 import org.hisp.dhis.indicator.IndicatorValue;
+import org.hisp.dhis.monitoring.metrics.ApplicationMetrics;
 import org.hisp.dhis.organisationunit.OrganisationUnit;
 import org.hisp.dhis.organisationunit.OrganisationUnitGroup;
 import org.hisp.dhis.organisationunit.OrganisationUnitService;
@@ -195,6 +201,10 @@ public class DataHandler {
 
   private final ExecutionPlanStore executionPlanStore;
 
+  private final ApplicationMetrics metrics;
+
+  private final AnalyticsQueryAdmission queryAdmission;
+
   /**
    * Adds performance metrics.
    *
@@ -1461,7 +1471,14 @@ public class DataHandler {
             .withQueryGroupers(queryGroupers)
             .build();
 
-    DataQueryGroups queryGroups = queryPlanner.planQuery(params, plannerParams);
+    DataQueryGroups queryGroups =
+        metrics.time(
+            ANALYTICS_QUERY_METRIC,
+            () -> queryPlanner.planQuery(params, plannerParams),
+            "phase",
+            "plan",
+            "tableType",
+            tableType.name());
 
     timer.getSplitTime(
         "Planned analytics query, got: {} for optimal: {}",
@@ -1470,9 +1487,17 @@ public class DataHandler {
 
     Map<String, Object> map = new HashMap<>();
 
-    for (List<DataQueryParams> queries : queryGroups.getSequentialQueries()) {
-      executeQueries(tableType, maxLimit, map, queries);
-    }
+    metrics.time(
+        ANALYTICS_QUERY_METRIC,
+        () -> {
+          for (List<DataQueryParams> queries : queryGroups.getSequentialQueries()) {
+            executeQueries(tableType, maxLimit, map, queries);
+          }
+        },
+        "phase",
+        "sql",
+        "tableType",
+        tableType.name());
 
     timer.getTime("Got analytics values");
 
@@ -1480,7 +1505,9 @@ public class DataHandler {
   }
 
   /**
-   * Executes the given list of queries in parallel.
+   * Executes the given list of queries in parallel, once admitted by the {@link
+   * AnalyticsQueryAdmission}. If a query fails, the admission is only released once the other
+   * queries are done, as they keep using the database.
    *
    * @param tableType the {@link AnalyticsTableType}.
    * @param maxLimit the max limit of records to retrieve.
@@ -1494,31 +1521,62 @@ public class DataHandler {
       List<DataQueryParams> queries) {
     List<Future<Map<String, Object>>> futures = new ArrayList<>();
 
-    for (DataQueryParams query : queries) {
-      futures.add(analyticsManager.getAggregatedDataValues(query, tableType, maxLimit));
-    }
+    try (Admission admission = queryAdmission.admit(queries)) {
+      boolean completed = false;
 
-    for (Future<Map<String, Object>> future : futures) {
       try {
-        Map<String, Object> taskValues = future.get();
+        for (DataQueryParams query : queries) {
+          futures.add(analyticsManager.getAggregatedDataValues(query, tableType, maxLimit));
+        }
 
-        if (taskValues != null) {
-          map.putAll(taskValues);
+        for (Future<Map<String, Object>> future : futures) {
+          try {
+            Map<String, Object> taskValues = future.get();
+
+            if (taskValues != null) {
+              map.putAll(taskValues);
+            }
+          } catch (Exception ex) {
+            log.error(getStackTrace(ex));
+            log.error(getStackTrace(ex.getCause()));
+
+            if (ex.getCause() instanceof RuntimeException) {
+              // Throw the real exception
+              throw (RuntimeException) ex.getCause();
+            } else {
+              throw new RuntimeException("Error during execution of aggregation query task", ex);
+            }
+          }
         }
-      } catch (Exception ex) {
-        log.error(getStackTrace(ex));
-        log.error(getStackTrace(ex.getCause()));
-
-        if (ex.getCause() instanceof RuntimeException) {
-          // Throw the real exception
-          throw (RuntimeException) ex.getCause();
-        } else {
-          throw new RuntimeException("Error during execution of aggregation query task", ex);
+
+        completed = true;
+      } finally {
+        if (!completed) {
+          awaitCompletion(futures);
         }
       }
     }
   }
 
+  /**
+   * Waits until the given futures are done, ignoring their results. Queries which already run
+   * cannot be cancelled, as the database driver does not react to interruption.
+   *
+   * @param futures the list of {@link Future}.
+   */
+  private void awaitCompletion(List<Future<Map<String, Object>>> futures) {
+    for (Future<Map<String, Object>> future : futures) {
+      try {
+        future.get();
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (ExecutionException | CancellationException ex) {
+        log.debug("Ignoring outcome of analytics query task after failure", ex);
+      }
+    }
+  }
+
   /**
    * Gets the number of available cores. Uses explicit number from system setting if available.
    * Detects number of cores from current server runtime if not.
@@ -29,6 +29,7 @@
  */
 package org.hisp.dhis.analytics.event.data;
 
+import static org.hisp.dhis.analytics.AnalyticsConstants.ANALYTICS_QUERY_METRIC;
 import static org.hisp.dhis.analytics.common.ColumnHeader.*;
 import static org.hisp.dhis.analytics.event.LabelMapper.getEnrollmentDateLabel;
 import static org.hisp.dhis.analytics.event.LabelMapper.getEnrollmentLabel;
@@ -45,8 +46,11 @@ import static org.hisp.dhis.common.ValueType.NUMBER;
 import static org.hisp.dhis.common.ValueType.TEXT;
 
 import java.util.List;
+import java.util.function.LongSupplier;
 import lombok.RequiredArgsConstructor;
 import org.hisp.dhis.analytics.AnalyticsSecurityManager;
+import org.hisp.dhis.analytics.AnalyticsTableType;
+import org.hisp.dhis.analytics.cache.AnalyticsCountCache;
 import org.hisp.dhis.analytics.event.EnrollmentAnalyticsManager;
 import org.hisp.dhis.analytics.event.EventQueryParams;
 import org.hisp.dhis.analytics.event.EventQueryPlanner;
@@ -57,6 +61,7 @@ import org.hisp.dhis.common.DimensionItemKeywords.Keyword;
 import org.hisp.dhis.common.Grid;
 import org.hisp.dhis.common.GridHeader;
 import org.hisp.dhis.db.sql.SqlBuilder;
+import org.hisp.dhis.monitoring.metrics.ApplicationMetrics;
 import org.hisp.dhis.system.grid.ListGrid;
 import org.hisp.dhis.util.Timer;
 import org.springframework.stereotype.Service;
@@ -80,6 +85,10 @@ public class EnrollmentQueryService {
 
   private final SqlBuilder sqlBuilder;
 
+  private final AnalyticsCountCache analyticsCountCache;
+
+  private final ApplicationMetrics metrics;
+
   /**
    * Returns a list of enrollments matching the given query.
    *
@@ -115,6 +124,8 @@ public class EnrollmentQueryService {
 
     // Metadata
 
+    ApplicationMetrics.Sample postProcessing = metrics.start();
+
     metadataHandler.addMetadata(grid, params, keywords);
     schemeIdHandler.applyScheme(grid, params);
 
@@ -124,6 +135,13 @@ public class EnrollmentQueryService {
     applyHeaders(grid, params);
     setRowContextColumns(grid);
 
+    postProcessing.stop(
+        ANALYTICS_QUERY_METRIC,
+        "phase",
+        "postprocess",
+        "tableType",
+        AnalyticsTableType.ENROLLMENT.name());
+
     return grid;
   }
 
@@ -214,14 +232,28 @@ public class EnrollmentQueryService {
   private long addData(Grid grid, EventQueryParams params) {
     Timer timer = new Timer().start().disablePrint();
 
-    EventQueryParams queryParams = queryPlanner.planEnrollmentQuery(params);
+    EventQueryParams queryParams =
+        metrics.time(
+            ANALYTICS_QUERY_METRIC,
+            () -> queryPlanner.planEnrollmentQuery(params),
+            "phase",
+            "plan",
+            "tableType",
+            AnalyticsTableType.ENROLLMENT.name());
 
     long count = 0;
 
     timer.getSplitTime("Planned enrollment query, got partitions: {}", queryParams.getPartitions());
 
+    ApplicationMetrics.Sample querying = metrics.start();
+    LongSupplier enrollmentCount = () -> 0;
+
     if (queryParams.isTotalPages()) {
-      count += enrollmentAnalyticsManager.getEnrollmentCount(queryParams);
+      EventQueryParams countParams = new EventQueryParams.Builder(queryParams).build();
+      enrollmentCount =
+          analyticsCountCache.getOrCountAsync(
+              getCountKey(countParams),
+              () -> enrollmentAnalyticsManager.getEnrollmentCount(countParams));
     }
 
     int maxLimit =
@@ -229,8 +261,24 @@ public class EnrollmentQueryService {
 
     enrollmentAnalyticsManager.getEnrollments(queryParams, grid, maxLimit);
 
+    count += enrollmentCount.getAsLong();
+
+    querying.stop(
+        ANALYTICS_QUERY_METRIC, "phase", "sql", "tableType", AnalyticsTableType.ENROLLMENT.name());
+
     timer.getTime("Got enrollments " + grid.getHeight());
 
     return count;
   }
+
+  /**
+   * Returns a key which identifies the count of the given query, independent of the requested page.
+   *
+   * @param params the {@link EventQueryParams}.
+   * @return the count key.
+   */
+  private String getCountKey(EventQueryParams params) {
+    return "enrollment-"
+        + new EventQueryParams.Builder(params).withPage(null).withPageSize(null).build().getKey();
+  }
 }
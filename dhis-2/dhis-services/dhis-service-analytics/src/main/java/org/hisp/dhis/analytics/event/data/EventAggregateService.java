@@ -75,6 +75,7 @@ import org.hisp.dhis.analytics.AnalyticsMetaDataKey;
 import org.hisp.dhis.analytics.AnalyticsSecurityManager;
 import org.hisp.dhis.analytics.EventAnalyticsDimensionalItem;
 import org.hisp.dhis.analytics.cache.AnalyticsCache;
+import org.hisp.dhis.analytics.cache.ProgramIndicatorCache;
 import org.hisp.dhis.analytics.event.EnrollmentAnalyticsManager;
 import org.hisp.dhis.analytics.event.EventAnalyticsManager;
 import org.hisp.dhis.analytics.event.EventDataQueryService;
@@ -135,6 +136,8 @@ public class EventAggregateService {
 
   private final AnalyticsCache analyticsCache;
 
+  private final ProgramIndicatorCache programIndicatorCache;
+
   private final AnalyticsSecurityManager securityManager;
 
   private final EventQueryValidator queryValidator;
@@ -245,11 +248,16 @@ public class EventAggregateService {
     timer.getSplitTime("Planned event query, got partitions: {}", params.getPartitions());
 
     for (EventQueryParams query : queries) {
-      if (query.hasEnrollmentProgramIndicatorDimension()) {
-        enrollmentAnalyticsManager.getAggregatedEventData(query, grid, maxLimit);
-      } else {
-        eventAnalyticsManager.getAggregatedEventData(query, grid, maxLimit);
-      }
+      programIndicatorCache.addRows(
+          query,
+          grid,
+          g -> {
+            if (query.hasEnrollmentProgramIndicatorDimension()) {
+              enrollmentAnalyticsManager.getAggregatedEventData(query, g, maxLimit);
+            } else {
+              eventAnalyticsManager.getAggregatedEventData(query, g, maxLimit);
+            }
+          });
     }
 
     timer.getTime("Got aggregated events");
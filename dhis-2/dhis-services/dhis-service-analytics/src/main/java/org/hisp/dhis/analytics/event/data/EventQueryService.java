@@ -29,6 +29,7 @@
  */
 package org.hisp.dhis.analytics.event.data;
 
+import static org.hisp.dhis.analytics.AnalyticsConstants.ANALYTICS_QUERY_METRIC;
 import static org.hisp.dhis.analytics.common.ColumnHeader.*;
 import static org.hisp.dhis.analytics.event.LabelMapper.getEnrollmentDateLabel;
 import static org.hisp.dhis.analytics.event.LabelMapper.getEventDateLabel;
@@ -49,9 +50,12 @@ import static org.hisp.dhis.common.ValueType.TEXT;
 import static org.hisp.dhis.feedback.ErrorCode.E7218;
 
 import java.util.List;
+import java.util.function.LongSupplier;
 import lombok.RequiredArgsConstructor;
 import org.hisp.dhis.analytics.AnalyticsSecurityManager;
+import org.hisp.dhis.analytics.AnalyticsTableType;
 import org.hisp.dhis.analytics.Rectangle;
+import org.hisp.dhis.analytics.cache.AnalyticsCountCache;
 import org.hisp.dhis.analytics.event.EventAnalyticsManager;
 import org.hisp.dhis.analytics.event.EventQueryParams;
 import org.hisp.dhis.analytics.event.EventQueryPlanner;
@@ -62,6 +66,7 @@ import org.hisp.dhis.common.DimensionItemKeywords.Keyword;
 import org.hisp.dhis.common.Grid;
 import org.hisp.dhis.common.GridHeader;
 import org.hisp.dhis.db.sql.SqlBuilder;
+import org.hisp.dhis.monitoring.metrics.ApplicationMetrics;
 import org.hisp.dhis.system.grid.ListGrid;
 import org.hisp.dhis.util.Timer;
 import org.springframework.stereotype.Service;
@@ -85,6 +90,10 @@ public class EventQueryService {
 
   private final SqlBuilder sqlBuilder;
 
+  private final AnalyticsCountCache analyticsCountCache;
+
+  private final ApplicationMetrics metrics;
+
   /**
    * Returns a list of events matching the given query.
    *
@@ -120,6 +129,8 @@ public class EventQueryService {
 
     // Metadata
 
+    ApplicationMetrics.Sample postProcessing = metrics.start();
+
     metadataHandler.addMetadata(grid, params, keywords);
     schemeIdHandler.applyScheme(grid, params);
 
@@ -129,6 +140,13 @@ public class EventQueryService {
     applyHeaders(grid, params);
     setRowContextColumns(grid);
 
+    postProcessing.stop(
+        ANALYTICS_QUERY_METRIC,
+        "phase",
+        "postprocess",
+        "tableType",
+        AnalyticsTableType.EVENT.name());
+
     return grid;
   }
 
@@ -310,26 +328,53 @@ public class EventQueryService {
   private long addData(Grid grid, EventQueryParams params) {
     Timer timer = new Timer().start().disablePrint();
 
+    ApplicationMetrics.Sample planning = metrics.start();
+
     params = queryPlanner.planEventQuery(params);
 
+    planning.stop(
+        ANALYTICS_QUERY_METRIC, "phase", "plan", "tableType", AnalyticsTableType.EVENT.name());
+
     timer.getSplitTime("Planned event query, got partitions: {}", params.getPartitions());
 
     long count = 0;
     EventQueryParams immutableParams = new EventQueryParams.Builder(params).build();
 
     if (params.getPartitions().hasAny() || params.isSkipPartitioning()) {
-      eventAnalyticsManager.getEvents(immutableParams, grid, queryValidator.getMaxLimit());
+      ApplicationMetrics.Sample querying = metrics.start();
+      LongSupplier eventCount = () -> 0;
 
       if (params.isPaging() && params.isTotalPages()) {
-        count = eventAnalyticsManager.getEventCount(immutableParams);
+        eventCount =
+            analyticsCountCache.getOrCountAsync(
+                getCountKey(immutableParams),
+                () -> eventAnalyticsManager.getEventCount(immutableParams));
       }
 
+      eventAnalyticsManager.getEvents(immutableParams, grid, queryValidator.getMaxLimit());
+
+      count = eventCount.getAsLong();
+
+      querying.stop(
+          ANALYTICS_QUERY_METRIC, "phase", "sql", "tableType", AnalyticsTableType.EVENT.name());
+
       timer.getTime("Got events " + grid.getHeight());
     }
 
     return count;
   }
 
+  /**
+   * Returns a key which identifies the count of the given query, independent of the requested page.
+   *
+   * @param params the {@link EventQueryParams}.
+   * @return the count key.
+   */
+  private String getCountKey(EventQueryParams params) {
+    return "event-"
+        + new EventQueryParams.Builder(params).withPage(null).withPageSize(null).build().getKey();
+  }
+
   /**
    * Indicates whether the DBMS supports geospatial data types and functions.
    *
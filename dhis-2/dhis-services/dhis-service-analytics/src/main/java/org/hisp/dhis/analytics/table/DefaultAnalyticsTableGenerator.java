@@ -37,9 +37,7 @@ import static org.hisp.dhis.scheduling.JobProgress.FailurePolicy.SKIP_STAGE;
 import static org.hisp.dhis.util.DateUtils.toLongDate;
 
 import java.util.Date;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -49,7 +47,9 @@ import org.hisp.dhis.analytics.AnalyticsTableService;
 import org.hisp.dhis.analytics.AnalyticsTableType;
 import org.hisp.dhis.analytics.AnalyticsTableUpdateParams;
 import org.hisp.dhis.analytics.cache.AnalyticsCache;
+import org.hisp.dhis.analytics.cache.AnalyticsCountCache;
 import org.hisp.dhis.analytics.cache.OutliersCache;
+import org.hisp.dhis.analytics.cache.ProgramIndicatorCache;
 import org.hisp.dhis.analytics.table.setting.AnalyticsTableSettings;
 import org.hisp.dhis.resourcetable.ResourceTableService;
 import org.hisp.dhis.scheduling.JobProgress;
@@ -80,6 +80,10 @@ public class DefaultAnalyticsTableGenerator implements AnalyticsTableGenerator {
 
   private final OutliersCache outliersCache;
 
+  private final AnalyticsCountCache analyticsCountCache;
+
+  private final ProgramIndicatorCache programIndicatorCache;
+
   @Override
   public void generateAnalyticsTables(AnalyticsTableUpdateParams params0, JobProgress progress) {
     final Clock clock = new Clock(log).startClock();
@@ -127,6 +131,8 @@ public class DefaultAnalyticsTableGenerator implements AnalyticsTableGenerator {
     progress.startingStage("Invalidate analytics caches", SKIP_STAGE);
     progress.runStage(analyticsCache::invalidateAll);
     progress.runStage(outliersCache::invalidateAll);
+    progress.runStage(analyticsCountCache::invalidateAll);
+    progress.runStage(programIndicatorCache::invalidateAll);
     clock.logTime("Analytics tables updated");
     progress.completedProcess("Analytics tables updated: {}", clock.time());
   }
@@ -169,10 +175,7 @@ public class DefaultAnalyticsTableGenerator implements AnalyticsTableGenerator {
   private void generateResourceTablesInternal(JobProgress progress) {
     resourceTableService.dropAllSqlViews(progress);
 
-    Map<String, Runnable> generators = new LinkedHashMap<>();
-    generators.put("Generating resource tables", resourceTableService::generateResourceTables);
-    progress.startingStage("Generating resource tables", generators.size(), SKIP_STAGE);
-    progress.runStage(generators);
+    resourceTableService.generateResourceTables(progress);
 
     resourceTableService.createAllSqlViews(progress);
 
@@ -32,11 +32,13 @@ package org.hisp.dhis.resourcetable;
 import static java.time.temporal.ChronoUnit.YEARS;
 import static java.util.Comparator.reverseOrder;
 import static org.hisp.dhis.scheduling.JobProgress.FailurePolicy.SKIP_ITEM;
+import static org.hisp.dhis.scheduling.JobProgress.FailurePolicy.SKIP_STAGE;
 
 import com.google.common.collect.Lists;
 import java.time.Year;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -47,6 +49,7 @@ import org.hisp.dhis.category.CategoryOptionGroupSet;
 import org.hisp.dhis.category.CategoryService;
 import org.hisp.dhis.common.IdentifiableObjectManager;
 import org.hisp.dhis.common.IllegalQueryException;
+import org.hisp.dhis.commons.util.SystemUtils;
 import org.hisp.dhis.dataapproval.DataApprovalLevelService;
 import org.hisp.dhis.dataelement.DataElement;
 import org.hisp.dhis.dataelement.DataElementGroupSet;
@@ -78,7 +81,9 @@ import org.hisp.dhis.sqlview.SqlView;
 import org.hisp.dhis.sqlview.SqlViewService;
 import org.hisp.dhis.tablereplication.TableReplicationStore;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * @author Lars Helge Overland
@@ -87,6 +92,10 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @RequiredArgsConstructor
 public class DefaultResourceTableService implements ResourceTableService {
+  /** Types of tables populated from other resource tables. */
+  private static final Set<ResourceTableType> DEPENDENT_TABLE_TYPES =
+      Set.of(ResourceTableType.ORG_UNIT_GROUP_SET_STRUCTURE);
+
   private final ResourceTableStore resourceTableStore;
 
   private final TableReplicationStore tableReplicationStore;
@@ -107,12 +116,53 @@ public class DefaultResourceTableService implements ResourceTableService {
 
   private final PeriodDataProvider periodDataProvider;
 
+  private final TransactionTemplate transactionTemplate;
+
   @Override
   @Transactional
-  public void generateResourceTables() {
-    for (ResourceTable table : getResourceTables()) {
-      resourceTableStore.generateResourceTable(table);
-    }
+  public void generateResourceTables(JobProgress progress) {
+    progress.startingStage("Loading resource tables", SKIP_STAGE);
+    List<ResourceTable> tables = progress.runStage(List.of(), this::getResourceTables);
+
+    // Content is read from entities of the current session
+    List<ResourceTable> contentTables =
+        tables.stream().filter(table -> table.getPopulateTempTableStatement().isEmpty()).toList();
+    List<ResourceTable> dependentTables =
+        tables.stream()
+            .filter(table -> DEPENDENT_TABLE_TYPES.contains(table.getTableType()))
+            .toList();
+    List<ResourceTable> independentTables =
+        tables.stream()
+            .filter(table -> !contentTables.contains(table) && !dependentTables.contains(table))
+            .toList();
+
+    generateResourceTables(progress, "Generating resource tables from content", 1, contentTables);
+    generateResourceTables(
+        progress,
+        "Generating resource tables",
+        Math.max(1, SystemUtils.getCpuCores() - 1),
+        independentTables);
+    generateResourceTables(progress, "Generating dependent resource tables", 1, dependentTables);
+  }
+
+  /**
+   * Generates each of the given tables in its own transaction, so that a table is either fully
+   * replaced or kept as it was when its generation fails.
+   */
+  void generateResourceTables(
+      JobProgress progress, String stage, int parallelism, List<ResourceTable> tables) {
+    TransactionTemplate tableTransaction =
+        new TransactionTemplate(transactionTemplate.getTransactionManager());
+    tableTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+    progress.startingStage(stage, tables.size(), SKIP_STAGE);
+    progress.runStageInParallel(
+        parallelism,
+        tables,
+        table -> table.getMainTable().getName(),
+        table ->
+            tableTransaction.executeWithoutResult(
+                status -> resourceTableStore.generateResourceTable(table)));
   }
 
   @Override
@@ -140,9 +190,7 @@ public class DefaultResourceTableService implements ResourceTableService {
     Logged logged = analyticsTableSettings.getTableLogged();
     return List.of(
         new OrganisationUnitStructureResourceTable(
-            logged,
-            organisationUnitService.getNumberOfOrganisationalLevels(),
-            organisationUnitService),
+            logged, organisationUnitService.getNumberOfOrganisationalLevels()),
         new DataSetOrganisationUnitCategoryResourceTable(
             logged,
             idObjectManager.getAllNoAcl(DataSet.class),
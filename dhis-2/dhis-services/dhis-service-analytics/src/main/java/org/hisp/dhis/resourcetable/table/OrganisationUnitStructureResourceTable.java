@@ -30,12 +30,11 @@
 package org.hisp.dhis.resourcetable.table;
 
 import static java.lang.String.format;
+import static org.hisp.dhis.commons.util.TextUtils.replace;
 import static org.hisp.dhis.db.model.Table.toStaging;
 import static org.hisp.dhis.system.util.SqlUtils.appendRandom;
 
 import com.google.common.collect.Lists;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -47,8 +46,6 @@ import org.hisp.dhis.db.model.Logged;
 import org.hisp.dhis.db.model.Table;
 import org.hisp.dhis.db.model.constraint.Nullable;
 import org.hisp.dhis.db.model.constraint.Unique;
-import org.hisp.dhis.organisationunit.OrganisationUnit;
-import org.hisp.dhis.organisationunit.OrganisationUnitService;
 import org.hisp.dhis.resourcetable.ResourceTable;
 import org.hisp.dhis.resourcetable.ResourceTableType;
 
@@ -64,9 +61,6 @@ public class OrganisationUnitStructureResourceTable implements ResourceTable {
 
   private final int organisationUnitLevels;
 
-  /** A to do is removing this service and finding a way to retrieve with SQL. */
-  private final OrganisationUnitService organisationUnitService;
-
   @Override
   public Table getTable() {
     return new Table(toStaging(TABLE_NAME), getColumns(), getPrimaryKey(), logged);
@@ -120,88 +114,50 @@ public class OrganisationUnitStructureResourceTable implements ResourceTable {
     return ResourceTableType.ORG_UNIT_STRUCTURE;
   }
 
+  /**
+   * Populates the table with a single statement. The ancestors of each org unit are joined by the
+   * UIDs contained in its path, where the ancestor at level n is the n-th path segment.
+   */
   @Override
   public Optional<String> getPopulateTempTableStatement() {
-    return Optional.empty();
-  }
-
-  @Override
-  public Optional<List<Object[]>> getPopulateTempTableContent() {
-    List<Object[]> batchObjects = new ArrayList<>();
+    StringBuilder columns =
+        new StringBuilder(
+            "organisationunitid,organisationunituid,code,name,openingdate,closeddate,level,path");
+    StringBuilder values =
+        new StringBuilder(
+            "ou.organisationunitid,ou.uid,ou.code,ou.name,ou.openingdate,ou.closeddate,ou.hierarchylevel,ou.path");
+    StringBuilder joins = new StringBuilder();
 
     for (int level = ROOT_LEVEL; level <= organisationUnitLevels; level++) {
-      List<OrganisationUnit> units = organisationUnitService.getOrganisationUnitsAtLevel(level);
-
-      batchObjects.addAll(createBatchObjects(units, level));
-    }
-
-    return Optional.of(batchObjects);
-  }
-
-  /**
-   * Creates the list of batch of objects to be added to the org. unit resource table.
-   *
-   * @param units the list of {@link OrganisationUnit}.
-   * @param level the level of the given list of {@link OrganisationUnit}.
-   * @return the list of batch objects.
-   */
-  List<Object[]> createBatchObjects(List<OrganisationUnit> units, int level) {
-    List<Object[]> batchObjects = new ArrayList<>();
-
-    for (OrganisationUnit unit : units) {
-      List<Object> values = new ArrayList<>();
-
-      values.add(unit.getId());
-      values.add(unit.getUid());
-      values.add(unit.getCode());
-      values.add(unit.getName());
-      values.add(unit.getOpeningDate());
-      values.add(unit.getClosedDate());
-      values.add(level);
-      values.add(unit.getStoredPath());
-
-      Map<Integer, Long> identifiers = new HashMap<>();
-      Map<Integer, String> uids = new HashMap<>();
-      Map<Integer, String> names = new HashMap<>();
-
-      for (int j = level; j > 0; j--) {
-        identifiers.put(j, unit.getId());
-        uids.put(j, unit.getUid());
-        names.put(j, unit.getName());
-
-        if (isOrgUnitLevelValid(unit, j)) {
-          unit = unit.getParent();
-        } else {
-          throw new IllegalStateException(
-              format(
-                  "Invalid hierarchy level or missing parent for organisation unit %s.",
-                  unit.getUid()));
-        }
-      }
-
-      for (int k = ROOT_LEVEL; k <= organisationUnitLevels; k++) {
-        values.add(identifiers.get(k) != null ? identifiers.get(k) : null);
-        values.add(uids.get(k));
-        values.add(names.get(k));
-      }
-
-      batchObjects.add(values.toArray());
+      columns.append(format(",idlevel%1$d,uidlevel%1$d,namelevel%1$d", level));
+      values.append(format(",l%1$d.organisationunitid,l%1$d.uid,l%1$d.name", level));
+      joins.append(
+          format(
+              "left join organisationunit l%d on l%d.uid = split_part(ou.path, '/', %d) ",
+              level, level, level + 1));
     }
 
-    return batchObjects;
+    String sql =
+        replace(
+            """
+            insert into ${tableName} (${columns}) \
+            select ${values} \
+            from organisationunit ou \
+            ${joins}\
+            where ou.hierarchylevel between ${rootLevel} and ${levels};""",
+            Map.of(
+                "tableName", toStaging(TABLE_NAME),
+                "columns", columns.toString(),
+                "values", values.toString(),
+                "joins", joins.toString(),
+                "rootLevel", String.valueOf(ROOT_LEVEL),
+                "levels", String.valueOf(organisationUnitLevels)));
+
+    return Optional.of(sql);
   }
 
-  /**
-   * Verifies if the given {@link OrganisationUnit} matches the given value, as expected.
-   *
-   * @param unit the {@link OrganisationUnit} to check.
-   * @param level the level to be used in the validation.
-   * @return true if the expectation is matched, false otherwise.
-   */
-  private static boolean isOrgUnitLevelValid(OrganisationUnit unit, int level) {
-    boolean isLevelCorrect = unit.getLevel() == level && unit.getHierarchyLevel() == level;
-    boolean hasParent = unit.getParent() != null;
-    return isLevelCorrect
-        && ((hasParent && level > ROOT_LEVEL) || (level == ROOT_LEVEL && !hasParent));
+  @Override
+  public Optional<List<Object[]>> getPopulateTempTableContent() {
+    return Optional.empty();
   }
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2004-2022, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.analytics.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hisp.dhis.cache.Cache;
+import org.hisp.dhis.cache.CacheBuilder;
+import org.hisp.dhis.cache.CacheProvider;
+import org.hisp.dhis.cache.LocalCache;
+import org.hisp.dhis.cache.SimpleCacheBuilder;
+import org.hisp.dhis.system.executor.ExecutorRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AnalyticsCountCacheTest {
+
+  @Mock private CacheProvider cacheProvider;
+  @Mock private AnalyticsCacheSettings settings;
+  @Mock private ExecutorRegistry executorRegistry;
+
+  private ExecutorService executor;
+
+  private AnalyticsCountCache countCache;
+
+  @BeforeEach
+  void setUp() {
+    CacheBuilder<Long> cacheBuilder = new SimpleCacheBuilder<>();
+    cacheBuilder.expireAfterWrite(1L, TimeUnit.MINUTES);
+    Cache<Long> cache = new LocalCache<>(cacheBuilder);
+    Mockito.<Cache<Long>>when(cacheProvider.createAnalyticsCountCache()).thenReturn(cache);
+    executor = Executors.newSingleThreadExecutor();
+    when(executorRegistry.getExecutor(anyString(), anyInt(), anyInt())).thenReturn(executor);
+    countCache = new AnalyticsCountCache(cacheProvider, settings, executorRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void countIsCachedWhenCachingIsEnabled() {
+    when(settings.isCachingEnabled()).thenReturn(true);
+    AtomicInteger calls = new AtomicInteger();
+
+    assertEquals(42L, countCache.getOrCountAsync("key", () -> count(calls)).getAsLong());
+    assertEquals(42L, countCache.getOrCountAsync("key", () -> count(calls)).getAsLong());
+    assertEquals(1, calls.get());
+  }
+
+  @Test
+  void countIsNotCachedWhenCachingIsDisabled() {
+    when(settings.isCachingEnabled()).thenReturn(false);
+    AtomicInteger calls = new AtomicInteger();
+
+    assertEquals(42L, countCache.getOrCountAsync("key", () -> count(calls)).getAsLong());
+    assertEquals(42L, countCache.getOrCountAsync("key", () -> count(calls)).getAsLong());
+    assertEquals(2, calls.get());
+  }
+
+  @Test
+  void countFailureIsRethrown() {
+    when(settings.isCachingEnabled()).thenReturn(true);
+
+    IllegalStateException ex =
+        assertThrows(
+            IllegalStateException.class,
+            () ->
+                countCache
+                    .getOrCountAsync(
+                        "key",
+                        () -> {
+                          throw new IllegalStateException("Count failed");
+                        })
+                    .getAsLong());
+    assertEquals("Count failed", ex.getMessage());
+  }
+
+  private static long count(AtomicInteger calls) {
+    calls.incrementAndGet();
+    return 42L;
+  }
+}
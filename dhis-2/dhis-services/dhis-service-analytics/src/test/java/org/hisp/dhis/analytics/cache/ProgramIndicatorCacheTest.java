@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2004-2022, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.analytics.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hisp.dhis.analytics.event.EventQueryParams;
+import org.hisp.dhis.cache.Cache;
+import org.hisp.dhis.cache.CacheBuilder;
+import org.hisp.dhis.cache.CacheProvider;
+import org.hisp.dhis.cache.LocalCache;
+import org.hisp.dhis.cache.SimpleCacheBuilder;
+import org.hisp.dhis.common.Grid;
+import org.hisp.dhis.system.grid.ListGrid;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ProgramIndicatorCacheTest {
+
+  @Mock private CacheProvider cacheProvider;
+  @Mock private AnalyticsCacheSettings settings;
+  @Mock private EventQueryParams query;
+
+  private ProgramIndicatorCache programIndicatorCache;
+
+  @BeforeEach
+  void setUp() {
+    CacheBuilder<List<List<Object>>> cacheBuilder = new SimpleCacheBuilder<>();
+    cacheBuilder.expireAfterWrite(1L, TimeUnit.MINUTES);
+    Cache<List<List<Object>>> cache = new LocalCache<>(cacheBuilder);
+    Mockito.<Cache<List<List<Object>>>>when(cacheProvider.createAnalyticsProgramIndicatorCache())
+        .thenReturn(cache);
+    programIndicatorCache = new ProgramIndicatorCache(cacheProvider, settings);
+  }
+
+  @Test
+  void rowsAreCachedForProgramIndicatorQueries() {
+    when(settings.isCachingEnabled()).thenReturn(true);
+    when(query.hasProgramIndicatorDimension()).thenReturn(true);
+    when(query.getKey()).thenReturn("key");
+    AtomicInteger calls = new AtomicInteger();
+
+    Grid first = new ListGrid().addRow().addValue("existing");
+    programIndicatorCache.addRows(query, first, grid -> fetch(grid, calls));
+    Grid second = new ListGrid();
+    programIndicatorCache.addRows(query, second, grid -> fetch(grid, calls));
+
+    assertEquals(1, calls.get());
+    assertEquals(2, first.getHeight());
+    assertEquals(1, second.getHeight());
+    assertEquals(List.of("pi", 7), second.getRow(0));
+  }
+
+  @Test
+  void rowsAreNotSharedBetweenTables() {
+    when(settings.isCachingEnabled()).thenReturn(true);
+    when(query.hasProgramIndicatorDimension()).thenReturn(true);
+    when(query.getKey()).thenReturn("key");
+    when(query.getTableName()).thenReturn("analytics_event_a", "analytics_event_b");
+    AtomicInteger calls = new AtomicInteger();
+
+    programIndicatorCache.addRows(query, new ListGrid(), grid -> fetch(grid, calls));
+    programIndicatorCache.addRows(query, new ListGrid(), grid -> fetch(grid, calls));
+
+    assertEquals(2, calls.get());
+  }
+
+  @Test
+  void rowsAreNotCachedWhenCachingIsDisabled() {
+    when(settings.isCachingEnabled()).thenReturn(false);
+    AtomicInteger calls = new AtomicInteger();
+
+    programIndicatorCache.addRows(query, new ListGrid(), grid -> fetch(grid, calls));
+    programIndicatorCache.addRows(query, new ListGrid(), grid -> fetch(grid, calls));
+
+    assertEquals(2, calls.get());
+  }
+
+  @Test
+  void rowsAreNotCachedForOtherQueries() {
+    when(settings.isCachingEnabled()).thenReturn(true);
+    when(query.hasProgramIndicatorDimension()).thenReturn(false);
+    AtomicInteger calls = new AtomicInteger();
+
+    programIndicatorCache.addRows(query, new ListGrid(), grid -> fetch(grid, calls));
+    programIndicatorCache.addRows(query, new ListGrid(), grid -> fetch(grid, calls));
+
+    assertEquals(2, calls.get());
+  }
+
+  private static void fetch(Grid grid, AtomicInteger calls) {
+    calls.incrementAndGet();
+    grid.addRow().addValue("pi").addValue(7);
+  }
+}
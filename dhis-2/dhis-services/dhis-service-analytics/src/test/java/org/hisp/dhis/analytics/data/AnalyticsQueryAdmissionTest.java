@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2004-2022, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.analytics.data;
+
+import static org.hisp.dhis.external.conf.ConfigurationKey.ANALYTICS_ADMISSION_MAX_COST;
+import static org.hisp.dhis.external.conf.ConfigurationKey.ANALYTICS_ADMISSION_MAX_USER_COST;
+import static org.hisp.dhis.external.conf.ConfigurationKey.ANALYTICS_ADMISSION_MAX_WAIT;
+import static org.hisp.dhis.test.TestBase.injectSecurityContextNoSettings;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.hisp.dhis.analytics.DataQueryParams;
+import org.hisp.dhis.analytics.data.AnalyticsQueryAdmission.Admission;
+import org.hisp.dhis.analytics.table.model.Partitions;
+import org.hisp.dhis.common.QueryRejectedException;
+import org.hisp.dhis.dataelement.DataElement;
+import org.hisp.dhis.external.conf.DhisConfigurationProvider;
+import org.hisp.dhis.feedback.ErrorCode;
+import org.hisp.dhis.monitoring.metrics.ApplicationMetrics;
+import org.hisp.dhis.user.SystemUser;
+import org.hisp.dhis.user.User;
+import org.hisp.dhis.user.UserDetails;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AnalyticsQueryAdmissionTest {
+  @Mock private DhisConfigurationProvider config;
+
+  private final DataQueryParams smallQuery = DataQueryParams.newBuilder().build();
+
+  @Test
+  void testEstimateCost() {
+    DataQueryParams largeQuery =
+        DataQueryParams.newBuilder()
+            .withDataElements(
+                IntStream.range(0, 1000).mapToObj(i -> new DataElement("DE" + i)).toList())
+            .withPartitions(new Partitions(Set.of(2020, 2021, 2022, 2023, 2024)))
+            .build();
+
+    assertEquals(1, AnalyticsQueryAdmission.estimateCost(smallQuery));
+    assertEquals(6, AnalyticsQueryAdmission.estimateCost(largeQuery));
+  }
+
+  @Test
+  void testAdmitRejectsQueriesExceedingSystemLimit() {
+    AnalyticsQueryAdmission admission = createAdmission(2, 0);
+
+    Admission first = admission.admit(List.of(smallQuery, smallQuery));
+
+    QueryRejectedException ex =
+        assertThrows(QueryRejectedException.class, () -> admission.admit(List.of(smallQuery)));
+    assertEquals(ErrorCode.E7152, ex.getErrorCode());
+    assertFalse(ex.isUserLimit());
+
+    first.close();
+    assertDoesNotThrow(() -> admission.admit(List.of(smallQuery)));
+  }
+
+  @Test
+  void testAdmitRejectsQueriesExceedingUserLimit() {
+    injectSecurityContextNoSettings(new SystemUser());
+    AnalyticsQueryAdmission admission = createAdmission(0, 1);
+
+    Admission first = admission.admit(List.of(smallQuery));
+
+    QueryRejectedException ex =
+        assertThrows(QueryRejectedException.class, () -> admission.admit(List.of(smallQuery)));
+    assertEquals(ErrorCode.E7151, ex.getErrorCode());
+    assertTrue(ex.isUserLimit());
+
+    first.close();
+    assertDoesNotThrow(() -> admission.admit(List.of(smallQuery)));
+  }
+
+  @Test
+  void testAdmitKeepsSeparateBudgetPerUser() {
+    AnalyticsQueryAdmission admission = createAdmission(0, 1);
+
+    injectSecurityContextNoSettings(createUserDetails("alice"));
+    Admission first = admission.admit(List.of(smallQuery));
+    assertThrows(QueryRejectedException.class, () -> admission.admit(List.of(smallQuery)));
+
+    injectSecurityContextNoSettings(createUserDetails("bob"));
+    assertDoesNotThrow(() -> admission.admit(List.of(smallQuery)));
+
+    first.close();
+  }
+
+  @Test
+  void testAdmitCapsCostOfLargeQueriesAtLimit() {
+    AnalyticsQueryAdmission admission = createAdmission(2, 0);
+
+    assertDoesNotThrow(() -> admission.admit(List.of(smallQuery, smallQuery, smallQuery)));
+  }
+
+  private static UserDetails createUserDetails(String username) {
+    User user = new User();
+    user.setUsername(username);
+    return UserDetails.fromUserDontLoadOrgUnits(user);
+  }
+
+  private AnalyticsQueryAdmission createAdmission(int maxCost, int maxUserCost) {
+    when(config.getIntProperty(ANALYTICS_ADMISSION_MAX_COST)).thenReturn(maxCost);
+    when(config.getIntProperty(ANALYTICS_ADMISSION_MAX_USER_COST)).thenReturn(maxUserCost);
+    when(config.getIntProperty(ANALYTICS_ADMISSION_MAX_WAIT)).thenReturn(0);
+    return new AnalyticsQueryAdmission(config, ApplicationMetrics.noop());
+  }
+}
@@ -55,6 +55,7 @@ import org.hisp.dhis.analytics.event.data.EventAggregateService;
 import org.hisp.dhis.analytics.resolver.ExpressionResolvers;
 import org.hisp.dhis.expression.ExpressionService;
 import org.hisp.dhis.external.conf.DhisConfigurationProvider;
+import org.hisp.dhis.monitoring.metrics.ApplicationMetrics;
 import org.hisp.dhis.organisationunit.OrganisationUnitService;
 import org.hisp.dhis.setting.SystemSettings;
 import org.hisp.dhis.setting.SystemSettingsProvider;
@@ -79,7 +80,7 @@ abstract class AnalyticsServiceBaseTest {
 
   @Mock private AnalyticsSecurityManager securityManager;
 
-  @Mock private QueryPlanner queryPlanner;
+  @Mock protected QueryPlanner queryPlanner;
 
   @Mock private ExpressionService expressionService;
 
@@ -124,9 +125,12 @@ abstract class AnalyticsServiceBaseTest {
             settingsProvider,
             analyticsManager,
             organisationUnitService,
-            executionPlanStore);
+            executionPlanStore,
+            ApplicationMetrics.noop(),
+            new AnalyticsQueryAdmission(dhisConfig, ApplicationMetrics.noop()));
 
-    target = new DataAggregator(headerHandler, metadataHandler, dataHandler);
+    target =
+        new DataAggregator(headerHandler, metadataHandler, dataHandler, ApplicationMetrics.noop());
     target.feedHandlers();
 
     when(analyticsCacheSettings.fixedExpirationTimeOrDefault()).thenReturn(0L);
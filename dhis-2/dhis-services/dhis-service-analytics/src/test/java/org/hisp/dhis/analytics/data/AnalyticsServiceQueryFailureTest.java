@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2004-2022, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.analytics.data;
+
+import static org.hisp.dhis.test.TestBase.createDataElement;
+import static org.hisp.dhis.test.TestBase.injectSecurityContextNoSettings;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.hisp.dhis.analytics.AnalyticsTableType;
+import org.hisp.dhis.analytics.DataQueryGroups;
+import org.hisp.dhis.analytics.DataQueryParams;
+import org.hisp.dhis.analytics.QueryPlannerParams;
+import org.hisp.dhis.organisationunit.OrganisationUnit;
+import org.hisp.dhis.period.MonthlyPeriodType;
+import org.hisp.dhis.user.SystemUser;
+import org.joda.time.DateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AnalyticsServiceQueryFailureTest extends AnalyticsServiceBaseTest {
+  @BeforeEach
+  public void setUp() {
+    injectSecurityContextNoSettings(new SystemUser());
+  }
+
+  @Test
+  void testFailedQueryWaitsForConcurrentQueries() {
+    DataQueryParams params =
+        DataQueryParams.newBuilder()
+            .withDataElements(List.of(createDataElement('A')))
+            .withOrganisationUnit(new OrganisationUnit("aaaa"))
+            .withPeriods(
+                List.of(
+                    new MonthlyPeriodType().createPeriod(new DateTime(2014, 4, 1, 0, 0).toDate())))
+            .withIgnoreLimit(true)
+            .build();
+    DataQueryParams failing = DataQueryParams.newBuilder(params).build();
+    DataQueryParams slow = DataQueryParams.newBuilder(params).build();
+
+    initMock(params);
+    when(queryPlanner.planQuery(any(DataQueryParams.class), any(QueryPlannerParams.class)))
+        .thenReturn(DataQueryGroups.newBuilder().withQueries(List.of(failing, slow)).build());
+
+    CompletableFuture<Map<String, Object>> slowResult =
+        CompletableFuture.supplyAsync(
+            Map::of, CompletableFuture.delayedExecutor(200, TimeUnit.MILLISECONDS));
+    when(analyticsManager.getAggregatedDataValues(
+            same(failing), eq(AnalyticsTableType.DATA_VALUE), anyInt()))
+        .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("failed")));
+    when(analyticsManager.getAggregatedDataValues(
+            same(slow), eq(AnalyticsTableType.DATA_VALUE), anyInt()))
+        .thenReturn(slowResult);
+
+    assertThrows(IllegalStateException.class, () -> target.getAggregatedDataValueGrid(params));
+    assertTrue(slowResult.isDone());
+  }
+}
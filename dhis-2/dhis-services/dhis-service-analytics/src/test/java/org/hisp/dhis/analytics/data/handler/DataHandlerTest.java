@@ -182,6 +182,6 @@ class DataHandlerTest {
   }
 
   private DataHandler withNullDependencies() {
-    return new DataHandler(null, null, null, null, null, null, null, null, null);
+    return new DataHandler(null, null, null, null, null, null, null, null, null, null, null);
   }
 }
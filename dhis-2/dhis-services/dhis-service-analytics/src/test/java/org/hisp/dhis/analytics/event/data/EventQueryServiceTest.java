@@ -43,6 +43,7 @@ import static org.mockito.Mockito.when;
 
 import com.google.common.collect.Sets;
 import org.hisp.dhis.analytics.AnalyticsSecurityManager;
+import org.hisp.dhis.analytics.cache.AnalyticsCountCache;
 import org.hisp.dhis.analytics.common.scheme.SchemeInfo;
 import org.hisp.dhis.analytics.common.scheme.SchemeInfo.Data;
 import org.hisp.dhis.analytics.common.scheme.SchemeInfo.Settings;
@@ -56,6 +57,7 @@ import org.hisp.dhis.analytics.tracker.MetadataItemsHandler;
 import org.hisp.dhis.analytics.tracker.SchemeIdHandler;
 import org.hisp.dhis.common.IdScheme;
 import org.hisp.dhis.db.sql.SqlBuilder;
+import org.hisp.dhis.monitoring.metrics.ApplicationMetrics;
 import org.hisp.dhis.organisationunit.OrganisationUnit;
 import org.hisp.dhis.program.Program;
 import org.hisp.dhis.user.SystemUser;
@@ -64,6 +66,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 /**
@@ -91,6 +94,10 @@ class EventQueryServiceTest {
 
   @Mock private SchemeIdResponseMapper schemeIdResponseMapper;
 
+  @Mock private AnalyticsCountCache analyticsCountCache;
+
+  @Spy private ApplicationMetrics metrics = ApplicationMetrics.noop();
+
   @InjectMocks private EventQueryService eventQueryService;
 
   @BeforeAll
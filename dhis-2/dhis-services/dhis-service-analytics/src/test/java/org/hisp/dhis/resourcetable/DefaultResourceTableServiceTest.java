@@ -34,18 +34,30 @@ import static org.hisp.dhis.period.PeriodDataProvider.PeriodSource.DATABASE;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.Year;
 import java.util.List;
 import org.hisp.dhis.analytics.table.setting.AnalyticsTableSettings;
+import org.hisp.dhis.db.model.Column;
+import org.hisp.dhis.db.model.DataType;
+import org.hisp.dhis.db.model.Table;
 import org.hisp.dhis.period.PeriodDataProvider;
 import org.hisp.dhis.period.PeriodDataProvider.PeriodSource;
+import org.hisp.dhis.scheduling.JobProgress;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @ExtendWith(MockitoExtension.class)
 class DefaultResourceTableServiceTest {
@@ -58,6 +70,10 @@ class DefaultResourceTableServiceTest {
 
   @Mock private ResourceTableStore resourceTableStore;
 
+  @Mock private TransactionTemplate transactionTemplate;
+
+  @Mock private PlatformTransactionManager transactionManager;
+
   @Test
   void generateDatePeriodTableWhenYearIsOutOfRange() {
     List<Integer> yearsToCheck = List.of(2000, 2001, 2002, 2003, 2004);
@@ -121,4 +137,32 @@ class DefaultResourceTableServiceTest {
 
     assertDoesNotThrow(() -> defaultResourceTableService.getAndValidateAvailableDataYears());
   }
+
+  @Test
+  void generateResourceTablesInSeparateTransactions() {
+    ResourceTable tableA = mockResourceTable("table_a");
+    ResourceTable tableB = mockResourceTable("table_b");
+    TransactionStatus statusA = mock(TransactionStatus.class);
+    TransactionStatus statusB = mock(TransactionStatus.class);
+    when(transactionTemplate.getTransactionManager()).thenReturn(transactionManager);
+    when(transactionManager.getTransaction(any())).thenReturn(statusA, statusB);
+    doThrow(new IllegalStateException("Failed"))
+        .when(resourceTableStore)
+        .generateResourceTable(tableA);
+
+    defaultResourceTableService.generateResourceTables(
+        JobProgress.noop(), "Generating resource tables", 1, List.of(tableA, tableB));
+
+    verify(resourceTableStore).generateResourceTable(tableB);
+    verify(transactionManager).rollback(statusA);
+    verify(transactionManager).commit(statusB);
+    verify(transactionManager, never()).commit(statusA);
+  }
+
+  private static ResourceTable mockResourceTable(String name) {
+    ResourceTable table = mock(ResourceTable.class);
+    when(table.getMainTable())
+        .thenReturn(new Table(name, List.of(new Column("id", DataType.BIGINT)), List.of()));
+    return table;
+  }
 }
@@ -29,119 +29,39 @@
  */
 package org.hisp.dhis.resourcetable.table;
 
-import static org.hisp.dhis.test.TestBase.createOrganisationUnit;
-import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.util.ArrayList;
-import java.util.List;
-import org.hisp.dhis.organisationunit.OrganisationUnit;
+import org.hisp.dhis.db.model.Logged;
 import org.junit.jupiter.api.Test;
 
 class OrganisationUnitStructureResourceTableTest {
   @Test
-  void testCreateBatchObjectsWhenLevelsAreSame() {
-    int maxOrgUnitLevels = 3;
-    int currentLevel = 3;
-
-    OrganisationUnit root = createOrganisationUnit('A');
-    root.setPath("/p1");
-
-    OrganisationUnit ou1 = createOrganisationUnit('B', root);
-    ou1.setPath("/p1/p2");
-
-    OrganisationUnit ou2 = createOrganisationUnit('C', ou1);
-    ou2.setHierarchyLevel(currentLevel);
-    ou2.setPath("/p1/p2/ou2");
-
-    OrganisationUnit ou3 = createOrganisationUnit('D', ou1);
-    ou3.setHierarchyLevel(currentLevel);
-    ou3.setPath("/p1/p2/ou3");
-
-    List<OrganisationUnit> organisationUnits = new ArrayList<>();
-    organisationUnits.add(ou2);
-    organisationUnits.add(ou3);
-
+  void testGetPopulateTempTableStatement() {
     OrganisationUnitStructureResourceTable resourceTable =
-        new OrganisationUnitStructureResourceTable(null, maxOrgUnitLevels, null);
-
-    assertDoesNotThrow(() -> resourceTable.createBatchObjects(organisationUnits, currentLevel));
+        new OrganisationUnitStructureResourceTable(Logged.UNLOGGED, 2);
+
+    String expected =
+        """
+        insert into analytics_rs_orgunitstructure_temp \
+        (organisationunitid,organisationunituid,code,name,openingdate,closeddate,level,path,\
+        idlevel1,uidlevel1,namelevel1,idlevel2,uidlevel2,namelevel2) \
+        select ou.organisationunitid,ou.uid,ou.code,ou.name,ou.openingdate,ou.closeddate,\
+        ou.hierarchylevel,ou.path,l1.organisationunitid,l1.uid,l1.name,\
+        l2.organisationunitid,l2.uid,l2.name \
+        from organisationunit ou \
+        left join organisationunit l1 on l1.uid = split_part(ou.path, '/', 2) \
+        left join organisationunit l2 on l2.uid = split_part(ou.path, '/', 3) \
+        where ou.hierarchylevel between 1 and 2;""";
+
+    assertEquals(expected, resourceTable.getPopulateTempTableStatement().get());
   }
 
   @Test
-  void testCreateBatchObjectsWhenHierarchyLevelIsLowerThanMaxLevel() {
-    int maxOrgUnitLevels = 3;
-    int currentLevel = 2;
-
-    OrganisationUnit root = createOrganisationUnit('A');
-    root.setPath("/p1");
-
-    OrganisationUnit ou1 = createOrganisationUnit('B', root);
-    ou1.setPath("/p1/p2");
-
-    List<OrganisationUnit> organisationUnits = new ArrayList<>();
-    organisationUnits.add(ou1);
-
+  void testGetPopulateTempTableContentIsEmpty() {
     OrganisationUnitStructureResourceTable resourceTable =
-        new OrganisationUnitStructureResourceTable(null, maxOrgUnitLevels, null);
-
-    assertDoesNotThrow(() -> resourceTable.createBatchObjects(organisationUnits, currentLevel));
-  }
-
-  @Test
-  void testCreateBatchObjectsWhenCurrentLevelIsLargerThanMaxLevel() {
-    int maxOrgUnitLevels = 2;
-    int currentLevel = 3;
-
-    OrganisationUnit root = createOrganisationUnit('A');
-    root.setPath("/p1");
-
-    OrganisationUnit ou1 = createOrganisationUnit('B', root);
-    ou1.setPath("/p1/p2");
-    ou1.setUid("uid-123");
-
-    List<OrganisationUnit> organisationUnits = new ArrayList<>();
-    organisationUnits.add(ou1);
-
-    OrganisationUnitStructureResourceTable resourceTable =
-        new OrganisationUnitStructureResourceTable(null, maxOrgUnitLevels, null);
-
-    Exception ex =
-        assertThrows(
-            IllegalStateException.class,
-            () -> resourceTable.createBatchObjects(organisationUnits, currentLevel));
-
-    assertEquals(
-        "Invalid hierarchy level or missing parent for organisation unit uid-123.",
-        ex.getMessage());
-  }
-
-  @Test
-  void testCreateBatchObjectsWhenCurrentLevelHasNoParent() {
-    int maxOrgUnitLevels = 2;
-    int currentLevel = 3;
-
-    OrganisationUnit root = createOrganisationUnit('A');
-    root.setPath("/p1");
-
-    OrganisationUnit ou1 = createOrganisationUnit('B');
-    ou1.setPath("/p1/p2");
-    ou1.setUid("uid-123");
-
-    List<OrganisationUnit> organisationUnits = new ArrayList<>();
-    organisationUnits.add(ou1);
-
-    OrganisationUnitStructureResourceTable resourceTable =
-        new OrganisationUnitStructureResourceTable(null, maxOrgUnitLevels, null);
-
-    Exception ex =
-        assertThrows(
-            IllegalStateException.class,
-            () -> resourceTable.createBatchObjects(organisationUnits, currentLevel));
+        new OrganisationUnitStructureResourceTable(Logged.UNLOGGED, 2);
 
-    assertEquals(
-        "Invalid hierarchy level or missing parent for organisation unit uid-123.",
-        ex.getMessage());
+    assertTrue(resourceTable.getPopulateTempTableContent().isEmpty());
   }
 }
@@ -34,6 +34,7 @@ import static org.jclouds.blobstore.options.ListContainerOptions.Builder.prefix;
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -49,6 +50,7 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipException;
 import java.util.zip.ZipFile;
@@ -83,6 +85,14 @@ public class JCloudsAppStorageService implements AppStorageService {
   private static final long FIVE_MINUTES_IN_SECONDS =
       Minutes.minutes(5).toStandardDuration().getStandardSeconds();
 
+  /** File extension of the precompressed variant of an app resource. */
+  public static final String GZIP_EXTENSION = ".gz";
+
+  private static final Set<String> PRECOMPRESS_EXTENSIONS =
+      Set.of("js", "mjs", "css", "html", "json", "map", "svg", "txt", "xml");
+
+  private static final long PRECOMPRESS_MIN_SIZE = 1024;
+
   private final JCloudsStore jCloudsStore;
 
   private final LocationManager locationManager;
@@ -263,6 +273,10 @@ public class JCloudsAppStorageService implements AppStorageService {
                       jCloudsStore.putBlob(blob);
 
                       input.close();
+
+                      if (isPrecompressible(zip, prefix, zipEntry)) {
+                        putPrecompressed(zip, zipEntry, dest + File.separator + name);
+                      }
                     } catch (IOException e) {
                       log.error("Unable to store app file '" + name + "'", e);
                     }
@@ -308,6 +322,39 @@ public class JCloudsAppStorageService implements AppStorageService {
     return app;
   }
 
+  /**
+   * Text based resources above a minimum size are stored in gzip compressed form next to the
+   * original, so that they can be served to clients accepting gzip without compressing them on
+   * every request. Apps that bring their own compressed resources are left alone.
+   */
+  private static boolean isPrecompressible(ZipFile zip, String prefix, ZipEntry zipEntry) {
+    String name = zipEntry.getName();
+    int extension = name.lastIndexOf('.');
+    return !zipEntry.isDirectory()
+        && zipEntry.getSize() >= PRECOMPRESS_MIN_SIZE
+        && extension > 0
+        && PRECOMPRESS_EXTENSIONS.contains(name.substring(extension + 1).toLowerCase())
+        && zip.getEntry(name + GZIP_EXTENSION) == null;
+  }
+
+  private void putPrecompressed(ZipFile zip, ZipEntry zipEntry, String key) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+    try (InputStream input = zip.getInputStream(zipEntry);
+        GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+      input.transferTo(gzip);
+    }
+
+    Blob blob =
+        jCloudsStore
+            .getBlobStore()
+            .blobBuilder(key + GZIP_EXTENSION)
+            .payload(bytes.toByteArray())
+            .contentLength(bytes.size())
+            .build();
+    jCloudsStore.putBlob(blob);
+  }
+
   @Override
   public Future<Boolean> deleteAppAsync(App app) {
     log.info("Deleting app {}", app.getName());
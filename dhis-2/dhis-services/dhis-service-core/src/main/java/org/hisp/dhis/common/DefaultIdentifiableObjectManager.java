@@ -852,13 +852,12 @@ public class DefaultIdentifiableObjectManager implements IdentifiableObjectManag
 
               if (p.isCollection()) {
                 Collection<?> targetObject = ReflectionUtils.newCollectionInstance(parameterType);
-                ReflectionUtils.invokeMethod(object, p.getSetterMethod(), targetObject);
+                p.setValue(object, targetObject);
               } else {
                 if (Primitives.isPrimitive(parameterType)) {
-                  ReflectionUtils.invokeMethod(
-                      object, p.getSetterMethod(), Defaults.defaultValue(parameterType));
+                  p.setValue(object, Defaults.defaultValue(parameterType));
                 } else {
-                  ReflectionUtils.invokeMethod(object, p.getSetterMethod(), (Object) null);
+                  p.setValue(object, null);
                 }
               }
             });
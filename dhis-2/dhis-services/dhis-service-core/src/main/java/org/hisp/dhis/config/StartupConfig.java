@@ -85,6 +85,7 @@ public class StartupConfig {
         new ConfigurationPopulator(configurationService, dhisConfigurationProvider);
     populator.setName("ConfigurationPopulator");
     populator.setRunlevel(12);
+    populator.setDependencies("ModelUpgrader");
     populator.setSkipInTests(true);
     return populator;
   }
@@ -94,6 +95,7 @@ public class StartupConfig {
     I18nLocalePopulator populator = new I18nLocalePopulator(i18nLocaleService);
     populator.setName("I18nLocalePopulator");
     populator.setRunlevel(13);
+    populator.setDependencies("ModelUpgrader");
     populator.setSkipInTests(true);
     return populator;
   }
@@ -113,6 +115,7 @@ public class StartupConfig {
     SettingUpgrader upgrader = new SettingUpgrader(settingsService);
     upgrader.setRunlevel(14);
     upgrader.setName("SettingUpgrader");
+    upgrader.setDependencies("ModelUpgrader");
     upgrader.setSkipInTests(true);
     return upgrader;
   }
@@ -40,6 +40,7 @@ import static org.hisp.dhis.dataapproval.DataApprovalState.UNAPPROVED_WAITING;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.criteria.CriteriaBuilder;
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -81,6 +82,8 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.support.rowset.SqlRowSet;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * @author Jim Grace
@@ -97,6 +100,8 @@ public class HibernateDataApprovalStore extends HibernateGenericStore<DataApprov
 
   private final Cache<Boolean> isApprovedCache;
 
+  private final Cache<List<ApprovalStatusRow>> statusRowCache;
+
   // -------------------------------------------------------------------------
   // Dependencies
   // -------------------------------------------------------------------------
@@ -136,6 +141,7 @@ public class HibernateDataApprovalStore extends HibernateGenericStore<DataApprov
     this.categoryService = categoryService;
     this.settingsProvider = settingsProvider;
     this.isApprovedCache = cacheProvider.createIsDataApprovedCache();
+    this.statusRowCache = cacheProvider.createDataApprovalStatusCache();
   }
 
   // -------------------------------------------------------------------------
@@ -144,7 +150,7 @@ public class HibernateDataApprovalStore extends HibernateGenericStore<DataApprov
 
   @Override
   public void addDataApproval(DataApproval dataApproval) {
-    isApprovedCache.invalidateAll();
+    invalidateCaches();
 
     dataApproval.setPeriod(periodService.reloadPeriod(dataApproval.getPeriod()));
 
@@ -153,7 +159,7 @@ public class HibernateDataApprovalStore extends HibernateGenericStore<DataApprov
 
   @Override
   public void updateDataApproval(DataApproval dataApproval) {
-    isApprovedCache.invalidateAll();
+    invalidateCaches();
 
     dataApproval.setPeriod(periodService.reloadPeriod(dataApproval.getPeriod()));
 
@@ -162,7 +168,7 @@ public class HibernateDataApprovalStore extends HibernateGenericStore<DataApprov
 
   @Override
   public void deleteDataApproval(DataApproval dataApproval) {
-    isApprovedCache.invalidateAll();
+    invalidateCaches();
 
     dataApproval.setPeriod(periodService.reloadPeriod(dataApproval.getPeriod()));
 
@@ -171,7 +177,7 @@ public class HibernateDataApprovalStore extends HibernateGenericStore<DataApprov
 
   @Override
   public void deleteDataApprovals(OrganisationUnit organisationUnit) {
-    isApprovedCache.invalidateAll();
+    invalidateCaches();
 
     String hql = "delete from DataApproval d where d.organisationUnit = :unit";
 
@@ -744,17 +750,15 @@ public class HibernateDataApprovalStore extends HibernateGenericStore<DataApprov
     // Fetch query results and process them
     // ---------------------------------------------------------------------
 
-    SqlRowSet rowSet = jdbcTemplate.queryForRowSet(sql);
-
     List<DataApprovalStatus> statusList = new ArrayList<>();
 
-    while (rowSet.next()) {
-      final String aocUid = rowSet.getString(1);
-      final String ouUid = rowSet.getString(2);
-      final String ouName = rowSet.getString(3);
-      final String highestApproved = rowSet.getString(4);
-      final boolean readyBelow = rowSet.getBoolean(5);
-      boolean approvedAbove = rowSet.getBoolean(6);
+    for (ApprovalStatusRow row : statusRowCache.get(sql, this::getApprovalStatusRows)) {
+      final String aocUid = row.aocUid();
+      final String ouUid = row.ouUid();
+      final String ouName = row.ouName();
+      final String highestApproved = row.highestApproved();
+      final boolean readyBelow = row.readyBelow();
+      boolean approvedAbove = row.approvedAbove();
 
       final String[] approved = highestApproved == null ? null : highestApproved.split(SQL_CONCAT);
       final int level = approved == null ? 0 : Integer.parseInt(approved[0]) - MAX_APPROVAL_LEVEL;
@@ -801,6 +805,58 @@ public class HibernateDataApprovalStore extends HibernateGenericStore<DataApprov
     return statusList;
   }
 
+  /**
+   * Runs the approval status query and returns the raw result rows. The SQL text includes every
+   * input of the query, including the current user, so it is used as the key of the status row
+   * cache.
+   *
+   * @param sql the approval status query.
+   * @return the approval status rows.
+   */
+  private List<ApprovalStatusRow> getApprovalStatusRows(String sql) {
+    SqlRowSet rowSet = jdbcTemplate.queryForRowSet(sql);
+
+    List<ApprovalStatusRow> rows = new ArrayList<>();
+
+    while (rowSet.next()) {
+      rows.add(
+          new ApprovalStatusRow(
+              rowSet.getString(1),
+              rowSet.getString(2),
+              rowSet.getString(3),
+              rowSet.getString(4),
+              rowSet.getBoolean(5),
+              rowSet.getBoolean(6)));
+    }
+
+    return rows;
+  }
+
+  /**
+   * Invalidates the cached approval lookups. Called whenever approvals are added, updated or
+   * deleted. The caches are cleared right away, so that the current transaction does not see stale
+   * entries, and again after the transaction committed, so that entries populated by concurrent
+   * readers from the state before the commit are dropped as well.
+   */
+  private void invalidateCaches() {
+    invalidateCachesNow();
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              invalidateCachesNow();
+            }
+          });
+    }
+  }
+
+  private void invalidateCachesNow() {
+    isApprovedCache.invalidateAll();
+    statusRowCache.invalidateAll();
+  }
+
   @Override
   public List<DataApproval> getByCategoryOptionCombo(@Nonnull Collection<UID> uids) {
     if (uids.isEmpty()) return List.of();
@@ -817,6 +873,7 @@ public class HibernateDataApprovalStore extends HibernateGenericStore<DataApprov
   @Override
   public void deleteByCategoryOptionCombo(@Nonnull Collection<UID> uids) {
     if (uids.isEmpty()) return;
+    invalidateCaches();
     String hql =
         """
         delete from DataApproval da
@@ -893,4 +950,17 @@ public class HibernateDataApprovalStore extends HibernateGenericStore<DataApprov
   private int pathPositionAtLevel(DataApprovalLevel level) {
     return pathPositionAtLevel(level.getOrgUnitLevel());
   }
+
+  /**
+   * Raw result row of the approval status query, holding only UIDs and primitive values so that it
+   * can be cached independently of the Hibernate session and shared between nodes.
+   */
+  private record ApprovalStatusRow(
+      String aocUid,
+      String ouUid,
+      String ouName,
+      String highestApproved,
+      boolean readyBelow,
+      boolean approvedAbove)
+      implements Serializable {}
 }
@@ -36,6 +36,9 @@ import static java.util.Arrays.asList;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -46,6 +49,7 @@ import org.hisp.dhis.datastore.DatastoreQuery;
 import org.hisp.dhis.datastore.DatastoreQuery.Comparison;
 import org.hisp.dhis.datastore.DatastoreQuery.Filter;
 import org.hisp.dhis.datastore.DatastoreQuery.Order;
+import org.hisp.dhis.hibernate.jsonb.type.JsonbFunctions;
 import org.hisp.dhis.system.util.SqlUtils;
 
 /**
@@ -77,6 +81,10 @@ public class DatastoreQueryBuilder {
     for (Filter f : query.getFilters()) {
       if (!f.getOperator().isUnary() && !f.isNullValue()) {
         setParameter.accept("f_" + i, toTypedFilterArgument(f));
+        String containment = toContainmentArgument(f);
+        if (containment != null) {
+          setParameter.accept("c_" + i, containment);
+        }
       }
       i++;
     }
@@ -145,10 +153,22 @@ public class DatastoreQueryBuilder {
       default:
         return filter.isNullValue()
             ? createNullnessFilterHQL(filter)
-            : createBinaryFilterHQL(filter, id);
+            : createIndexedBinaryFilterHQL(filter, id);
     }
   }
 
+  /**
+   * Equality filters are additionally expressed as containment check on the entire value. This is
+   * implied by the filter itself but can make use of a GIN index on the value column.
+   */
+  private static String createIndexedBinaryFilterHQL(Filter filter, int id) {
+    String hql = createBinaryFilterHQL(filter, id);
+    if (toContainmentArgument(filter) == null) {
+      return hql;
+    }
+    return format("(%s(jbPlainValue, :c_%d) = true and %s)", JsonbFunctions.CONTAINS, id, hql);
+  }
+
   private static String createBinaryFilterHQL(Filter filter, int id) {
     String prop = toValueAtPathHQL(filter.getPath());
     String placeholder = ":f_" + id;
@@ -278,6 +298,40 @@ public class DatastoreQueryBuilder {
     }
   }
 
+  /**
+   * @return the JSON value contained in any entry value matching the filter, or null if the filter
+   *     cannot be expressed as containment
+   */
+  private static String toContainmentArgument(Filter filter) {
+    if (filter.getOperator() != Comparison.EQUAL || filter.isKeyPath() || filter.isValuePath()) {
+      return null;
+    }
+    String[] segments = filter.getPath().split("\\.");
+    // numeric segments may be array indexes which are not supported by containment
+    if (Arrays.stream(segments).anyMatch(segment -> segment.matches("[0-9]+"))) {
+      return null;
+    }
+    JsonNodeFactory nodes = JsonNodeFactory.instance;
+    Object value = toTypedFilterArgument(filter);
+    JsonNode node =
+        switch (deriveNodeType(filter)) {
+          case "boolean" -> nodes.booleanNode((Boolean) value);
+          case "number" ->
+              value instanceof Integer i ? nodes.numberNode(i) : nodes.numberNode((Double) value);
+          case "string" -> nodes.textNode((String) value);
+          default -> null;
+        };
+    if (node == null) {
+      return null;
+    }
+    for (int i = segments.length - 1; i >= 0; i--) {
+      ObjectNode parent = nodes.objectNode();
+      parent.set(segments[i], node);
+      node = parent;
+    }
+    return node.toString();
+  }
+
   private static String toTextPatternArgument(Filter filter, String value) {
     String str =
         value.startsWith("'") && value.endsWith("'")
@@ -36,6 +36,7 @@ import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.function.Function;
 import javax.annotation.Nonnull;
@@ -108,6 +109,17 @@ public class HibernateDataValueAuditStore extends HibernateGenericStore<DataValu
     entityManager.createQuery(hql).setParameter("dataElement", dataElement).executeUpdate();
   }
 
+  @Override
+  public void deleteDataValueAudits(@Nonnull Collection<DataElement> dataElements) {
+    if (dataElements.isEmpty()) {
+      return;
+    }
+
+    String hql = "delete from DataValueAudit d where d.dataElement in (:dataElements)";
+
+    entityManager.createQuery(hql).setParameter("dataElements", dataElements).executeUpdate();
+  }
+
   @Override
   public void deleteDataValueAudits(@Nonnull CategoryOptionCombo categoryOptionCombo) {
     String hql =
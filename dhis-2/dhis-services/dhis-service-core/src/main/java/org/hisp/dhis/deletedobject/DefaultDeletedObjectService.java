@@ -29,7 +29,10 @@
  */
 package org.hisp.dhis.deletedobject;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -89,4 +92,10 @@ public class DefaultDeletedObjectService implements DeletedObjectService {
   public int countDeletedObjects(DeletedObjectQuery query) {
     return deletedObjectStore.count(query);
   }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Map<String, Date> getLastDeletedAt(Collection<String> klasses) {
+    return deletedObjectStore.getLastDeletedAt(klasses);
+  }
 }
@@ -35,7 +35,11 @@ import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.hibernate.Session;
 import org.hisp.dhis.common.Pager;
 import org.hisp.dhis.deletedobject.DeletedObject;
@@ -124,6 +128,23 @@ public class HibernateDeletedObjectStore implements DeletedObjectStore {
     return typedQuery.getResultList();
   }
 
+  @Override
+  public Map<String, Date> getLastDeletedAt(Collection<String> klasses) {
+    Map<String, Date> lastDeletedAt = new HashMap<>();
+    if (klasses.isEmpty()) {
+      return lastDeletedAt;
+    }
+    entityManager
+        .createQuery(
+            "select klass, max(deletedAt) from DeletedObject"
+                + " where klass in (:klasses) group by klass",
+            Object[].class)
+        .setParameter("klasses", klasses)
+        .getResultList()
+        .forEach(row -> lastDeletedAt.put((String) row[0], (Date) row[1]));
+    return lastDeletedAt;
+  }
+
   private Predicate buildCriteria(
       CriteriaBuilder builder, Root<DeletedObject> root, DeletedObjectQuery query) {
     Predicate predicate = builder.conjunction();
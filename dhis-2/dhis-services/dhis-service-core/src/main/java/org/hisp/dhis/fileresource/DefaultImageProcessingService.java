@@ -37,8 +37,13 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URLConnection;
 import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
 import lombok.extern.slf4j.Slf4j;
 import org.hisp.dhis.commons.util.DebugUtils;
 import org.imgscalr.Scalr;
@@ -56,6 +61,16 @@ public class DefaultImageProcessingService implements ImageProcessingService {
           ImageFileDimension.MEDIUM, new ImageSize(512, 512),
           ImageFileDimension.LARGE, new ImageSize(1024, 1024));
 
+  /** Dimensions to create, ordered from large to small so each can be resized from the last. */
+  private static final List<ImageFileDimension> RESIZED_DIMENSIONS =
+      List.of(ImageFileDimension.LARGE, ImageFileDimension.MEDIUM, ImageFileDimension.SMALL);
+
+  /**
+   * Images are decoded at no less than this multiple of the largest width to create, which keeps
+   * the quality of the resized images while avoiding to decode the full resolution.
+   */
+  private static final int SUBSAMPLING_MARGIN = 2;
+
   @Override
   public Map<ImageFileDimension, File> createImages(FileResource fileResource, File file) {
     if (!isInputValid(fileResource, file)) {
@@ -65,23 +80,32 @@ public class DefaultImageProcessingService implements ImageProcessingService {
     Map<ImageFileDimension, File> images = new EnumMap<>(ImageFileDimension.class);
 
     try {
-      BufferedImage image = ImageIO.read(file);
+      BufferedImage image = read(file, IMAGE_FILE_SIZES.get(RESIZED_DIMENSIONS.get(0)));
 
-      for (ImageFileDimension dimension : ImageFileDimension.values()) {
-        if (ImageFileDimension.ORIGINAL == dimension) {
-          images.put(dimension, file);
-          continue;
-        }
+      if (image == null) {
+        log.error("Image file resource cannot be decoded: " + fileResource.getName());
+        return new EnumMap<>(ImageFileDimension.class);
+      }
+
+      images.put(ImageFileDimension.ORIGINAL, file);
 
+      BufferedImage source = image;
+
+      for (ImageFileDimension dimension : RESIZED_DIMENSIONS) {
         ImageSize size = IMAGE_FILE_SIZES.get(dimension);
 
-        BufferedImage resizedImage = resize(image, size);
+        BufferedImage resizedImage = resize(source, size);
 
         File tempFile = new File(file.getPath() + dimension.getDimension());
 
         ImageIO.write(resizedImage, fileResource.getFormat(), tempFile);
 
         images.put(dimension, tempFile);
+
+        // Only downscaled images are used as source for the next smaller one
+        if (resizedImage.getWidth() < source.getWidth()) {
+          source = resizedImage;
+        }
       }
     } catch (IOException e) {
       log.error("Image file resource cannot be processed", e);
@@ -91,6 +115,36 @@ public class DefaultImageProcessingService implements ImageProcessingService {
     return images;
   }
 
+  /**
+   * Decodes the first image of the given file. Large images are subsampled while decoding so that
+   * they are not read at full resolution when only the given size is needed.
+   *
+   * @return the decoded image, or null if no reader for the image format is available.
+   */
+  private BufferedImage read(File file, ImageSize size) throws IOException {
+    try (ImageInputStream input = ImageIO.createImageInputStream(file)) {
+      Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+
+      if (readers == null || !readers.hasNext()) {
+        return null;
+      }
+
+      ImageReader reader = readers.next();
+
+      try {
+        reader.setInput(input, true, true);
+
+        ImageReadParam param = reader.getDefaultReadParam();
+        int subsampling = Math.max(1, reader.getWidth(0) / (size.width * SUBSAMPLING_MARGIN));
+        param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+
+        return reader.read(0, param);
+      } finally {
+        reader.dispose();
+      }
+    }
+  }
+
   private BufferedImage resize(BufferedImage image, ImageSize dimensions) {
     return Scalr.resize(
         image, Scalr.Method.BALANCED, Scalr.Mode.FIT_TO_WIDTH, dimensions.width, dimensions.height);
@@ -74,11 +74,20 @@ public class ImageResizingJob implements Job {
 
     List<FileResource> images = fileResourceService.getAllUnProcessedImagesFiles();
     progress.startingStage("Creating and storing images", images.size(), SKIP_ITEM_OUTLIER);
-    progress.runStage(images, FileResource::getStorageKey, this::storeImageFiles);
+    progress.runStageInParallel(
+        getParallelism(), images, FileResource::getStorageKey, this::storeImageFiles);
 
     progress.completedProcess(format("Number of FileResources processed: %d", images.size()));
   }
 
+  /**
+   * Resizing is CPU bound and each worker holds decoded images in memory, so at most half of the
+   * processors are used.
+   */
+  private static int getParallelism() {
+    return Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+  }
+
   private void storeImageFiles(FileResource image) {
     String key = image.getStorageKey();
 
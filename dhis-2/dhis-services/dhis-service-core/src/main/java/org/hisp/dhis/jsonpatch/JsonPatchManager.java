@@ -45,7 +45,6 @@ import org.hisp.dhis.commons.jackson.jsonpatch.JsonPatchOperation;
 import org.hisp.dhis.schema.Property;
 import org.hisp.dhis.schema.Schema;
 import org.hisp.dhis.schema.SchemaService;
-import org.hisp.dhis.system.util.ReflectionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -102,7 +101,7 @@ public class JsonPatchManager {
     for (Property property : schema.getProperties()) {
 
       if (property.isCollection()) {
-        Object data = ReflectionUtils.invokeMethod(object, property.getGetterMethod());
+        Object data = property.getValue(object);
 
         Collection<?> collection = (Collection<?>) data;
 
@@ -34,7 +34,6 @@ import java.util.Date;
 import java.util.Objects;
 import javax.annotation.Nonnull;
 import org.hisp.dhis.schema.Property;
-import org.hisp.dhis.system.util.ReflectionUtils;
 
 /**
  * @author Morten Olav Hansen <mortenoh@gmail.com>
@@ -76,8 +75,8 @@ public class Order {
   }
 
   public int compare(Object lside, Object rside) {
-    Object o1 = ReflectionUtils.invokeMethod(lside, property.getGetterMethod());
-    Object o2 = ReflectionUtils.invokeMethod(rside, property.getGetterMethod());
+    Object o1 = property.getValue(lside);
+    Object o2 = property.getValue(rside);
 
     if (o1 == o2) {
       return 0;
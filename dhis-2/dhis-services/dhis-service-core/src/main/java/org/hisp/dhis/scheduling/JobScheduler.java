@@ -49,6 +49,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hisp.dhis.monitoring.metrics.ApplicationMetrics;
 import org.hisp.dhis.setting.SystemSettingsService;
 import org.hisp.dhis.user.SystemUser;
 import org.springframework.stereotype.Component;
@@ -96,6 +97,7 @@ public class JobScheduler implements Runnable, JobRunner {
   private final JobService jobService;
   private final JobSchedulerLoopService service;
   private final SystemSettingsService settingsProvider;
+  private final ApplicationMetrics metrics;
   private final ExecutorService workers = Executors.newCachedThreadPool();
   private final Map<JobType, Queue<String>> continuousJobsByType = new ConcurrentHashMap<>();
 
@@ -224,6 +226,7 @@ public class JobScheduler implements Runnable, JobRunner {
       return;
     }
     log.debug("Running job %s");
+    ApplicationMetrics.Sample execution = metrics.start();
     JobProgress progress = null;
     try {
       settingsProvider.clearCurrentSettings(); // ensure working with recent settings
@@ -247,6 +250,7 @@ public class JobScheduler implements Runnable, JobRunner {
       if (progress != null) progress.failedProcess(ex);
       service.finishRunFail(jobId, ex);
     } finally {
+      execution.stop("job.execution", "jobType", config.getJobType().name());
       if (service.finishRunSuccess(jobId) && config.isUsedInQueue()) {
         JobConfiguration next =
             service.getNextInQueue(config.getQueueName(), config.getQueuePosition());
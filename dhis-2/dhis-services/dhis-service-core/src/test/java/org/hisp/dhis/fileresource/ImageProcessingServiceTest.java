@@ -33,14 +33,17 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Map;
 import javax.imageio.ImageIO;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.io.ClassPathResource;
 
@@ -111,4 +114,26 @@ class ImageProcessingServiceTest {
     Files.deleteIfExists(mediumImage.toPath());
     Files.deleteIfExists(largeImage.toPath());
   }
+
+  @Test
+  void test_create_images_from_large_image(@TempDir Path dir) throws IOException {
+    FileResource fileResource = new FileResource();
+    fileResource.setName("large");
+    fileResource.setContentType("image/png");
+
+    File file = dir.resolve("large.png").toFile();
+    ImageIO.write(new BufferedImage(5000, 2500, BufferedImage.TYPE_INT_RGB), "png", file);
+
+    Map<ImageFileDimension, File> images = subject.createImages(fileResource, file);
+
+    assertEquals(4, images.size());
+    assertEquals(file, images.get(ImageFileDimension.ORIGINAL));
+
+    BufferedImage largeImage = ImageIO.read(images.get(ImageFileDimension.LARGE));
+    assertEquals(LARGE_IMAGE_WIDTH, largeImage.getWidth());
+    assertEquals(LARGE_IMAGE_WIDTH / 2, largeImage.getHeight());
+    assertEquals(
+        MEDIUM_IMAGE_WIDTH, ImageIO.read(images.get(ImageFileDimension.MEDIUM)).getWidth());
+    assertEquals(SMALL_IMAGE_WIDTH, ImageIO.read(images.get(ImageFileDimension.SMALL)).getWidth());
+  }
 }
@@ -41,6 +41,10 @@ import static org.hisp.dhis.util.ObjectUtils.notNull;
 
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
 import javax.annotation.Nonnull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -61,16 +65,20 @@ import org.hisp.dhis.dxf2.datavalueset.DataValueSetService;
 import org.hisp.dhis.dxf2.importsummary.ImportStatus;
 import org.hisp.dhis.dxf2.importsummary.ImportSummaries;
 import org.hisp.dhis.dxf2.importsummary.ImportSummary;
+import org.hisp.dhis.external.conf.ConfigurationKey;
+import org.hisp.dhis.external.conf.DhisConfigurationProvider;
 import org.hisp.dhis.feedback.ErrorCode;
 import org.hisp.dhis.feedback.ForbiddenException;
 import org.hisp.dhis.scheduling.JobProgress;
 import org.hisp.dhis.scheduling.JobProgress.FailurePolicy;
 import org.hisp.dhis.security.acl.AclService;
+import org.hisp.dhis.system.executor.ExecutorRegistry;
 import org.hisp.dhis.user.UserDetails;
 import org.jasypt.encryption.pbe.PBEStringCleanablePasswordEncryptor;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.client.HttpClientErrorException;
 
 /**
@@ -92,6 +100,12 @@ public class AggregateDataExchangeService {
 
   private final AclService aclService;
 
+  private final DhisConfigurationProvider config;
+
+  private final ExecutorRegistry executorRegistry;
+
+  private final TransactionTemplate transactionTemplate;
+
   @Qualifier(AES_128_STRING_ENCRYPTOR)
   private final PBEStringCleanablePasswordEncryptor encryptor;
 
@@ -146,17 +160,42 @@ public class AggregateDataExchangeService {
       return summaries;
     }
 
-    progress.startingStage(toStageDescription(exchange), FailurePolicy.SKIP_ITEM);
-    progress.runStage(
-        exchange.getSource().getRequests().stream(),
-        AggregateDataExchangeService::toItemDescription,
-        AggregateDataExchangeService::toItemSummary,
-        request -> {
-          ImportSummary summary = exchangeData(exchange, request);
-          summaries.addImportSummary(summary);
-          return summary;
-        },
-        (success, failed) -> toStageSummary(success, failed, exchange));
+    List<SourceRequest> requests = exchange.getSource().getRequests();
+    progress.startingStage(toStageDescription(exchange), requests.size(), FailurePolicy.SKIP_ITEM);
+
+    ImportSummary[] results = new ImportSummary[requests.size()];
+    int concurrency =
+        Math.max(1, config.getIntProperty(ConfigurationKey.AGGREGATE_DATA_EXCHANGE_CONCURRENCY));
+    CompletionService<SourceData> sourceData =
+        new ExecutorCompletionService<>(
+            executorRegistry.getExecutor("aggregate-data-exchange", concurrency, concurrency));
+    TransactionTemplate sourceTransaction =
+        new TransactionTemplate(transactionTemplate.getTransactionManager());
+    sourceTransaction.setReadOnly(true);
+
+    int submitted = 0;
+    int completed = 0;
+    while (submitted < requests.size() && submitted < concurrency) {
+      sourceData.submit(toSourceDataTask(submitted, requests.get(submitted), sourceTransaction));
+      submitted++;
+    }
+    while (completed < submitted) {
+      SourceData data = takeSourceData(sourceData);
+      completed++;
+      if (submitted < requests.size() && !progress.isCancelled()) {
+        sourceData.submit(toSourceDataTask(submitted, requests.get(submitted), sourceTransaction));
+        submitted++;
+      }
+      results[data.index()] = exchangeData(exchange, requests.get(data.index()), data, progress);
+    }
+
+    for (ImportSummary summary : results) {
+      if (summary != null) {
+        summaries.addImportSummary(summary);
+      }
+    }
+
+    progress.completedStage(toStageSummary(completed, requests.size() - completed, exchange));
 
     return summaries;
   }
@@ -203,19 +242,97 @@ public class AggregateDataExchangeService {
   }
 
   /**
-   * Exchanges data from the source as defined by the given {@link SourceRequest} to the target as
-   * defined by the given {@link AggregateDataExchange}.
+   * The analytics data of a single {@link SourceRequest}, or the error that prevented fetching it.
+   *
+   * @param index the position of the request in the exchange source
+   * @param dataValueSet the fetched data, null when fetching failed
+   * @param error the error, null when fetching succeeded
+   * @param millis the time it took to fetch the data
+   */
+  private record SourceData(int index, DataValueSet dataValueSet, Exception error, long millis) {}
+
+  /**
+   * Returns a task fetching the analytics data for the given {@link SourceRequest}. The request
+   * only holds identifiers, the task resolves them to query parameters and runs the analytics query
+   * in its own read-only transaction, so that no entities are shared with the session of the
+   * exchange.
+   *
+   * @param index the position of the request in the exchange source.
+   * @param request the {@link SourceRequest}.
+   * @param sourceTransaction the read-only transaction to run the task in.
+   * @return a task returning the {@link SourceData}.
+   */
+  private Callable<SourceData> toSourceDataTask(
+      int index, SourceRequest request, TransactionTemplate sourceTransaction) {
+    return () -> {
+      long start = System.currentTimeMillis();
+      try {
+        DataValueSet dataValueSet =
+            sourceTransaction.execute(
+                status ->
+                    analyticsService.getAggregatedDataValueSet(
+                        toDataQueryParams(request, new SourceDataQueryParams())));
+        return new SourceData(index, dataValueSet, null, System.currentTimeMillis() - start);
+      } catch (Exception ex) {
+        return new SourceData(index, null, ex, System.currentTimeMillis() - start);
+      }
+    };
+  }
+
+  private static SourceData takeSourceData(CompletionService<SourceData> sourceData) {
+    try {
+      return sourceData.take().get();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while fetching aggregate data", ex);
+    } catch (ExecutionException ex) {
+      // tasks catch all exceptions, this only happens for errors
+      throw new IllegalStateException(ex.getCause());
+    }
+  }
+
+  /**
+   * Exchanges the data fetched for the given {@link SourceRequest} to the target as defined by the
+   * given {@link AggregateDataExchange}. This runs in the thread of the exchange, so that imports
+   * happen one at a time and in its transaction.
    *
    * @param exchange the {@link AggregateDataExchange}.
    * @param request the {@link SourceRequest}.
+   * @param data the fetched {@link SourceData}.
+   * @param progress to report the request as work item to.
    * @return an {@link ImportSummary} describing the outcome of the exchange.
    */
-  private ImportSummary exchangeData(AggregateDataExchange exchange, SourceRequest request) {
-    try {
-      DataValueSet dataValueSet =
-          analyticsService.getAggregatedDataValueSet(
-              toDataQueryParams(request, new SourceDataQueryParams()));
+  private ImportSummary exchangeData(
+      AggregateDataExchange exchange,
+      SourceRequest request,
+      SourceData data,
+      JobProgress progress) {
+    progress.startingWorkItem(toItemDescription(request));
+    long start = System.currentTimeMillis();
+    ImportSummary summary =
+        data.error() != null
+            ? new ImportSummary(ImportStatus.ERROR, data.error().getMessage())
+            : exchangeData(exchange, data.dataValueSet());
+    int rows = data.dataValueSet() == null ? 0 : data.dataValueSet().getDataValues().size();
+    progress.completedWorkItem(
+        "{} ({} data values, source: {} ms, target: {} ms)",
+        toItemSummary(summary),
+        rows,
+        data.millis(),
+        System.currentTimeMillis() - start);
+    return summary;
+  }
 
+  /**
+   * Exchanges the given {@link DataValueSet} to the target as defined by the given {@link
+   * AggregateDataExchange}.
+   *
+   * @param exchange the {@link AggregateDataExchange}.
+   * @param dataValueSet the {@link DataValueSet}.
+   * @return an {@link ImportSummary} describing the outcome of the exchange.
+   */
+  private ImportSummary exchangeData(AggregateDataExchange exchange, DataValueSet dataValueSet) {
+    try {
       return exchange.getTarget().getType() == TargetType.INTERNAL
           ? pushToInternal(exchange, dataValueSet)
           : pushToExternal(exchange, dataValueSet);
@@ -37,13 +37,20 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.nullable;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.hisp.dhis.analytics.AggregationType;
 import org.hisp.dhis.analytics.AnalyticsAggregationType;
 import org.hisp.dhis.analytics.AnalyticsService;
@@ -62,17 +69,25 @@ import org.hisp.dhis.dxf2.datavalueset.DataValueSetService;
 import org.hisp.dhis.dxf2.importsummary.ImportStatus;
 import org.hisp.dhis.dxf2.importsummary.ImportSummaries;
 import org.hisp.dhis.dxf2.importsummary.ImportSummary;
+import org.hisp.dhis.external.conf.ConfigurationKey;
+import org.hisp.dhis.external.conf.DhisConfigurationProvider;
 import org.hisp.dhis.feedback.ForbiddenException;
 import org.hisp.dhis.importexport.ImportStrategy;
 import org.hisp.dhis.scheduling.JobProgress;
 import org.hisp.dhis.security.acl.AclService;
+import org.hisp.dhis.system.executor.ExecutorRegistry;
 import org.hisp.dhis.user.User;
 import org.hisp.dhis.user.UserDetails;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @ExtendWith(MockitoExtension.class)
 class AggregateDataExchangeServiceTest {
@@ -86,13 +101,36 @@ class AggregateDataExchangeServiceTest {
 
   @Mock private DataValueSetService dataValueSetService;
 
+  @Mock private DhisConfigurationProvider config;
+
+  @Mock private ExecutorRegistry executorRegistry;
+
+  @Mock private TransactionTemplate transactionTemplate;
+
+  @Mock private PlatformTransactionManager transactionManager;
+
   @InjectMocks private AggregateDataExchangeService service;
 
-  @Test
+  private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+  @BeforeEach
+  void setUp() {
+    lenient()
+        .when(config.getIntProperty(ConfigurationKey.AGGREGATE_DATA_EXCHANGE_CONCURRENCY))
+        .thenReturn(2);
+    lenient()
+        .when(executorRegistry.getExecutor(anyString(), anyInt(), anyInt()))
+        .thenReturn(executor);
+    lenient().when(transactionTemplate.getTransactionManager()).thenReturn(transactionManager);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
   @SuppressWarnings("unchecked")
-  void testExchangeData() {
-    when(analyticsService.getAggregatedDataValueSet(any(DataQueryParams.class)))
-        .thenReturn(new DataValueSet());
+  private void mockDimensions() {
     when(dataQueryService.getDimension(
             eq(DimensionalObject.DATA_X_DIM_ID),
             any(),
@@ -126,6 +164,14 @@ class AggregateDataExchangeServiceTest {
         .thenReturn(
             new BaseDimensionalObject(
                 DimensionalObject.ORGUNIT_DIM_ID, DimensionType.ORGANISATION_UNIT, List.of()));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void testExchangeData() {
+    when(analyticsService.getAggregatedDataValueSet(any(DataQueryParams.class)))
+        .thenReturn(new DataValueSet());
+    mockDimensions();
     when(dataValueSetService.importDataValueSet(any(DataValueSet.class), any(ImportOptions.class)))
         .thenReturn(new ImportSummary(ImportStatus.SUCCESS));
     when(aclService.canDataWrite(any(UserDetails.class), any(IdentifiableObject.class)))
@@ -159,6 +205,60 @@ class AggregateDataExchangeServiceTest {
     assertEquals(ImportStatus.SUCCESS, summary.getStatus());
   }
 
+  @Test
+  void testExchangeDataConcurrently() {
+    mockDimensions();
+    when(analyticsService.getAggregatedDataValueSet(any(DataQueryParams.class)))
+        .thenReturn(new DataValueSet())
+        .thenThrow(new IllegalStateException("Analytics failed"))
+        .thenReturn(new DataValueSet());
+    when(dataValueSetService.importDataValueSet(any(DataValueSet.class), any(ImportOptions.class)))
+        .thenReturn(new ImportSummary(ImportStatus.SUCCESS));
+    when(aclService.canDataWrite(any(UserDetails.class), any(IdentifiableObject.class)))
+        .thenReturn(true);
+
+    List<SourceRequest> sourceRequests =
+        List.of(
+            new SourceRequest()
+                .setName("A")
+                .setDx(List.of("Vz0C3i4Wy3M"))
+                .setPe(List.of("202101"))
+                .setOu(List.of("lGgJFgRkZui")),
+            new SourceRequest()
+                .setName("B")
+                .setDx(List.of("Vz0C3i4Wy3M"))
+                .setPe(List.of("202102"))
+                .setOu(List.of("lGgJFgRkZui")),
+            new SourceRequest()
+                .setName("C")
+                .setDx(List.of("Vz0C3i4Wy3M"))
+                .setPe(List.of("202103"))
+                .setOu(List.of("lGgJFgRkZui")));
+    Target target =
+        new Target().setType(TargetType.INTERNAL).setApi(new Api()).setRequest(new TargetRequest());
+    AggregateDataExchange exchange =
+        new AggregateDataExchange()
+            .setSource(new Source().setRequests(sourceRequests))
+            .setTarget(target);
+
+    ImportSummaries summaries =
+        service.exchangeData(UserDetails.fromUser(new User()), exchange, JobProgress.noop());
+
+    assertEquals(3, summaries.getImportSummaries().size());
+    assertEquals(
+        2,
+        summaries.getImportSummaries().stream()
+            .filter(summary -> summary.getStatus() == ImportStatus.SUCCESS)
+            .count());
+    assertEquals(
+        1,
+        summaries.getImportSummaries().stream()
+            .filter(summary -> summary.getStatus() == ImportStatus.ERROR)
+            .count());
+    // each source request is resolved and fetched in its own read-only transaction
+    verify(transactionManager, times(3)).getTransaction(argThat(TransactionDefinition::isReadOnly));
+  }
+
   @Test
   @SuppressWarnings("unchecked")
   void testToDataQueryParams() {
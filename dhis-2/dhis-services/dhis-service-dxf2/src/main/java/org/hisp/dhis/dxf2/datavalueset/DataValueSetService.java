@@ -34,6 +34,7 @@ import java.io.OutputStream;
 import java.io.Writer;
 import java.util.Date;
 import java.util.List;
+import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
 import org.hisp.dhis.common.IdSchemes;
 import org.hisp.dhis.dataset.DataSet;
@@ -74,16 +75,23 @@ public interface DataValueSetService {
   void exportDataValueSetJson(Date lastUpdated, OutputStream outputStream, IdSchemes idSchemes);
 
   /**
-   * Query for {@link DataValueSet DataValueSets} and write result as JSON.
+   * Query for a page of {@link DataValueSet DataValueSets} ordered by last updated and write the
+   * result as JSON.
    *
-   * @param lastUpdated specifies the date to filter complete data sets last updated after
+   * @param lastUpdated specifies the date to filter data values last updated after
+   * @param after the cursor of the last value of the previous page, or null for the first page
    * @param outputStream the stream to write to
    * @param idSchemes idSchemes
-   * @param pageSize pageSize
-   * @param page page
+   * @param pageSize maximum number of values to write
+   * @return the cursor of the last value written, or null if the page was empty
    */
-  void exportDataValueSetJson(
-      Date lastUpdated, OutputStream outputStream, IdSchemes idSchemes, int pageSize, int page);
+  @CheckForNull
+  DataValueSyncCursor exportDataValueSetJson(
+      Date lastUpdated,
+      @CheckForNull DataValueSyncCursor after,
+      OutputStream outputStream,
+      IdSchemes idSchemes,
+      int pageSize);
 
   void exportDataValueSetCsv(DataExportParams params, Writer writer);
 
@@ -32,6 +32,7 @@ package org.hisp.dhis.dxf2.datavalueset;
 import java.io.OutputStream;
 import java.io.Writer;
 import java.util.Date;
+import javax.annotation.CheckForNull;
 import org.hisp.dhis.common.IdSchemes;
 import org.hisp.dhis.datavalue.DataExportParams;
 
@@ -55,14 +56,22 @@ public interface DataValueSetStore {
   void exportDataValueSetJson(Date lastUpdated, OutputStream outputStream, IdSchemes idSchemes);
 
   /**
-   * Query for {@link DataValueSet DataValueSets} and write result as JSON.
+   * Query for a page of {@link DataValueSet DataValueSets} ordered by last updated and write the
+   * result as JSON. Pages are addressed by a keyset cursor rather than an offset so that later
+   * pages are as cheap to read as the first.
    *
-   * @param lastUpdated specifies the date to filter complete data sets last updated after
+   * @param lastUpdated specifies the date to filter data values last updated after
+   * @param after the cursor of the last value of the previous page, or null for the first page
    * @param outputStream the stream to write to
    * @param idSchemes idSchemes
-   * @param pageSize pageSize
-   * @param page page
+   * @param pageSize maximum number of values to write
+   * @return the cursor of the last value written, or null if the page was empty
    */
-  void exportDataValueSetJson(
-      Date lastUpdated, OutputStream outputStream, IdSchemes idSchemes, int pageSize, int page);
+  @CheckForNull
+  DataValueSyncCursor exportDataValueSetJson(
+      Date lastUpdated,
+      @CheckForNull DataValueSyncCursor after,
+      OutputStream outputStream,
+      IdSchemes idSchemes,
+      int pageSize);
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2004-2022, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.dxf2.datavalueset;
+
+import java.sql.Timestamp;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+
+/**
+ * Position of a data value in the order used to page through changed data values for
+ * synchronization, which is by last updated and then by the primary key of the data value.
+ *
+ * <p>A page starting after a cursor is read from the index on last updated, so its cost does not
+ * grow with the number of values synchronized before. Values sharing the last updated timestamp of
+ * the cursor are sorted by their primary key.
+ *
+ * @param lastUpdated last updated timestamp of the data value with full precision
+ */
+public record DataValueSyncCursor(
+    @Nonnull Timestamp lastUpdated,
+    long dataElementId,
+    long periodId,
+    long orgUnitId,
+    long categoryOptionComboId,
+    long attributeOptionComboId) {
+
+  private static final String SEPARATOR = "|";
+
+  /**
+   * The timestamp is written as epoch milliseconds and nanoseconds, so the text does not depend on
+   * the time zone of the server.
+   *
+   * @return the cursor as text, the inverse of {@link #decode(String)}
+   */
+  @Nonnull
+  public String encode() {
+    return String.join(
+        SEPARATOR,
+        String.valueOf(lastUpdated.getTime()),
+        String.valueOf(lastUpdated.getNanos()),
+        String.valueOf(dataElementId),
+        String.valueOf(periodId),
+        String.valueOf(orgUnitId),
+        String.valueOf(categoryOptionComboId),
+        String.valueOf(attributeOptionComboId));
+  }
+
+  /**
+   * @param text a cursor as returned by {@link #encode()}
+   * @return the cursor, or null if the text is empty or not a valid cursor
+   */
+  @CheckForNull
+  public static DataValueSyncCursor decode(@CheckForNull String text) {
+    if (text == null || text.isEmpty()) return null;
+    String[] parts = text.split("\\|");
+    if (parts.length != 7) return null;
+    try {
+      Timestamp lastUpdated = new Timestamp(Long.parseLong(parts[0]));
+      lastUpdated.setNanos(Integer.parseInt(parts[1]));
+      return new DataValueSyncCursor(
+          lastUpdated,
+          Long.parseLong(parts[2]),
+          Long.parseLong(parts[3]),
+          Long.parseLong(parts[4]),
+          Long.parseLong(parts[5]),
+          Long.parseLong(parts[6]));
+    } catch (IllegalArgumentException ex) {
+      return null;
+    }
+  }
+}
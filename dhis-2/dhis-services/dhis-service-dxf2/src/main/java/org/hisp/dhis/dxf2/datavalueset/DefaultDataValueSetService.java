@@ -89,6 +89,7 @@ import org.hisp.dhis.i18n.I18nManager;
 import org.hisp.dhis.importexport.ImportStrategy;
 import org.hisp.dhis.jdbc.batchhandler.DataValueAuditBatchHandler;
 import org.hisp.dhis.jdbc.batchhandler.DataValueBatchHandler;
+import org.hisp.dhis.monitoring.metrics.ApplicationMetrics;
 import org.hisp.dhis.node.types.CollectionNode;
 import org.hisp.dhis.node.types.ComplexNode;
 import org.hisp.dhis.node.types.RootNode;
@@ -135,6 +136,8 @@ public class DefaultDataValueSetService implements DataValueSetService {
 
   private static final int CACHE_MISS_THRESHOLD = 250;
 
+  private static final String DATA_VALUE_IMPORT_METRIC = "datavalue.import";
+
   private final IdentifiableObjectManager identifiableObjectManager;
 
   private final CategoryService categoryService;
@@ -173,6 +176,8 @@ public class DefaultDataValueSetService implements DataValueSetService {
 
   private final UserService userService;
 
+  private final ApplicationMetrics metrics;
+
   // -------------------------------------------------------------------------
   // DataValueSet implementation
   // -------------------------------------------------------------------------
@@ -387,9 +392,14 @@ public class DefaultDataValueSetService implements DataValueSetService {
 
   @Override
   @Transactional
-  public void exportDataValueSetJson(
-      Date lastUpdated, OutputStream outputStream, IdSchemes idSchemes, int pageSize, int page) {
-    dataValueSetStore.exportDataValueSetJson(lastUpdated, outputStream, idSchemes, pageSize, page);
+  public DataValueSyncCursor exportDataValueSetJson(
+      Date lastUpdated,
+      DataValueSyncCursor after,
+      OutputStream outputStream,
+      IdSchemes idSchemes,
+      int pageSize) {
+    return dataValueSetStore.exportDataValueSetJson(
+        lastUpdated, after, outputStream, idSchemes, pageSize);
   }
 
   @Override
@@ -674,6 +684,7 @@ public class DefaultDataValueSetService implements DataValueSetService {
     DataValueSet dataValueSet =
         progress.nonNullStagePostCondition(progress.runStage(reader::readHeader));
 
+    ApplicationMetrics.Sample preheat = metrics.start();
     progress.startingStage("Creating import context");
     ImportContext context =
         progress.nonNullStagePostCondition(
@@ -690,11 +701,14 @@ public class DefaultDataValueSetService implements DataValueSetService {
     ImportContext.DataSetContext dataSetContext =
         progress.nonNullStagePostCondition(
             progress.runStage(() -> createDataSetContext(context, dataValueSet)));
+    preheat.stop(DATA_VALUE_IMPORT_METRIC, "phase", "preheat");
 
+    ApplicationMetrics.Sample validation = metrics.start();
     progress.startingStage("Run data set validation");
     Boolean abort =
         progress.runStage(
             () -> importValidator.abortDataSetImport(dataValueSet, context, dataSetContext));
+    validation.stop(DATA_VALUE_IMPORT_METRIC, "phase", "validation");
     if (abort == null || abort) {
       context.getSummary().setDescription("Import process was aborted");
       return context.getSummary();
@@ -722,6 +736,7 @@ public class DefaultDataValueSetService implements DataValueSetService {
 
     Date now = new Date();
 
+    ApplicationMetrics.Sample persist = metrics.start();
     List<? extends DataValueEntry> values = dataValueSet.getDataValues();
     int index = 0;
     if (values != null && !values.isEmpty()) {
@@ -746,6 +761,7 @@ public class DefaultDataValueSetService implements DataValueSetService {
       dataValue = reader.readNext();
     }
     if (hasItems) progress.completedStage("Import summary: " + importCount);
+    persist.stop(DATA_VALUE_IMPORT_METRIC, "phase", "persist");
 
     context
         .getSummary()
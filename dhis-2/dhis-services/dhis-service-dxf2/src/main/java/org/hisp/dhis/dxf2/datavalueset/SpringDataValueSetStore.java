@@ -116,19 +116,55 @@ public class SpringDataValueSetStore implements DataValueSetStore {
   }
 
   @Override
-  public void exportDataValueSetJson(
-      Date lastUpdated, OutputStream out, IdSchemes idSchemes, int pageSize, int page) {
+  public DataValueSyncCursor exportDataValueSetJson(
+      Date lastUpdated,
+      DataValueSyncCursor after,
+      OutputStream out,
+      IdSchemes idSchemes,
+      int pageSize) {
+    String sql = buildDataValueSql(lastUpdated, idSchemes);
+    Object[] args = {};
+    if (after != null) {
+      // the plain range condition allows to use the index on lastupdated
+      sql +=
+          "and dv.lastupdated >= ? and (dv.lastupdated, dv.dataelementid, dv.periodid, dv.sourceid, "
+              + "dv.categoryoptioncomboid, dv.attributeoptioncomboid) > (?, ?, ?, ?, ?, ?) ";
+      args =
+          new Object[] {
+            after.lastUpdated(),
+            after.lastUpdated(),
+            after.dataElementId(),
+            after.periodId(),
+            after.orgUnitId(),
+            after.categoryOptionComboId(),
+            after.attributeOptionComboId()
+          };
+    }
+    sql +=
+        "order by dv.lastupdated, dv.dataelementid, dv.periodid, dv.sourceid, "
+            + "dv.categoryoptioncomboid, dv.attributeoptioncomboid limit "
+            + pageSize;
+
+    DataValueSyncCursor[] last = {null};
     try (DataValueSetWriter writer = new JsonDataValueSetWriter(out)) {
-      final int offset = (page - 1) * pageSize;
-      final String sql =
-          buildDataValueSql(lastUpdated, idSchemes)
-              + "order by pe.startdate asc, dv.created asc, deid asc limit "
-              + pageSize
-              + " offset "
-              + offset;
-
-      exportDataValueSet(sql, new DataExportParams(), null, writer);
-    }
+      writer.writeHeader();
+      final Calendar calendar = PeriodType.getCalendar();
+      jdbcTemplate.query(
+          sql,
+          (ResultSet rs) -> {
+            writer.writeValue(new ResultSetDataValueEntry(rs, calendar));
+            last[0] =
+                new DataValueSyncCursor(
+                    rs.getTimestamp("lastupdated"),
+                    rs.getLong("dataelementid"),
+                    rs.getLong("periodid"),
+                    rs.getLong("sourceid"),
+                    rs.getLong("categoryoptioncomboid"),
+                    rs.getLong("attributeoptioncomboid"));
+          },
+          args);
+    }
+    return last[0];
   }
 
   private String buildDataValueSql(Date lastUpdated, IdSchemes idSchemes) {
@@ -150,7 +186,8 @@ public class SpringDataValueSetStore implements DataValueSetStore {
             + " as cocid, aoc."
             + aocScheme
             + " as aocid, "
-            + "dv.value, dv.storedby, dv.created, dv.lastupdated, dv.comment, dv.followup, dv.deleted "
+            + "dv.value, dv.storedby, dv.created, dv.lastupdated, dv.comment, dv.followup, dv.deleted, "
+            + "dv.dataelementid, dv.periodid, dv.sourceid, dv.categoryoptioncomboid, dv.attributeoptioncomboid "
             + "from datavalue dv "
             + "join dataelement de on (dv.dataelementid=de.dataelementid) "
             + "join period pe on (dv.periodid=pe.periodid) "
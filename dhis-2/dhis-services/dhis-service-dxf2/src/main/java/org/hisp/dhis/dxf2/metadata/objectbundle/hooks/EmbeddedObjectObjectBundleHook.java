@@ -67,8 +67,7 @@ public class EmbeddedObjectObjectBundleHook extends AbstractObjectBundleHook<Ide
         .forEach(
             propertyName -> {
               Property property = schema.getEmbeddedObjectProperties().get(propertyName);
-              Object propertyObject =
-                  ReflectionUtils.invokeMethod(object, property.getGetterMethod());
+              Object propertyObject = property.getValue(object);
 
               if (property.getPropertyType().equals(PropertyType.COMPLEX)) {
                 schemaValidator
@@ -132,10 +131,10 @@ public class EmbeddedObjectObjectBundleHook extends AbstractObjectBundleHook<Ide
         if (ReflectionUtils.isSharingProperty(property) && bundle.isSkipSharing()) {
           continue;
         }
-        Collection<?> collection = ReflectionUtils.invokeMethod(object, property.getGetterMethod());
+        Collection<?> collection = property.getValue(object);
         if (collection != null) collection.clear();
       } else {
-        ReflectionUtils.invokeMethod(object, property.getSetterMethod(), (Object) null);
+        property.setValue(object, null);
       }
     }
   }
@@ -143,7 +142,7 @@ public class EmbeddedObjectObjectBundleHook extends AbstractObjectBundleHook<Ide
   private void handleEmbeddedObjects(
       IdentifiableObject object, ObjectBundle bundle, Collection<Property> properties) {
     for (Property property : properties) {
-      Object propertyObject = ReflectionUtils.invokeMethod(object, property.getGetterMethod());
+      Object propertyObject = property.getValue(object);
 
       if (property.isCollection()) {
         Collection<?> objects = (Collection<?>) propertyObject;
@@ -173,12 +172,11 @@ public class EmbeddedObjectObjectBundleHook extends AbstractObjectBundleHook<Ide
 
     for (Property embeddedProperty : embeddedSchema.getPropertyMap().values()) {
       if (PeriodType.class.isAssignableFrom(embeddedProperty.getKlass())) {
-        PeriodType periodType =
-            ReflectionUtils.invokeMethod(object, embeddedProperty.getGetterMethod());
+        PeriodType periodType = embeddedProperty.getValue(object);
 
         if (periodType != null) {
           periodType = bundle.getPreheat().getPeriodTypeMap().get(periodType.getName());
-          ReflectionUtils.invokeMethod(object, embeddedProperty.getSetterMethod(), periodType);
+          embeddedProperty.setValue(object, periodType);
         }
       }
     }
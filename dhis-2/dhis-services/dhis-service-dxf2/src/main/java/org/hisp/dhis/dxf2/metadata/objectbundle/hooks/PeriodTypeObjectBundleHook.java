@@ -37,7 +37,6 @@ import org.hisp.dhis.period.PeriodService;
 import org.hisp.dhis.period.PeriodType;
 import org.hisp.dhis.schema.Property;
 import org.hisp.dhis.schema.Schema;
-import org.hisp.dhis.system.util.ReflectionUtils;
 import org.springframework.stereotype.Component;
 
 /**
@@ -54,12 +53,12 @@ public class PeriodTypeObjectBundleHook extends AbstractObjectBundleHook<Identif
 
     for (Property property : schema.getPropertyMap().values()) {
       if (PeriodType.class.isAssignableFrom(property.getKlass())) {
-        PeriodType periodType = ReflectionUtils.invokeMethod(object, property.getGetterMethod());
+        PeriodType periodType = property.getValue(object);
 
         if (periodType != null) {
           periodType = bundle.getPreheat().getPeriodTypeMap().get(periodType.getName());
           periodType = periodService.reloadPeriodType(periodType);
-          ReflectionUtils.invokeMethod(object, property.getSetterMethod(), periodType);
+          property.setValue(object, periodType);
         }
       }
     }
@@ -72,11 +71,11 @@ public class PeriodTypeObjectBundleHook extends AbstractObjectBundleHook<Identif
 
     for (Property property : schema.getPropertyMap().values()) {
       if (PeriodType.class.isAssignableFrom(property.getKlass())) {
-        PeriodType periodType = ReflectionUtils.invokeMethod(object, property.getGetterMethod());
+        PeriodType periodType = property.getValue(object);
 
         if (periodType != null) {
           periodType = bundle.getPreheat().getPeriodTypeMap().get(periodType.getName());
-          ReflectionUtils.invokeMethod(object, property.getSetterMethod(), periodType);
+          property.setValue(object, periodType);
         }
       }
     }
@@ -49,7 +49,6 @@ import org.hisp.dhis.preheat.PreheatIdentifier;
 import org.hisp.dhis.schema.Property;
 import org.hisp.dhis.schema.PropertyType;
 import org.hisp.dhis.schema.Schema;
-import org.hisp.dhis.system.util.ReflectionUtils;
 import org.springframework.stereotype.Component;
 
 /**
@@ -134,7 +133,7 @@ public class NotOwnerReferencesCheck implements ValidationCheck {
       return;
     }
 
-    IdentifiableObject refObject = ReflectionUtils.invokeMethod(object, p.getGetterMethod());
+    IdentifiableObject refObject = p.getValue(object);
 
     if (refObject != null) {
       preheatErrorReports.add(
@@ -153,8 +152,7 @@ public class NotOwnerReferencesCheck implements ValidationCheck {
       PreheatIdentifier identifier,
       List<PreheatErrorReport> preheatErrorReports,
       Property p) {
-    Collection<IdentifiableObject> refObjects =
-        ReflectionUtils.invokeMethod(object, p.getGetterMethod());
+    Collection<IdentifiableObject> refObjects = p.getValue(object);
 
     if (refObjects == null) {
       return;
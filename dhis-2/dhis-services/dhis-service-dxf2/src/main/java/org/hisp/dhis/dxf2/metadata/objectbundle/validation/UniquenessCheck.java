@@ -49,7 +49,6 @@ import org.hisp.dhis.preheat.Preheat;
 import org.hisp.dhis.preheat.PreheatIdentifier;
 import org.hisp.dhis.schema.Property;
 import org.hisp.dhis.schema.Schema;
-import org.hisp.dhis.system.util.ReflectionUtils;
 import org.springframework.stereotype.Component;
 
 /**
@@ -120,7 +119,7 @@ public class UniquenessCheck implements ObjectValidationCheck {
     List<ErrorReport> errorReports = new ArrayList<>();
     uniqueProperties.forEach(
         property -> {
-          Object value = ReflectionUtils.invokeMethod(object, property.getGetterMethod());
+          Object value = property.getValue(object);
 
           if (value != null) {
             String objectIdentifier =
@@ -30,32 +30,58 @@
 package org.hisp.dhis.dxf2.sync;
 
 import static java.lang.String.format;
+import static org.hisp.dhis.external.conf.ConfigurationKey.DATA_SYNC_PAGES_IN_FLIGHT;
 import static org.hisp.dhis.scheduling.JobProgress.FailurePolicy.SKIP_ITEM;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Date;
-import java.util.stream.IntStream;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+import javax.annotation.CheckForNull;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 import org.hisp.dhis.common.IdSchemes;
 import org.hisp.dhis.datavalue.DataValueService;
 import org.hisp.dhis.dxf2.datavalueset.DataValueSetService;
+import org.hisp.dhis.dxf2.datavalueset.DataValueSyncCursor;
 import org.hisp.dhis.dxf2.metadata.sync.exception.MetadataSyncServiceException;
+import org.hisp.dhis.external.conf.DhisConfigurationProvider;
 import org.hisp.dhis.scheduling.JobProgress;
 import org.hisp.dhis.setting.SystemSettings;
 import org.hisp.dhis.setting.SystemSettingsService;
+import org.hisp.dhis.system.executor.ExecutorRegistry;
 import org.hisp.dhis.system.util.CodecUtils;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RequestCallback;
 import org.springframework.web.client.RestTemplate;
 
 /**
+ * Synchronizes data values changed since the last successful run to the remote server.
+ *
+ * <p>Values are read in pages ordered by last updated using a keyset cursor. Each page is gzip
+ * compressed and sent while the next pages are read, with at most {@link
+ * org.hisp.dhis.external.conf.ConfigurationKey#DATA_SYNC_PAGES_IN_FLIGHT} pages in flight. The
+ * cursor after the last page acknowledged in order is stored as a checkpoint, so that a failed run
+ * is resumed from there by the next run.
+ *
  * @author David Katuscak <katuscak.d@gmail.com>
  * @author Jan Bernitt (job progress tracking refactoring)
  */
+@Slf4j
 @Component
 @AllArgsConstructor
 public class DataValueSynchronization implements DataSynchronizationWithPaging {
+  private static final String CHECKPOINT_KEY = "keyDataSynchCheckpoint";
+
   private final DataValueService dataValueService;
 
   private final DataValueSetService dataValueSetService;
@@ -64,13 +90,19 @@ public class DataValueSynchronization implements DataSynchronizationWithPaging {
 
   private final RestTemplate restTemplate;
 
+  private final DhisConfigurationProvider config;
+
+  private final ExecutorRegistry executorRegistry;
+
   @Getter
   private static final class DataValueSynchronisationContext
       extends PagedDataSynchronisationContext {
     private final Date lastUpdatedAfter;
 
+    @CheckForNull private final DataValueSyncCursor checkpoint;
+
     public DataValueSynchronisationContext(Date skipChangedBefore, int pageSize) {
-      this(skipChangedBefore, 0, null, pageSize, null);
+      this(skipChangedBefore, 0, null, pageSize, null, null);
     }
 
     public DataValueSynchronisationContext(
@@ -78,9 +110,27 @@ public class DataValueSynchronization implements DataSynchronizationWithPaging {
         int objectsToSynchronize,
         SystemInstance instance,
         int pageSize,
-        Date lastUpdatedAfter) {
+        Date lastUpdatedAfter,
+        DataValueSyncCursor checkpoint) {
       super(skipChangedBefore, objectsToSynchronize, instance, pageSize);
       this.lastUpdatedAfter = lastUpdatedAfter;
+      this.checkpoint = checkpoint;
+    }
+  }
+
+  /**
+   * Keeps track of the pages acknowledged by the remote server. As pages complete out of order the
+   * checkpoint only advances over the pages that are all acknowledged.
+   */
+  private final class Checkpoint {
+    private final NavigableMap<Integer, DataValueSyncCursor> acknowledged = new TreeMap<>();
+    private int next = 1;
+
+    synchronized void acknowledge(int page, DataValueSyncCursor end) {
+      acknowledged.put(page, end);
+      DataValueSyncCursor cursor = null;
+      while (acknowledged.containsKey(next)) cursor = acknowledged.remove(next++);
+      if (cursor != null) settingsService.put(CHECKPOINT_KEY, cursor.encode());
     }
   }
 
@@ -113,6 +163,7 @@ public class DataValueSynchronization implements DataSynchronizationWithPaging {
     if (runSyncWithPaging(context, progress)) {
       progress.completedProcess("SUCCESS! DataValueSynchronization job is done.");
       settingsService.put("keyLastSuccessfulDataSynch", context.getStartTime());
+      settingsService.put(CHECKPOINT_KEY, "");
       return SynchronizationResult.success("DataValueSynchronization done.");
     }
 
@@ -128,16 +179,25 @@ public class DataValueSynchronization implements DataSynchronizationWithPaging {
     Date lastUpdatedAfter =
         lastSuccessTime.after(skipChangedBefore) ? lastSuccessTime : skipChangedBefore;
 
-    int objectsToSynchronize =
-        dataValueService.getDataValueCountLastUpdatedAfter(lastUpdatedAfter, true);
+    // a checkpoint before the start of this run is outdated
+    DataValueSyncCursor checkpoint = DataValueSyncCursor.decode(settings.getDataSynchCheckpoint());
+    if (checkpoint != null && checkpoint.lastUpdated().before(lastUpdatedAfter)) checkpoint = null;
+    Date countAfter = checkpoint == null ? lastUpdatedAfter : checkpoint.lastUpdated();
+
+    int objectsToSynchronize = dataValueService.getDataValueCountLastUpdatedAfter(countAfter, true);
 
     if (objectsToSynchronize != 0) {
       SystemInstance instance = SyncUtils.getRemoteInstance(settings, SyncEndpoint.DATA_VALUE_SETS);
       return new DataValueSynchronisationContext(
-          skipChangedBefore, objectsToSynchronize, instance, pageSize, lastUpdatedAfter);
+          skipChangedBefore,
+          objectsToSynchronize,
+          instance,
+          pageSize,
+          lastUpdatedAfter,
+          checkpoint);
     }
     return new DataValueSynchronisationContext(
-        skipChangedBefore, 0, null, pageSize, lastUpdatedAfter);
+        skipChangedBefore, 0, null, pageSize, lastUpdatedAfter, checkpoint);
   }
 
   private boolean runSyncWithPaging(DataValueSynchronisationContext context, JobProgress progress) {
@@ -148,37 +208,105 @@ public class DataValueSynchronization implements DataSynchronizationWithPaging {
             + context.getPages()
             + " pages to sync. With page size: "
             + context.getPageSize();
+    if (context.getCheckpoint() != null)
+      msg += ". Resuming after " + context.getCheckpoint().lastUpdated();
 
     progress.startingStage(msg, context.getPages(), SKIP_ITEM);
-    progress.runStage(
-        IntStream.range(1, context.getPages() + 1).boxed(),
-        page -> format("Synchronizing page %d with page size %d", page, context.getPageSize()),
-        page -> synchronizePage(page, context));
-    return !progress.isSkipCurrentStage();
+
+    int pagesInFlight = Math.max(1, config.getIntProperty(DATA_SYNC_PAGES_IN_FLIGHT));
+    ExecutorService executor =
+        executorRegistry.getExecutor("data-value-sync", pagesInFlight, pagesInFlight);
+    Semaphore inFlight = new Semaphore(pagesInFlight);
+    Checkpoint checkpoint = new Checkpoint();
+    AtomicInteger failed = new AtomicInteger();
+    DataValueSyncCursor cursor = context.getCheckpoint();
+    int pages = 0;
+    try {
+      try {
+        while (!progress.isCancelled()) {
+          Page page = exportPage(context, cursor);
+          if (page == null) break;
+          int pageNo = ++pages;
+          inFlight.acquire();
+          executor.execute(
+              () -> {
+                try {
+                  synchronizePage(pageNo, page, context, checkpoint, progress);
+                } catch (RuntimeException ex) {
+                  failed.incrementAndGet();
+                } finally {
+                  inFlight.release();
+                }
+              });
+          cursor = page.end();
+        }
+      } finally {
+        // wait for the pages still in flight
+        inFlight.acquire(pagesInFlight);
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      progress.failedStage(ex);
+      return false;
+    }
+    progress.completedStage("{} pages synchronized, {} failed", pages - failed.get(), failed.get());
+    return failed.get() == 0 && !progress.isCancelled();
+  }
+
+  /**
+   * @param end cursor of the last value in the page
+   * @param body the page as gzip compressed JSON
+   */
+  private record Page(DataValueSyncCursor end, byte[] body) {}
+
+  @CheckForNull
+  private Page exportPage(
+      DataValueSynchronisationContext context, @CheckForNull DataValueSyncCursor after) {
+    ByteArrayOutputStream body = new ByteArrayOutputStream();
+    DataValueSyncCursor end;
+    try (GZIPOutputStream gzip = new GZIPOutputStream(body)) {
+      end =
+          dataValueSetService.exportDataValueSetJson(
+              context.getLastUpdatedAfter(), after, gzip, new IdSchemes(), context.getPageSize());
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+    return end == null ? null : new Page(end, body.toByteArray());
   }
 
-  protected void synchronizePage(int page, DataValueSynchronisationContext context) {
-    if (!sendSyncRequest(page, context)) {
-      throw new MetadataSyncServiceException(format("Page %d synchronisation failed.", page));
+  private void synchronizePage(
+      int pageNo,
+      Page page,
+      DataValueSynchronisationContext context,
+      Checkpoint checkpoint,
+      JobProgress progress) {
+    progress.startingWorkItem(
+        format("Synchronizing page %d with page size %d", pageNo, context.getPageSize()));
+    try {
+      if (!sendSyncRequest(page.body(), context)) {
+        throw new MetadataSyncServiceException(format("Page %d synchronisation failed.", pageNo));
+      }
+      checkpoint.acknowledge(pageNo, page.end());
+      progress.completedWorkItem(null);
+    } catch (RuntimeException ex) {
+      log.warn(ex.getMessage());
+      progress.failedWorkItem(ex);
+      throw ex;
     }
   }
 
-  private boolean sendSyncRequest(int page, DataValueSynchronisationContext context) {
+  private boolean sendSyncRequest(byte[] body, DataValueSynchronisationContext context) {
     SystemInstance instance = context.getInstance();
-    Date lastUpdatedAfter = context.getLastUpdatedAfter();
-    int syncPageSize = context.getPageSize();
 
     RequestCallback requestCallback =
         request -> {
-          request.getHeaders().setContentType(MediaType.APPLICATION_JSON);
-          request
-              .getHeaders()
-              .add(
-                  SyncUtils.HEADER_AUTHORIZATION,
-                  CodecUtils.getBasicAuthString(instance.getUsername(), instance.getPassword()));
-
-          dataValueSetService.exportDataValueSetJson(
-              lastUpdatedAfter, request.getBody(), new IdSchemes(), syncPageSize, page);
+          HttpHeaders headers = request.getHeaders();
+          headers.setContentType(MediaType.APPLICATION_JSON);
+          headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+          headers.add(
+              SyncUtils.HEADER_AUTHORIZATION,
+              CodecUtils.getBasicAuthString(instance.getUsername(), instance.getPassword()));
+          request.getBody().write(body);
         };
 
     return SyncUtils.sendSyncRequest(
@@ -79,6 +79,7 @@ import org.hisp.dhis.i18n.I18n;
 import org.hisp.dhis.i18n.I18nManager;
 import org.hisp.dhis.jdbc.batchhandler.CompleteDataSetRegistrationBatchHandler;
 import org.hisp.dhis.message.MessageService;
+import org.hisp.dhis.monitoring.metrics.ApplicationMetrics;
 import org.hisp.dhis.organisationunit.OrganisationUnit;
 import org.hisp.dhis.organisationunit.OrganisationUnitService;
 import org.hisp.dhis.period.MonthlyPeriodType;
@@ -182,7 +183,11 @@ class DefaultCompleteDataSetRegistrationExchangeServiceTest {
     CacheBuilderProvider cacheBuilderProvider = new DefaultCacheBuilderProvider();
 
     DefaultCacheProvider cacheContext =
-        new DefaultCacheProvider(cacheBuilderProvider, environment, dhisConfigurationProvider);
+        new DefaultCacheProvider(
+            cacheBuilderProvider,
+            environment,
+            dhisConfigurationProvider,
+            ApplicationMetrics.noop());
     InputUtils inputUtils = new InputUtils(categoryService, idObjManager, cacheContext);
 
     DefaultAggregateAccessManager aggregateAccessManager =
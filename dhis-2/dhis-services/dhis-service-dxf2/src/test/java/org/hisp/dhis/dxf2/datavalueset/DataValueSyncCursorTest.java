@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2004-2022, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.dxf2.datavalueset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.sql.Timestamp;
+import java.util.TimeZone;
+import org.junit.jupiter.api.Test;
+
+class DataValueSyncCursorTest {
+
+  @Test
+  void testEncodeDecode() {
+    Timestamp lastUpdated = Timestamp.valueOf("2024-03-01 10:15:30.123456");
+    DataValueSyncCursor cursor = new DataValueSyncCursor(lastUpdated, 1L, 2L, 3L, 4L, 5L);
+
+    DataValueSyncCursor decoded = DataValueSyncCursor.decode(cursor.encode());
+
+    assertEquals(cursor, decoded);
+    assertEquals(123456000, decoded.lastUpdated().getNanos());
+  }
+
+  @Test
+  void testEncodeDecode_IndependentOfTimeZone() {
+    TimeZone timeZone = TimeZone.getDefault();
+    try {
+      TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+      Timestamp lastUpdated = Timestamp.valueOf("2024-03-01 10:15:30.123456");
+      String encoded = new DataValueSyncCursor(lastUpdated, 1L, 2L, 3L, 4L, 5L).encode();
+
+      TimeZone.setDefault(TimeZone.getTimeZone("America/New_York"));
+      DataValueSyncCursor decoded = DataValueSyncCursor.decode(encoded);
+
+      assertEquals(lastUpdated.getTime(), decoded.lastUpdated().getTime());
+      assertEquals(lastUpdated.getNanos(), decoded.lastUpdated().getNanos());
+    } finally {
+      TimeZone.setDefault(timeZone);
+    }
+  }
+
+  @Test
+  void testDecode_Invalid() {
+    assertNull(DataValueSyncCursor.decode(null));
+    assertNull(DataValueSyncCursor.decode(""));
+    assertNull(DataValueSyncCursor.decode("1709288130123|123456000|1|2"));
+    assertNull(DataValueSyncCursor.decode("2024-03-01 10:15:30.123456|1|2|3|4|5"));
+    assertNull(DataValueSyncCursor.decode("yesterday|0|1|2|3|4|5"));
+    assertNull(DataValueSyncCursor.decode("1709288130123|1000000000|1|2|3|4|5"));
+  }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2004-2022, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.dxf2.sync;
+
+import static org.hisp.dhis.external.conf.ConfigurationKey.DATA_SYNC_PAGES_IN_FLIGHT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import org.hisp.dhis.common.IdSchemes;
+import org.hisp.dhis.datavalue.DataValueService;
+import org.hisp.dhis.dxf2.datavalueset.DataValueSetService;
+import org.hisp.dhis.dxf2.datavalueset.DataValueSyncCursor;
+import org.hisp.dhis.dxf2.importsummary.ImportStatus;
+import org.hisp.dhis.dxf2.importsummary.ImportSummary;
+import org.hisp.dhis.external.conf.DhisConfigurationProvider;
+import org.hisp.dhis.scheduling.JobProgress;
+import org.hisp.dhis.setting.SystemSettings;
+import org.hisp.dhis.setting.SystemSettingsService;
+import org.hisp.dhis.system.executor.ExecutorRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class DataValueSynchronizationTest {
+  private static final String CHECKPOINT_KEY = "keyDataSynchCheckpoint";
+
+  private static final int PAGE_SIZE = 2;
+
+  @Mock private DataValueService dataValueService;
+
+  @Mock private DataValueSetService dataValueSetService;
+
+  @Mock private SystemSettingsService settingsService;
+
+  @Mock private RestTemplate restTemplate;
+
+  @Mock private DhisConfigurationProvider config;
+
+  private final ExecutorRegistry executorRegistry = new ExecutorRegistry();
+
+  private final List<DataValueSyncCursor> cursors =
+      List.of(createCursor(1), createCursor(2), createCursor(3));
+
+  private final AtomicInteger exported = new AtomicInteger();
+
+  private final CountDownLatch lastPageExported = new CountDownLatch(1);
+
+  private final AtomicInteger inFlight = new AtomicInteger();
+
+  private final AtomicInteger maxInFlight = new AtomicInteger();
+
+  private DataValueSynchronization synchronization;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    synchronization =
+        new DataValueSynchronization(
+            dataValueService,
+            dataValueSetService,
+            settingsService,
+            restTemplate,
+            config,
+            executorRegistry);
+
+    when(settingsService.getCurrentSettings())
+        .thenReturn(
+            SystemSettings.of(
+                Map.of(
+                    "keyRemoteInstanceUrl", "http://remote",
+                    "keyRemoteInstanceUsername", "admin",
+                    "keyRemoteInstancePassword", "district")));
+    when(restTemplate.exchange(
+            anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class)))
+        .thenReturn(ResponseEntity.ok("pong"));
+    when(dataValueService.getDataValueCountLastUpdatedAfter(any(Date.class), eq(true)))
+        .thenReturn(cursors.size() * PAGE_SIZE);
+    when(config.getIntProperty(DATA_SYNC_PAGES_IN_FLIGHT)).thenReturn(2);
+    when(dataValueSetService.exportDataValueSetJson(
+            any(Date.class), any(), any(OutputStream.class), any(IdSchemes.class), eq(PAGE_SIZE)))
+        .thenAnswer(
+            invocation -> {
+              int page = exported.incrementAndGet();
+              if (page > cursors.size()) {
+                return null;
+              }
+              OutputStream out = invocation.getArgument(2);
+              out.write(page);
+              if (page == cursors.size()) {
+                lastPageExported.countDown();
+              }
+              return cursors.get(page - 1);
+            });
+  }
+
+  @AfterEach
+  void tearDown() {
+    executorRegistry.shutdown();
+  }
+
+  @Test
+  void testSynchronizeDataSendsPagesWhileExporting() {
+    mockSendPages(Set.of());
+
+    SynchronizationResult result = synchronization.synchronizeData(PAGE_SIZE, JobProgress.noop());
+
+    assertEquals(SynchronizationStatus.SUCCESS, result.status);
+    assertEquals(2, maxInFlight.get());
+    InOrder order = inOrder(settingsService);
+    order.verify(settingsService).put(CHECKPOINT_KEY, cursors.get(2).encode());
+    order.verify(settingsService).put(CHECKPOINT_KEY, "");
+  }
+
+  @Test
+  void testSynchronizeDataKeepsCheckpointBeforeFailedPage() {
+    mockSendPages(Set.of(1));
+
+    SynchronizationResult result = synchronization.synchronizeData(PAGE_SIZE, JobProgress.noop());
+
+    assertEquals(SynchronizationStatus.FAILURE, result.status);
+    // pages 2 and 3 were acknowledged but must not be skipped by the next run
+    verify(settingsService, never()).put(eq(CHECKPOINT_KEY), any());
+    verify(settingsService, never()).put(eq("keyLastSuccessfulDataSynch"), any());
+  }
+
+  /**
+   * Each send waits until the last page was exported, so that all pages are only sent once the
+   * export ran ahead of them.
+   *
+   * @param failingPages the pages the remote server rejects
+   */
+  private void mockSendPages(Set<Integer> failingPages) {
+    when(restTemplate.execute(
+            anyString(),
+            eq(HttpMethod.POST),
+            any(RequestCallback.class),
+            any(ResponseExtractor.class)))
+        .thenAnswer(
+            invocation -> {
+              int page = readPage(invocation.getArgument(2));
+              maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+              try {
+                boolean exportedAhead = lastPageExported.await(10, TimeUnit.SECONDS);
+                return new ImportSummary(
+                    exportedAhead && !failingPages.contains(page)
+                        ? ImportStatus.SUCCESS
+                        : ImportStatus.ERROR);
+              } finally {
+                inFlight.decrementAndGet();
+              }
+            });
+  }
+
+  private static int readPage(RequestCallback callback) throws IOException {
+    ClientHttpRequest request = mock(ClientHttpRequest.class);
+    ByteArrayOutputStream body = new ByteArrayOutputStream();
+    when(request.getHeaders()).thenReturn(new HttpHeaders());
+    when(request.getBody()).thenReturn(body);
+    callback.doWithRequest(request);
+    try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(body.toByteArray()))) {
+      return in.read();
+    }
+  }
+
+  private static DataValueSyncCursor createCursor(int page) {
+    return new DataValueSyncCursor(new Timestamp(page * 1000L), page, 1L, 1L, 1L, 1L);
+  }
+}
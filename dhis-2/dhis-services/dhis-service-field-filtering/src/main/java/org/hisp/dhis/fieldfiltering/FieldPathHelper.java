@@ -51,7 +51,6 @@ import org.hisp.dhis.schema.PropertyType;
 import org.hisp.dhis.schema.Schema;
 import org.hisp.dhis.schema.SchemaService;
 import org.hisp.dhis.security.acl.Access;
-import org.hisp.dhis.system.util.ReflectionUtils;
 import org.hisp.dhis.user.sharing.Sharing;
 import org.hisp.dhis.user.sharing.UserAccess;
 import org.hisp.dhis.user.sharing.UserGroupAccess;
@@ -266,14 +265,13 @@ public class FieldPathHelper {
     }
 
     if (property.isCollection()) {
-      Collection<?> currentObjects =
-          ReflectionUtils.invokeMethod(object, property.getGetterMethod());
+      Collection<?> currentObjects = property.getValue(object);
 
       for (Object o : currentObjects) {
         visitFieldPath(o, new ArrayList<>(paths), objectConsumer);
       }
     } else {
-      Object currentObject = ReflectionUtils.invokeMethod(object, property.getGetterMethod());
+      Object currentObject = property.getValue(object);
       visitFieldPath(currentObject, new ArrayList<>(paths), objectConsumer);
     }
   }
@@ -377,7 +377,7 @@ public class DefaultFieldFilterService implements FieldFilterService {
         continue;
       }
 
-      Object returnValue = ReflectionUtils.invokeMethod(object, property.getGetterMethod());
+      Object returnValue = property.getValue(object);
 
       Class<?> propertyClass = property.getKlass();
       Schema propertySchema = schemaService.getDynamicSchema(propertyClass);
@@ -689,7 +689,7 @@ public class DefaultFieldFilterService implements FieldFilterService {
         continue;
       }
 
-      Object returnValue = ReflectionUtils.invokeMethod(object, property.getGetterMethod());
+      Object returnValue = property.getValue(object);
 
       SimpleNode simpleNode = new SimpleNode(field, returnValue);
       simpleNode.setAttribute(property.isAttribute());
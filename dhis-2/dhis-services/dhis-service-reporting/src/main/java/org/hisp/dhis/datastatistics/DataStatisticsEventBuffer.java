@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2004-2022, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.datastatistics;
+
+import com.google.common.collect.Lists;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+/**
+ * Collects {@link DataStatisticsEvent}s in memory and writes them to the store in batches, either
+ * every {@link #FLUSH_INTERVAL} or as soon as {@link #FLUSH_SIZE} events are waiting, whichever
+ * comes first. This keeps the write off the request recording the view.
+ *
+ * <p>Events that are buffered when the server crashes are lost, which is at most the events of one
+ * flush interval. When the store cannot be written the events are kept up to {@link #MAX_SIZE},
+ * events beyond that are dropped.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DataStatisticsEventBuffer {
+
+  static final Duration FLUSH_INTERVAL = Duration.ofSeconds(5);
+
+  static final int FLUSH_SIZE = 500;
+
+  static final int MAX_SIZE = 50_000;
+
+  private final DataStatisticsEventStore dataStatisticsEventStore;
+
+  private final TaskScheduler scheduler;
+
+  private final Queue<DataStatisticsEvent> events = new ConcurrentLinkedQueue<>();
+
+  private final AtomicInteger size = new AtomicInteger();
+
+  private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+  @PostConstruct
+  public void init() {
+    scheduler.scheduleWithFixedDelay(this::flush, FLUSH_INTERVAL);
+  }
+
+  @PreDestroy
+  public void close() {
+    flush();
+  }
+
+  /**
+   * Adds an event to be written with the next flush.
+   *
+   * @param event the event to record
+   */
+  public void add(DataStatisticsEvent event) {
+    if (size.incrementAndGet() > MAX_SIZE) {
+      size.decrementAndGet();
+      log.warn("Data statistics event buffer is full, dropping {} event", event.getEventType());
+      return;
+    }
+    events.add(event);
+    if (size.get() >= FLUSH_SIZE && flushScheduled.compareAndSet(false, true)) {
+      scheduler.schedule(this::flush, Instant.now());
+    }
+  }
+
+  /** Writes all buffered events to the store. */
+  public synchronized void flush() {
+    flushScheduled.set(false);
+    List<DataStatisticsEvent> batch = new ArrayList<>(Math.min(size.get(), MAX_SIZE));
+    DataStatisticsEvent event = events.poll();
+    while (event != null) {
+      batch.add(event);
+      event = events.poll();
+    }
+    List<List<DataStatisticsEvent>> chunks = Lists.partition(batch, FLUSH_SIZE);
+    for (int i = 0; i < chunks.size(); i++) {
+      List<DataStatisticsEvent> chunk = chunks.get(i);
+      try {
+        dataStatisticsEventStore.insertAll(chunk);
+        size.addAndGet(-chunk.size());
+      } catch (RuntimeException ex) {
+        List<DataStatisticsEvent> retry = batch.subList(i * FLUSH_SIZE, batch.size());
+        log.warn("Failed to write {} data statistics events, will retry", retry.size(), ex);
+        events.addAll(retry);
+        return;
+      }
+    }
+  }
+}
@@ -73,6 +73,8 @@ public class DefaultDataStatisticsService implements DataStatisticsService {
 
   private final DataStatisticsEventStore dataStatisticsEventStore;
 
+  private final DataStatisticsEventBuffer dataStatisticsEventBuffer;
+
   private final UserService userService;
 
   private final IdentifiableObjectManager idObjectManager;
@@ -96,6 +98,11 @@ public class DefaultDataStatisticsService implements DataStatisticsService {
     return event.getId();
   }
 
+  @Override
+  public void recordEvent(DataStatisticsEvent event) {
+    dataStatisticsEventBuffer.add(event);
+  }
+
   @Override
   public List<AggregatedStatistics> getReports(
       Date startDate, Date endDate, EventInterval eventInterval) {
@@ -177,6 +184,7 @@ public class DefaultDataStatisticsService implements DataStatisticsService {
 
   @Override
   public long saveDataStatisticsSnapshot(JobProgress progress) {
+    dataStatisticsEventBuffer.flush();
     return saveDataStatistics(getDataStatisticsSnapshot(new Date(), progress));
   }
 
@@ -33,12 +33,16 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import static org.hisp.dhis.system.util.SqlUtils.escape;
 import static org.hisp.dhis.util.DateUtils.asSqlDate;
 
+import com.google.common.collect.Lists;
 import jakarta.persistence.EntityManager;
+import java.sql.Timestamp;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.stream.Stream;
 import org.hisp.dhis.analytics.SortOrder;
 import org.hisp.dhis.datastatistics.DataStatisticsEvent;
 import org.hisp.dhis.datastatistics.DataStatisticsEventStore;
@@ -50,6 +54,7 @@ import org.hisp.dhis.setting.UserSettings;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.Assert;
 
@@ -61,6 +66,18 @@ import org.springframework.util.Assert;
 public class HibernateDataStatisticsEventStore extends HibernateGenericStore<DataStatisticsEvent>
     implements DataStatisticsEventStore {
 
+  /** Number of events inserted by a single multi-row insert statement. */
+  private static final int INSERT_BATCH_SIZE = 500;
+
+  /** The event types recorded as events, as opposed to those computed from them. */
+  private static final List<DataStatisticsEventType> VIEW_TYPES =
+      Stream.of(DataStatisticsEventType.values())
+          .filter(
+              type ->
+                  type != DataStatisticsEventType.TOTAL_VIEW
+                      && type != DataStatisticsEventType.ACTIVE_USERS)
+          .toList();
+
   private final SystemSettingsProvider settingsProvider;
 
   public HibernateDataStatisticsEventStore(
@@ -79,11 +96,19 @@ public class HibernateDataStatisticsEventStore extends HibernateGenericStore<Dat
       Date startDate, Date endDate) {
     Map<DataStatisticsEventType, Double> eventTypeCountMap = new HashMap<>();
 
-    final String sql =
-        "select eventtype as eventtype, count(eventtype) as numberofviews "
+    // one pass over the range of the timestamp index for all counts
+    StringBuilder sql = new StringBuilder("select ");
+    for (DataStatisticsEventType type : VIEW_TYPES) {
+      sql.append("count(*) filter (where eventtype = '")
+          .append(type.name())
+          .append("') as ")
+          .append(type.name().toLowerCase())
+          .append(", ");
+    }
+    sql.append(
+        "count(eventtype) as total, count(distinct username) as activeusers "
             + "from datastatisticsevent "
-            + "where timestamp between ? and ? "
-            + "group by eventtype;";
+            + "where timestamp between ? and ?;");
 
     PreparedStatementSetter pss =
         (ps) -> {
@@ -93,39 +118,46 @@ public class HibernateDataStatisticsEventStore extends HibernateGenericStore<Dat
         };
 
     jdbcTemplate.query(
-        sql,
-        pss,
-        (rs, i) ->
-            eventTypeCountMap.put(
-                DataStatisticsEventType.valueOf(rs.getString("eventtype")),
-                rs.getDouble("numberofviews")));
-
-    final String totalSql =
-        "select count(eventtype) as total "
-            + "from datastatisticsevent "
-            + "where timestamp between ? and ?;";
-
-    jdbcTemplate.query(
-        totalSql,
+        sql.toString(),
         pss,
-        (resultSet, i) ->
-            eventTypeCountMap.put(
-                DataStatisticsEventType.TOTAL_VIEW, resultSet.getDouble("total")));
-
-    final String activeUsersSql =
-        "select count(distinct username) as activeusers "
-            + "from datastatisticsevent "
-            + "where timestamp between ? and ?;";
-    jdbcTemplate.query(
-        activeUsersSql,
-        pss,
-        (resultSet, i) ->
-            eventTypeCountMap.put(
-                DataStatisticsEventType.ACTIVE_USERS, resultSet.getDouble("activeusers")));
+        (RowCallbackHandler)
+            rs -> {
+              for (DataStatisticsEventType type : VIEW_TYPES) {
+                double views = rs.getDouble(type.name().toLowerCase());
+                if (views > 0) {
+                  eventTypeCountMap.put(type, views);
+                }
+              }
+              eventTypeCountMap.put(DataStatisticsEventType.TOTAL_VIEW, rs.getDouble("total"));
+              eventTypeCountMap.put(
+                  DataStatisticsEventType.ACTIVE_USERS, rs.getDouble("activeusers"));
+            });
 
     return eventTypeCountMap;
   }
 
+  @Override
+  public void insertAll(List<DataStatisticsEvent> events) {
+    for (List<DataStatisticsEvent> batch : Lists.partition(events, INSERT_BATCH_SIZE)) {
+      String sql =
+          "insert into datastatisticsevent (eventid, eventtype, timestamp, username, favoriteuid) values "
+              + String.join(
+                  ",",
+                  Collections.nCopies(batch.size(), "(nextval('hibernate_sequence'), ?, ?, ?, ?)"));
+      jdbcTemplate.update(
+          sql,
+          ps -> {
+            int i = 1;
+            for (DataStatisticsEvent event : batch) {
+              ps.setString(i++, event.getEventType().name());
+              ps.setTimestamp(i++, new Timestamp(event.getTimestamp().getTime()));
+              ps.setString(i++, event.getUsername());
+              ps.setString(i++, event.getFavoriteUid());
+            }
+          });
+    }
+  }
+
   @Override
   public List<FavoriteStatistics> getFavoritesData(
       DataStatisticsEventType eventType, int pageSize, SortOrder sortOrder, String username) {
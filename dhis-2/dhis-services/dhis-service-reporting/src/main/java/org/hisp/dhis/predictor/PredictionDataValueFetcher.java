@@ -43,6 +43,7 @@ import static org.hisp.dhis.system.util.MathUtils.addDoubleObjects;
 import static org.hisp.dhis.system.util.ValidationUtils.getObjectValue;
 import static org.hisp.dhis.util.ObjectUtils.firstNonNull;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -51,6 +52,7 @@ import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.hisp.dhis.category.CategoryOptionCombo;
@@ -172,6 +174,9 @@ public class PredictionDataValueFetcher implements Runnable {
    */
   private static final int DDV_BLOCKING_QUEUE_SIZE = 1;
 
+  private static final ThreadFactory PRODUCER_THREAD_FACTORY =
+      new ThreadFactoryBuilder().setNameFormat("PREDICTION-DATA-FETCH-%d").setDaemon(true).build();
+
   public PredictionDataValueFetcher(
       DataValueService dataValueService,
       CategoryService categoryService,
@@ -236,7 +241,9 @@ public class PredictionDataValueFetcher implements Runnable {
       return;
     }
 
-    ExecutorService executor = Executors.newSingleThreadExecutor();
+    // The producer needs a thread of its own. A shared bounded pool could run it on this thread
+    // when saturated, which would block on the full queue before anything consumes from it.
+    ExecutorService executor = Executors.newSingleThreadExecutor(PRODUCER_THREAD_FACTORY);
     executor.execute(this); // Invoke run() on another thread
     executor.shutdown();
 
@@ -45,9 +45,13 @@ import java.util.Calendar;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import javax.annotation.CheckForNull;
 import javax.imageio.ImageIO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -70,6 +74,7 @@ import org.hisp.dhis.message.MessageSender;
 import org.hisp.dhis.outboundmessage.OutboundMessageResponse;
 import org.hisp.dhis.scheduling.JobProgress;
 import org.hisp.dhis.setting.SystemSettingsProvider;
+import org.hisp.dhis.system.executor.ExecutorRegistry;
 import org.hisp.dhis.system.grid.GridUtils;
 import org.hisp.dhis.system.util.ChartUtils;
 import org.hisp.dhis.system.velocity.VelocityManager;
@@ -85,6 +90,7 @@ import org.jfree.chart.JFreeChart;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.MimeTypeUtils;
 
 /**
@@ -97,6 +103,9 @@ import org.springframework.util.MimeTypeUtils;
 public class DefaultPushAnalysisService implements PushAnalysisService {
   private static final Encoder encoder = new Encoder();
 
+  /** Number of distinct access profiles for which dashboard items are rendered concurrently. */
+  private static final int RENDERING_THREADS = 4;
+
   private final SystemSettingsProvider settingsProvider;
 
   private final DhisConfigurationProvider dhisConfigurationProvider;
@@ -117,6 +126,10 @@ public class DefaultPushAnalysisService implements PushAnalysisService {
 
   private final MessageSender emailMessageSender;
 
+  private final ExecutorRegistry executorRegistry;
+
+  private final TransactionTemplate transactionTemplate;
+
   @Qualifier("org.hisp.dhis.pushanalysis.PushAnalysisStore")
   private final IdentifiableObjectStore<PushAnalysis> pushAnalysisStore;
 
@@ -192,6 +205,17 @@ public class DefaultPushAnalysisService implements PushAnalysisService {
         receivingUsers.size(),
         skippedUsers.stream().map(User::getUsername).collect(joining(",")));
 
+    // ----------------------------------------------------------------------
+    // Rendering dashboard items once per distinct access profile
+    // ----------------------------------------------------------------------
+
+    progress.startingStage("Rendering dashboard items per access profile");
+    java.util.Map<PushAnalysisAccessProfile, Future<java.util.Map<String, String>>> itemsByProfile =
+        progress.runStage(
+            java.util.Map.of(),
+            items -> "Found " + items.size() + " distinct access profiles",
+            () -> renderItemsByProfile(pushAnalysis, receivingUsers));
+
     // ----------------------------------------------------------------------
     // Generating reports
     // ----------------------------------------------------------------------
@@ -210,12 +234,10 @@ public class DefaultPushAnalysisService implements PushAnalysisService {
                 + "'.",
         user -> {
           String title = pushAnalysis.getTitle();
-          String html = "";
-          try {
-            html = generateHtmlReport(pushAnalysis, user);
-          } catch (IOException ex) {
-            throw new UncheckedIOException(ex);
-          }
+          String html =
+              generateHtmlReport(
+                  pushAnalysis,
+                  getRenderedItems(itemsByProfile.get(PushAnalysisAccessProfile.of(user))));
           // TODO: Better handling of messageStatus; Might require
           // refactoring of EmailMessageSender
           @SuppressWarnings("unused")
@@ -234,18 +256,89 @@ public class DefaultPushAnalysisService implements PushAnalysisService {
     User currentUser = userService.getUserByUsername(CurrentUserUtil.getCurrentUsername());
     user = user == null ? currentUser : user;
 
-    // ----------------------------------------------------------------------
-    // Pre-process the dashboardItem and store them as Strings
-    // ----------------------------------------------------------------------
+    return generateHtmlReport(pushAnalysis, renderItems(pushAnalysis, user));
+  }
 
-    HashMap<String, String> itemHtml = new HashMap<>();
-    HashMap<String, String> itemLink = new HashMap<>();
+  /**
+   * Renders the dashboard items once for each distinct {@link PushAnalysisAccessProfile} of the
+   * given users. Profiles are rendered concurrently, each in its own transaction with the push
+   * analysis and the user reloaded so no entities are shared between threads.
+   *
+   * @return the rendered items, by item UID, for each profile
+   */
+  private java.util.Map<PushAnalysisAccessProfile, Future<java.util.Map<String, String>>>
+      renderItemsByProfile(PushAnalysis pushAnalysis, Set<User> users) {
+    java.util.Map<PushAnalysisAccessProfile, User> userByProfile = new LinkedHashMap<>();
+    users.forEach(user -> userByProfile.putIfAbsent(PushAnalysisAccessProfile.of(user), user));
+
+    ExecutorService executor =
+        executorRegistry.getExecutor(
+            "push-analysis-rendering", RENDERING_THREADS, RENDERING_THREADS * 10);
+    String uid = pushAnalysis.getUid();
+    java.util.Map<PushAnalysisAccessProfile, Future<java.util.Map<String, String>>> items =
+        new LinkedHashMap<>();
+    userByProfile.forEach(
+        (profile, user) -> {
+          String userUid = user.getUid();
+          items.put(
+              profile,
+              executor.submit(
+                  () ->
+                      transactionTemplate.execute(
+                          status -> {
+                            try {
+                              return renderItems(
+                                  pushAnalysisStore.getByUid(uid), userService.getUser(userUid));
+                            } catch (IOException ex) {
+                              throw new UncheckedIOException(ex);
+                            }
+                          })));
+        });
+    return items;
+  }
+
+  private static java.util.Map<String, String> getRenderedItems(
+      @CheckForNull Future<java.util.Map<String, String>> items) {
+    if (items == null) {
+      throw new IllegalStateException("Push analysis items were not rendered");
+    }
+    try {
+      return items.get();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while rendering push analysis items", ex);
+    } catch (ExecutionException ex) {
+      if (ex.getCause() instanceof RuntimeException cause) throw cause;
+      throw new IllegalStateException(ex.getCause());
+    }
+  }
+
+  /**
+   * Renders each dashboard item of the push analysis as the given user would see it.
+   *
+   * @return the rendered HTML by item UID
+   */
+  private java.util.Map<String, String> renderItems(PushAnalysis pushAnalysis, User user)
+      throws IOException {
+    java.util.Map<String, String> itemHtml = new HashMap<>();
 
     for (DashboardItem item : pushAnalysis.getDashboard().getItems()) {
       // Preventing NPE when DB data is not consistent.
       // In normal conditions all DashboardItem has a type.
       if (item.getType() != null) {
         itemHtml.put(item.getUid(), getItemHtml(item, user));
+      }
+    }
+    return itemHtml;
+  }
+
+  private String generateHtmlReport(
+      PushAnalysis pushAnalysis, java.util.Map<String, String> renderedItems) {
+    HashMap<String, String> itemHtml = new HashMap<>(renderedItems);
+    HashMap<String, String> itemLink = new HashMap<>();
+
+    for (DashboardItem item : pushAnalysis.getDashboard().getItems()) {
+      if (item.getType() != null) {
         itemLink.put(item.getUid(), getItemLink(item));
       }
     }
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2004-2022, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.pushanalysis;
+
+import static java.util.stream.Collectors.toUnmodifiableSet;
+
+import java.util.Collection;
+import java.util.Set;
+import javax.annotation.CheckForNull;
+import org.hisp.dhis.common.IdentifiableObject;
+import org.hisp.dhis.organisationunit.OrganisationUnit;
+import org.hisp.dhis.security.Authorities;
+import org.hisp.dhis.user.User;
+
+/**
+ * The properties of a {@link User} that decide which data the items of a {@link PushAnalysis} show
+ * to that user. Users with equal profiles see the same rendered dashboard items, so items only need
+ * to be rendered once per distinct profile.
+ *
+ * @param organisationUnit UID of the organisation unit used for pivot tables
+ * @param organisationUnits UIDs of the user's organisation units, used for relative user org units
+ * @param dataViewOrganisationUnits UIDs of the effective data view organisation unit roots
+ * @param dataViewMaxLevel the maximum organisation unit level the user can view data for
+ * @param categoryConstraints UIDs of the categories restricting the user's data view
+ * @param categoryOptionGroupSetConstraints UIDs of the category option group sets restricting the
+ *     user's data view
+ * @param superUser whether the user bypasses all restrictions
+ * @param viewUnapprovedData whether the user can view data that is not yet approved
+ */
+record PushAnalysisAccessProfile(
+    @CheckForNull String organisationUnit,
+    Set<String> organisationUnits,
+    Set<String> dataViewOrganisationUnits,
+    @CheckForNull Integer dataViewMaxLevel,
+    Set<String> categoryConstraints,
+    Set<String> categoryOptionGroupSetConstraints,
+    boolean superUser,
+    boolean viewUnapprovedData) {
+
+  static PushAnalysisAccessProfile of(User user) {
+    OrganisationUnit organisationUnit = user.getOrganisationUnit();
+    return new PushAnalysisAccessProfile(
+        organisationUnit == null ? null : organisationUnit.getUid(),
+        toUids(user.getOrganisationUnits()),
+        toUids(user.getDataViewOrganisationUnitsWithFallback()),
+        user.getDataViewMaxOrganisationUnitLevel(),
+        toUids(user.getCatDimensionConstraints()),
+        toUids(user.getCogsDimensionConstraints()),
+        user.isSuper(),
+        user.isAuthorized(Authorities.F_VIEW_UNAPPROVED_DATA));
+  }
+
+  private static Set<String> toUids(
+      @CheckForNull Collection<? extends IdentifiableObject> objects) {
+    return objects == null
+        ? Set.of()
+        : objects.stream().map(IdentifiableObject::getUid).collect(toUnmodifiableSet());
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2004-2022, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.datastatistics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.scheduling.TaskScheduler;
+
+/** Tests {@link DataStatisticsEventBuffer}. */
+@ExtendWith(MockitoExtension.class)
+class DataStatisticsEventBufferTest {
+  @Mock private DataStatisticsEventStore store;
+
+  @Mock private TaskScheduler scheduler;
+
+  private DataStatisticsEventBuffer buffer;
+
+  @BeforeEach
+  void setUp() {
+    buffer = new DataStatisticsEventBuffer(store, scheduler);
+  }
+
+  @Test
+  void testFlushWritesBufferedEvents() {
+    buffer.add(newEvent());
+    buffer.add(newEvent());
+    verify(store, never()).insertAll(anyList());
+
+    buffer.flush();
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<DataStatisticsEvent>> events = ArgumentCaptor.forClass(List.class);
+    verify(store).insertAll(events.capture());
+    assertEquals(2, events.getValue().size());
+  }
+
+  @Test
+  void testFlushWithoutEventsDoesNotWrite() {
+    buffer.flush();
+
+    verify(store, never()).insertAll(anyList());
+  }
+
+  @Test
+  void testAddSchedulesFlushWhenFlushSizeIsReached() {
+    for (int i = 0; i < DataStatisticsEventBuffer.FLUSH_SIZE; i++) {
+      buffer.add(newEvent());
+    }
+    buffer.add(newEvent());
+
+    verify(scheduler, times(1)).schedule(any(Runnable.class), any(Instant.class));
+  }
+
+  @Test
+  void testFailedFlushKeepsEventsForRetry() {
+    doThrow(new DataAccessResourceFailureException("down"))
+        .doNothing()
+        .when(store)
+        .insertAll(anyList());
+    buffer.add(newEvent());
+
+    buffer.flush();
+    buffer.flush();
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<DataStatisticsEvent>> events = ArgumentCaptor.forClass(List.class);
+    verify(store, times(2)).insertAll(events.capture());
+    assertEquals(1, events.getAllValues().get(1).size());
+  }
+
+  private static DataStatisticsEvent newEvent() {
+    return new DataStatisticsEvent(DataStatisticsEventType.MAP_VIEW, new Date(), "admin");
+  }
+}
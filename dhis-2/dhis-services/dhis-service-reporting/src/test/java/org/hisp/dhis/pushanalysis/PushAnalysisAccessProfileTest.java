@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2004-2022, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.pushanalysis;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.List;
+import java.util.Set;
+import org.hisp.dhis.category.Category;
+import org.hisp.dhis.organisationunit.OrganisationUnit;
+import org.hisp.dhis.security.Authorities;
+import org.hisp.dhis.test.TestBase;
+import org.hisp.dhis.user.User;
+import org.junit.jupiter.api.Test;
+
+/** Tests {@link PushAnalysisAccessProfile}. */
+class PushAnalysisAccessProfileTest extends TestBase {
+  private final OrganisationUnit ouA = createOrganisationUnit('A');
+
+  private final OrganisationUnit ouB = createOrganisationUnit('B');
+
+  @Test
+  void testSameProfileForUsersWithSameAccess() {
+    User userA = makeUser("A");
+    userA.addOrganisationUnit(ouA);
+    User userB = makeUser("B");
+    userB.addOrganisationUnit(ouA);
+
+    assertEquals(PushAnalysisAccessProfile.of(userA), PushAnalysisAccessProfile.of(userB));
+  }
+
+  @Test
+  void testDifferentProfileForDifferentDataViewOrganisationUnits() {
+    User userA = makeUser("A");
+    userA.addOrganisationUnit(ouA);
+    User userB = makeUser("B");
+    userB.addOrganisationUnit(ouA);
+    userB.setDataViewOrganisationUnits(Set.of(ouB));
+
+    assertNotEquals(PushAnalysisAccessProfile.of(userA), PushAnalysisAccessProfile.of(userB));
+  }
+
+  @Test
+  void testDifferentProfileForCategoryConstraints() {
+    Category categoryA = createCategory('A');
+    User userA = makeUser("A");
+    userA.addOrganisationUnit(ouA);
+    User userB = makeUser("B");
+    userB.addOrganisationUnit(ouA);
+    userB.setCatDimensionConstraints(Set.of(categoryA));
+
+    assertNotEquals(PushAnalysisAccessProfile.of(userA), PushAnalysisAccessProfile.of(userB));
+  }
+
+  @Test
+  void testDifferentProfileForViewUnapprovedData() {
+    User userA = makeUser("A");
+    userA.addOrganisationUnit(ouA);
+    User userB = makeUser("B", List.of(Authorities.F_VIEW_UNAPPROVED_DATA.toString()));
+    userB.addOrganisationUnit(ouA);
+
+    assertNotEquals(PushAnalysisAccessProfile.of(userA), PushAnalysisAccessProfile.of(userB));
+  }
+}
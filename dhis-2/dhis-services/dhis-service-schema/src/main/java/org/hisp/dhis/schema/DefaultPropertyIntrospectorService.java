@@ -37,6 +37,7 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
 import org.hisp.dhis.common.IdentifiableObject;
+import org.hisp.dhis.schema.introspection.AccessorPropertyIntrospector;
 import org.hisp.dhis.schema.introspection.GistPropertyIntrospector;
 import org.hisp.dhis.schema.introspection.HibernatePropertyIntrospector;
 import org.hisp.dhis.schema.introspection.JacksonPropertyIntrospector;
@@ -66,7 +67,8 @@ public class DefaultPropertyIntrospectorService implements PropertyIntrospectorS
             .then(new JacksonPropertyIntrospector())
             .then(new TranslatablePropertyIntrospector())
             .then(new PropertyPropertyIntrospector())
-            .then(new GistPropertyIntrospector()));
+            .then(new GistPropertyIntrospector())
+            .then(new AccessorPropertyIntrospector()));
   }
 
   @Override
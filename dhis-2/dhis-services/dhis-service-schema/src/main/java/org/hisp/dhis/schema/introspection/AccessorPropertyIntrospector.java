@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2004-2022, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.schema.introspection;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.hisp.dhis.schema.Property;
+
+/**
+ * A {@link PropertyIntrospector} that compiles the getter and setter {@link Method}s of each {@link
+ * Property} into reflection-free accessors using {@link LambdaMetafactory}. This must run after all
+ * introspectors which set the getter and setter methods.
+ *
+ * <p>Methods which cannot be compiled are left to the reflective fallback in {@link
+ * Property#getValue(Object)} and {@link Property#setValue(Object, Object)}.
+ */
+@Slf4j
+public class AccessorPropertyIntrospector implements PropertyIntrospector {
+  @Override
+  public void introspect(Class<?> klass, Map<String, Property> properties) {
+    for (Property property : properties.values()) {
+      property.setAccessors(
+          compileGetter(property.getGetterMethod()), compileSetter(property.getSetterMethod()));
+    }
+  }
+
+  /**
+   * Compiles the given getter method into a {@link Function}.
+   *
+   * @param method the getter method.
+   * @return a {@link Function}, or null if the method is not public or could not be compiled.
+   */
+  @SuppressWarnings("unchecked")
+  static Function<Object, Object> compileGetter(Method method) {
+    if (!isCompilable(method, 0)) {
+      return null;
+    }
+
+    try {
+      MethodHandles.Lookup lookup = lookup(method);
+      MethodHandle handle = lookup.unreflect(method);
+      CallSite site =
+          LambdaMetafactory.metafactory(
+              lookup,
+              "apply",
+              MethodType.methodType(Function.class),
+              MethodType.methodType(Object.class, Object.class),
+              handle,
+              MethodType.methodType(method.getReturnType(), method.getDeclaringClass()).wrap());
+      return (Function<Object, Object>) site.getTarget().invoke();
+    } catch (Throwable ex) {
+      log.debug("Could not compile getter: " + method, ex);
+      return null;
+    }
+  }
+
+  /**
+   * Compiles the given setter method into a {@link BiConsumer}.
+   *
+   * @param method the setter method.
+   * @return a {@link BiConsumer}, or null if the method is not public or could not be compiled.
+   */
+  @SuppressWarnings("unchecked")
+  static BiConsumer<Object, Object> compileSetter(Method method) {
+    if (!isCompilable(method, 1)) {
+      return null;
+    }
+
+    try {
+      MethodHandles.Lookup lookup = lookup(method);
+      MethodHandle handle = lookup.unreflect(method);
+      CallSite site =
+          LambdaMetafactory.metafactory(
+              lookup,
+              "accept",
+              MethodType.methodType(BiConsumer.class),
+              MethodType.methodType(void.class, Object.class, Object.class),
+              handle,
+              MethodType.methodType(
+                      void.class, method.getDeclaringClass(), method.getParameterTypes()[0])
+                  .wrap()
+                  .changeReturnType(void.class));
+      return (BiConsumer<Object, Object>) site.getTarget().invoke();
+    } catch (Throwable ex) {
+      log.debug("Could not compile setter: " + method, ex);
+      return null;
+    }
+  }
+
+  private static boolean isCompilable(Method method, int parameterCount) {
+    return method != null
+        && Modifier.isPublic(method.getModifiers())
+        && Modifier.isPublic(method.getDeclaringClass().getModifiers())
+        && !Modifier.isStatic(method.getModifiers())
+        && method.getParameterCount() == parameterCount;
+  }
+
+  private static MethodHandles.Lookup lookup(Method method) throws IllegalAccessException {
+    return MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+  }
+}
@@ -48,7 +48,6 @@ import org.hisp.dhis.schema.Property;
 import org.hisp.dhis.schema.PropertyType;
 import org.hisp.dhis.schema.Schema;
 import org.hisp.dhis.schema.SchemaService;
-import org.hisp.dhis.system.util.ReflectionUtils;
 import org.hisp.dhis.system.util.ValidationUtils;
 import org.hisp.dhis.user.CredentialsInfo;
 import org.hisp.dhis.user.PasswordValidationResult;
@@ -122,7 +121,7 @@ public class DefaultSchemaValidator implements SchemaValidator {
 
   private void validateProperty(
       Property property, Object object, Class<?> mainErrorClass, List<ErrorReport> errors) {
-    Object value = ReflectionUtils.invokeMethod(object, property.getGetterMethod());
+    Object value = property.getValue(object);
 
     if (value == null) {
       if (property.isRequired() && !Preheat.isDefaultClass(property.getKlass())) {
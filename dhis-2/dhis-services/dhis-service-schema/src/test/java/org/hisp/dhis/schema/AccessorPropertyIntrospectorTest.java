@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2004-2022, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.schema;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.hisp.dhis.dataelement.DataElement;
+import org.hisp.dhis.schema.introspection.AccessorPropertyIntrospector;
+import org.junit.jupiter.api.Test;
+
+class AccessorPropertyIntrospectorTest {
+
+  private final AccessorPropertyIntrospector introspector = new AccessorPropertyIntrospector();
+
+  @Test
+  void testObjectAccessors() throws Exception {
+    Property property =
+        new Property(
+            String.class,
+            DataElement.class.getMethod("getCode"),
+            DataElement.class.getMethod("setCode", String.class));
+
+    introspect(property);
+
+    assertTrue(property.hasCompiledGetter());
+    assertTrue(property.hasCompiledSetter());
+
+    DataElement dataElement = new DataElement();
+    property.setValue(dataElement, "DE_A");
+
+    assertEquals("DE_A", dataElement.getCode());
+    assertEquals("DE_A", property.getValue(dataElement));
+  }
+
+  @Test
+  void testPrimitiveAccessors() throws Exception {
+    Property property =
+        new Property(
+            boolean.class,
+            DataElement.class.getMethod("isZeroIsSignificant"),
+            DataElement.class.getMethod("setZeroIsSignificant", boolean.class));
+
+    introspect(property);
+
+    assertTrue(property.hasCompiledGetter());
+    assertTrue(property.hasCompiledSetter());
+
+    DataElement dataElement = new DataElement();
+    property.setValue(dataElement, true);
+
+    assertTrue(dataElement.isZeroIsSignificant());
+    assertEquals(Boolean.TRUE, property.getValue(dataElement));
+  }
+
+  @Test
+  void testAccessorsWithoutMethods() {
+    Property property = new Property(String.class, null, null);
+
+    introspect(property);
+
+    assertFalse(property.hasCompiledGetter());
+    assertFalse(property.hasCompiledSetter());
+
+    DataElement dataElement = new DataElement();
+    property.setValue(dataElement, "DE_A");
+
+    assertNull(property.getValue(dataElement));
+    assertNull(property.getValue(null));
+  }
+
+  @Test
+  void testAccessorsResetWhenMethodChanges() throws Exception {
+    Property property = new Property(String.class, DataElement.class.getMethod("getCode"), null);
+
+    introspect(property);
+    property.setGetterMethod(DataElement.class.getMethod("getName"));
+
+    assertFalse(property.hasCompiledGetter());
+
+    DataElement dataElement = new DataElement();
+    dataElement.setCode("DE_A");
+    dataElement.setName("Data element A");
+
+    assertEquals("Data element A", property.getValue(dataElement));
+  }
+
+  @Test
+  void testSetNullPrimitive() throws Exception {
+    Property property =
+        new Property(
+            boolean.class,
+            DataElement.class.getMethod("isZeroIsSignificant"),
+            DataElement.class.getMethod("setZeroIsSignificant", boolean.class));
+
+    introspect(property);
+
+    DataElement dataElement = new DataElement();
+    assertThrows(IllegalArgumentException.class, () -> property.setValue(dataElement, null));
+  }
+
+  @Test
+  void testSetMismatchingType() throws Exception {
+    Property property =
+        new Property(
+            String.class,
+            DataElement.class.getMethod("getCode"),
+            DataElement.class.getMethod("setCode", String.class));
+
+    introspect(property);
+
+    DataElement dataElement = new DataElement();
+    assertThrows(IllegalArgumentException.class, () -> property.setValue(dataElement, 42));
+    assertThrows(IllegalArgumentException.class, () -> property.getValue("not a data element"));
+  }
+
+  @Test
+  void testSetWideningPrimitive() throws Exception {
+    Property property =
+        new Property(
+            long.class,
+            DataElement.class.getMethod("getId"),
+            DataElement.class.getMethod("setId", long.class));
+
+    introspect(property);
+
+    DataElement dataElement = new DataElement();
+    property.setValue(dataElement, 42);
+
+    assertEquals(42L, dataElement.getId());
+    assertEquals(42L, (long) property.getValue(dataElement));
+  }
+
+  private void introspect(Property property) {
+    Map<String, Property> properties = new HashMap<>();
+    properties.put("property", property);
+    introspector.introspect(DataElement.class, properties);
+  }
+}
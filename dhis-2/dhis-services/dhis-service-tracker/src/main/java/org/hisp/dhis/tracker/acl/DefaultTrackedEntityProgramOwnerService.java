@@ -29,11 +29,16 @@
  */
 package org.hisp.dhis.tracker.acl;
 
+import static java.util.stream.Collectors.toMap;
+
+import java.util.Collection;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.hisp.dhis.organisationunit.OrganisationUnit;
 import org.hisp.dhis.program.Program;
 import org.hisp.dhis.trackedentity.TrackedEntity;
 import org.hisp.dhis.trackedentity.TrackedEntityProgramOwner;
+import org.hisp.dhis.trackedentity.TrackedEntityProgramOwnerOrgUnit;
 import org.hisp.dhis.user.CurrentUserUtil;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -112,4 +117,18 @@ public class DefaultTrackedEntityProgramOwnerService implements TrackedEntityPro
   public TrackedEntityProgramOwner getTrackedEntityProgramOwner(TrackedEntity te, Program program) {
     return trackedEntityProgramOwnerStore.getTrackedEntityProgramOwner(te, program);
   }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Map<String, OrganisationUnit> getTrackedEntityProgramOwnerOrgUnits(
+      Collection<String> teUids, Program program) {
+    return trackedEntityProgramOwnerStore
+        .getTrackedEntityProgramOwnerOrgUnits(teUids, program)
+        .stream()
+        .collect(
+            toMap(
+                TrackedEntityProgramOwnerOrgUnit::getTrackedEntityId,
+                TrackedEntityProgramOwnerOrgUnit::getOrganisationUnit,
+                (a, b) -> a));
+  }
 }
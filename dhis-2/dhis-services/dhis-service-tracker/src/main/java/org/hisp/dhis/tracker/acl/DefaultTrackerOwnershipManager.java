@@ -29,6 +29,9 @@
  */
 package org.hisp.dhis.tracker.acl;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Supplier;
@@ -242,13 +245,8 @@ public class DefaultTrackerOwnershipManager implements TrackerOwnershipManager {
 
     OrganisationUnit ou = getOwner(trackedEntity, program, trackedEntity::getOrganisationUnit);
 
-    final String orgUnitPath = ou.getStoredPath();
-    return switch (program.getAccessLevel()) {
-      case OPEN, AUDITED -> user.isInUserEffectiveSearchOrgUnitHierarchy(orgUnitPath);
-      case PROTECTED ->
-          user.isInUserHierarchy(orgUnitPath) || hasTemporaryAccess(trackedEntity, program, user);
-      case CLOSED -> user.isInUserHierarchy(orgUnitPath);
-    };
+    return hasOwnerAccess(user, ou.getStoredPath(), program)
+        || program.isProtected() && hasTemporaryAccess(trackedEntity, program, user);
   }
 
   @Override
@@ -259,13 +257,46 @@ public class DefaultTrackerOwnershipManager implements TrackerOwnershipManager {
       return true;
     }
 
-    final String orgUnitPath = owningOrgUnit.getStoredPath();
+    return hasOwnerAccess(user, owningOrgUnit.getStoredPath(), program)
+        || program.isProtected() && hasTemporaryAccessWithUid(trackedEntity, program, user);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<TrackedEntity> filterAccessible(
+      UserDetails user, List<TrackedEntity> trackedEntities, Program program) {
+    if (canSkipOwnershipCheck(user, program) || trackedEntities.isEmpty()) {
+      return trackedEntities;
+    }
+
+    Map<String, OrganisationUnit> owners =
+        trackedEntityProgramOwnerService.getTrackedEntityProgramOwnerOrgUnits(
+            trackedEntities.stream().map(TrackedEntity::getUid).toList(), program);
+    Map<String, Boolean> accessByOwnerPath = new HashMap<>();
+    return trackedEntities.stream()
+        .filter(
+            te -> {
+              OrganisationUnit ou = owners.getOrDefault(te.getUid(), te.getOrganisationUnit());
+              if (ou == null) {
+                return true;
+              }
+              boolean ownerAccess =
+                  accessByOwnerPath.computeIfAbsent(
+                      ou.getStoredPath(), path -> hasOwnerAccess(user, path, program));
+              return ownerAccess
+                  || program.isProtected() && hasTemporaryAccessWithUid(te.getUid(), program, user);
+            })
+        .toList();
+  }
+
+  /**
+   * @return true if the user has access to tracked entities owned by the org unit with the given
+   *     path, not considering temporary ownership
+   */
+  private static boolean hasOwnerAccess(UserDetails user, String orgUnitPath, Program program) {
     return switch (program.getAccessLevel()) {
       case OPEN, AUDITED -> user.isInUserEffectiveSearchOrgUnitHierarchy(orgUnitPath);
-      case PROTECTED ->
-          user.isInUserHierarchy(orgUnitPath)
-              || hasTemporaryAccessWithUid(trackedEntity, program, user);
-      case CLOSED -> user.isInUserHierarchy(orgUnitPath);
+      case PROTECTED, CLOSED -> user.isInUserHierarchy(orgUnitPath);
     };
   }
 
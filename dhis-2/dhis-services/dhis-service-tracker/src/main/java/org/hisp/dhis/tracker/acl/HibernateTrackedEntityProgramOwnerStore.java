@@ -32,6 +32,7 @@ package org.hisp.dhis.tracker.acl;
 import com.google.common.collect.Iterables;
 import jakarta.persistence.EntityManager;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import org.hibernate.query.Query;
@@ -94,4 +95,30 @@ public class HibernateTrackedEntityProgramOwnerStore
 
     return trackedEntityProgramOwnerOrgUnits;
   }
+
+  @Override
+  public List<TrackedEntityProgramOwnerOrgUnit> getTrackedEntityProgramOwnerOrgUnits(
+      Collection<String> teUids, Program program) {
+    List<TrackedEntityProgramOwnerOrgUnit> trackedEntityProgramOwnerOrgUnits = new ArrayList<>();
+
+    if (teUids == null || teUids.isEmpty()) {
+      return trackedEntityProgramOwnerOrgUnits;
+    }
+
+    String hql =
+        "select new org.hisp.dhis.trackedentity.TrackedEntityProgramOwnerOrgUnit( tepo.trackedEntity.uid, tepo.program.uid, tepo.organisationUnit) from TrackedEntityProgramOwner tepo where tepo.program.id = :programId and tepo.trackedEntity.uid in (:teUids)";
+
+    Query<TrackedEntityProgramOwnerOrgUnit> q =
+        getQuery(hql, TrackedEntityProgramOwnerOrgUnit.class);
+    q.setParameter("programId", program.getId());
+
+    Iterables.partition(teUids, 20000)
+        .forEach(
+            partition -> {
+              q.setParameterList("teUids", partition);
+              trackedEntityProgramOwnerOrgUnits.addAll(q.list());
+            });
+
+    return trackedEntityProgramOwnerOrgUnits;
+  }
 }
@@ -29,6 +29,8 @@
  */
 package org.hisp.dhis.tracker.acl;
 
+import java.util.Collection;
+import java.util.Map;
 import org.hisp.dhis.organisationunit.OrganisationUnit;
 import org.hisp.dhis.program.Program;
 import org.hisp.dhis.trackedentity.TrackedEntity;
@@ -47,6 +49,15 @@ public interface TrackedEntityProgramOwnerService {
    */
   TrackedEntityProgramOwner getTrackedEntityProgramOwner(TrackedEntity te, Program program);
 
+  /**
+   * Get the owning org units of the given tracked entities for a program in a single query. Tracked
+   * entities without an explicit owner are not contained in the result.
+   *
+   * @return owning org unit by tracked entity UID
+   */
+  Map<String, OrganisationUnit> getTrackedEntityProgramOwnerOrgUnits(
+      Collection<String> teUids, Program program);
+
   /**
    * Assign an orgUnit as the owner for a tracked entity for the given program. If another owner
    * already exist then it would be overwritten.
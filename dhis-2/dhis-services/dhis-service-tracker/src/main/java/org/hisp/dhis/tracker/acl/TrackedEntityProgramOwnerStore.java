@@ -29,6 +29,7 @@
  */
 package org.hisp.dhis.tracker.acl;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import org.hisp.dhis.common.GenericStore;
@@ -47,4 +48,8 @@ public interface TrackedEntityProgramOwnerStore extends GenericStore<TrackedEnti
   TrackedEntityProgramOwner getTrackedEntityProgramOwner(TrackedEntity te, Program program);
 
   List<TrackedEntityProgramOwnerOrgUnit> getTrackedEntityProgramOwnerOrgUnits(Set<Long> teIds);
+
+  /** Get the explicit owners of the given tracked entities for the program. */
+  List<TrackedEntityProgramOwnerOrgUnit> getTrackedEntityProgramOwnerOrgUnits(
+      Collection<String> teUids, Program program);
 }
@@ -29,6 +29,7 @@
  */
 package org.hisp.dhis.tracker.acl;
 
+import java.util.List;
 import org.hisp.dhis.feedback.ForbiddenException;
 import org.hisp.dhis.organisationunit.OrganisationUnit;
 import org.hisp.dhis.program.Program;
@@ -68,6 +69,19 @@ public interface TrackerOwnershipManager {
   boolean hasAccess(
       UserDetails user, String trackedEntity, OrganisationUnit organisationUnit, Program program);
 
+  /**
+   * Bulk variant of {@link #hasAccess(UserDetails, TrackedEntity, Program)}. The owners of all
+   * tracked entities are fetched in a single query and access decisions are only made once per
+   * owning org unit.
+   *
+   * @param user The user with which access has to be checked for.
+   * @param trackedEntities The tracked entities.
+   * @param program The program.
+   * @return the tracked entities the user has access to, in the given order
+   */
+  List<TrackedEntity> filterAccessible(
+      UserDetails user, List<TrackedEntity> trackedEntities, Program program);
+
   /**
    * Grant temporary ownership for a user for a specific tracked entity - program combination
    *
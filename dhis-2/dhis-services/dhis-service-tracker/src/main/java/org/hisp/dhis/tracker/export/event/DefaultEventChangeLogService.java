@@ -35,6 +35,7 @@ import static org.hisp.dhis.changelog.ChangeLogType.UPDATE;
 import static org.hisp.dhis.external.conf.ConfigurationKey.CHANGELOG_TRACKER;
 
 import java.text.SimpleDateFormat;
+import java.util.Collection;
 import java.util.Date;
 import java.util.Objects;
 import java.util.Set;
@@ -88,6 +89,12 @@ public class DefaultEventChangeLogService implements EventChangeLogService {
     hibernateEventChangeLogStore.deleteEventChangeLog(dataElement);
   }
 
+  @Transactional
+  @Override
+  public void deleteEventChangeLog(Collection<DataElement> dataElements) {
+    hibernateEventChangeLogStore.deleteEventChangeLog(dataElements);
+  }
+
   @Override
   @Transactional
   public void addEventChangeLog(
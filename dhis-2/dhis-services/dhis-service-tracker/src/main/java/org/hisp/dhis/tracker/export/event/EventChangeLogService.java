@@ -29,6 +29,7 @@
  */
 package org.hisp.dhis.tracker.export.event;
 
+import java.util.Collection;
 import java.util.Set;
 import javax.annotation.Nonnull;
 import org.apache.commons.lang3.tuple.Pair;
@@ -67,6 +68,13 @@ public interface EventChangeLogService {
 
   void deleteEventChangeLog(DataElement dataElement);
 
+  /**
+   * Deletes the change logs of all given data elements in a single statement.
+   *
+   * @param dataElements the data elements to delete the change logs for
+   */
+  void deleteEventChangeLog(Collection<DataElement> dataElements);
+
   /**
    * Fields the {@link #getEventChangeLog(UID, EventChangeLogOperationParams, PageParams)} can order
    * event change logs by. Ordering by fields other than these, is considered a programmer error.
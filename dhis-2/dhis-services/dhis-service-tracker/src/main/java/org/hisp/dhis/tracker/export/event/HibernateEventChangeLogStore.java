@@ -33,6 +33,7 @@ import static java.util.Map.entry;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.Query;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -184,6 +185,16 @@ public class HibernateEventChangeLogStore {
     entityManager.createQuery(hql).setParameter("dataElement", dataElement).executeUpdate();
   }
 
+  public void deleteEventChangeLog(Collection<DataElement> dataElements) {
+    if (dataElements.isEmpty()) {
+      return;
+    }
+
+    String hql = "delete from EventChangeLog where dataElement in (:dataElements)";
+
+    entityManager.createQuery(hql).setParameter("dataElements", dataElements).executeUpdate();
+  }
+
   public void deleteEventChangeLog(Event event) {
     String hql = "delete from EventChangeLog where event = :event";
 
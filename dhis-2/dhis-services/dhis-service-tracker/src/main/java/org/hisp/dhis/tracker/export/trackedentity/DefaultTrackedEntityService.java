@@ -36,7 +36,6 @@ import static org.hisp.dhis.user.CurrentUserUtil.getCurrentUserDetails;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
@@ -277,9 +276,7 @@ class DefaultTrackedEntityService implements TrackedEntityService {
     trackedEntityAuditService.addTrackedEntityAudit(SEARCH, user.getUsername(), trackedEntities);
 
     // TODO(tracker): Push this filter into the store because it is breaking pagination
-    return trackedEntities.stream()
-        .filter(filterAccessibleTrackedEntities(user, queryParams))
-        .toList();
+    return filterAccessibleTrackedEntities(user, trackedEntities, queryParams);
   }
 
   @Override
@@ -287,17 +284,19 @@ class DefaultTrackedEntityService implements TrackedEntityService {
     return trackedEntityStore.getOrderableFields();
   }
 
-  private Predicate<TrackedEntity> filterAccessibleTrackedEntities(
-      UserDetails user, TrackedEntityQueryParams queryParams) {
+  private List<TrackedEntity> filterAccessibleTrackedEntities(
+      UserDetails user, List<TrackedEntity> trackedEntities, TrackedEntityQueryParams queryParams) {
     boolean skipOwnershipCheck = queryParams.getOrgUnitMode() == ALL;
 
     if (queryParams.hasEnrolledInTrackerProgram()) {
       return skipOwnershipCheck
-          ? te -> true
-          : te ->
-              ownershipAccessManager.hasAccess(user, te, queryParams.getEnrolledInTrackerProgram());
+          ? trackedEntities
+          : ownershipAccessManager.filterAccessible(
+              user, trackedEntities, queryParams.getEnrolledInTrackerProgram());
     }
 
-    return te -> trackerAccessManager.canRead(user, te, skipOwnershipCheck).isEmpty();
+    return trackedEntities.stream()
+        .filter(te -> trackerAccessManager.canRead(user, te, skipOwnershipCheck).isEmpty())
+        .toList();
   }
 }
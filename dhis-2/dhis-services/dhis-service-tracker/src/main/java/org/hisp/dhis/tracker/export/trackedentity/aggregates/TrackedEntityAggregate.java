@@ -32,8 +32,8 @@ package org.hisp.dhis.tracker.export.trackedentity.aggregates;
 import static java.util.concurrent.CompletableFuture.allOf;
 import static java.util.concurrent.CompletableFuture.supplyAsync;
 import static org.hisp.dhis.common.OrganisationUnitSelectionMode.ALL;
+import static org.hisp.dhis.external.conf.ConfigurationKey.CONNECTION_POOL_MAX_SIZE;
 import static org.hisp.dhis.tracker.export.trackedentity.aggregates.AsyncUtils.conditionalAsyncFetch;
-import static org.hisp.dhis.tracker.export.trackedentity.aggregates.ThreadPoolManager.getPool;
 
 import com.google.common.collect.Multimap;
 import java.util.Collection;
@@ -45,6 +45,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
@@ -54,8 +55,10 @@ import org.hisp.dhis.cache.Cache;
 import org.hisp.dhis.cache.CacheProvider;
 import org.hisp.dhis.common.BaseIdentifiableObject;
 import org.hisp.dhis.common.OrganisationUnitSelectionMode;
+import org.hisp.dhis.external.conf.DhisConfigurationProvider;
 import org.hisp.dhis.program.Enrollment;
 import org.hisp.dhis.program.Program;
+import org.hisp.dhis.system.executor.ExecutorRegistry;
 import org.hisp.dhis.trackedentity.TrackedEntity;
 import org.hisp.dhis.trackedentity.TrackedEntityAttribute;
 import org.hisp.dhis.trackedentity.TrackedEntityAttributeService;
@@ -88,11 +91,20 @@ public class TrackedEntityAggregate {
 
   @Nonnull private final CacheProvider cacheProvider;
 
+  @Nonnull private final ExecutorRegistry executorRegistry;
+
+  @Nonnull private final DhisConfigurationProvider config;
+
   private Cache<Context> securityCache;
 
+  /** Bounded against the connection pool as every task runs a query */
+  private Executor pool;
+
   @PostConstruct
   protected void init() {
     securityCache = cacheProvider.createSecurityCache();
+    int threads = Math.max(2, config.getIntProperty(CONNECTION_POOL_MAX_SIZE) / 4);
+    pool = executorRegistry.getExecutor("TRACKER-TE-FETCH", threads, threads * 50);
   }
 
   /**
@@ -139,7 +151,7 @@ public class TrackedEntityAggregate {
         conditionalAsyncFetch(
             ctx.getParams().isIncludeEnrollments(),
             () -> enrollmentAggregate.findByTrackedEntityIds(identifiers, ctx),
-            getPool());
+            pool);
 
     /*
      * Async fetch all ProgramOwner for the given TrackedEntity id
@@ -148,19 +160,19 @@ public class TrackedEntityAggregate {
         conditionalAsyncFetch(
             ctx.getParams().isIncludeProgramOwners(),
             () -> trackedEntityStore.getProgramOwners(ids),
-            getPool());
+            pool);
 
     /*
      * Async Fetch TrackedEntities by id
      */
     final CompletableFuture<Map<String, TrackedEntity>> trackedEntitiesAsync =
-        supplyAsync(() -> trackedEntityStore.getTrackedEntities(ids), getPool());
+        supplyAsync(() -> trackedEntityStore.getTrackedEntities(ids), pool);
 
     /*
      * Async fetch TrackedEntity Attributes by TrackedEntity id
      */
     final CompletableFuture<Multimap<String, TrackedEntityAttributeValue>> attributesAsync =
-        supplyAsync(() -> trackedEntityStore.getAttributes(ids), getPool());
+        supplyAsync(() -> trackedEntityStore.getAttributes(ids), pool);
 
     /*
      * Async fetch Owned TE mapped to the provided program attributes by
@@ -170,7 +182,7 @@ public class TrackedEntityAggregate {
         conditionalAsyncFetch(
             user.isPresent(),
             () -> trackedEntityStore.getOwnedTrackedEntities(ids, ctx, orgUnitMode == ALL),
-            getPool());
+            pool);
     /*
      * Execute all queries and merge the results
      */
@@ -204,7 +216,7 @@ public class TrackedEntityAggregate {
                       })
                   .toList();
             },
-            getPool())
+            pool)
         .join();
   }
 
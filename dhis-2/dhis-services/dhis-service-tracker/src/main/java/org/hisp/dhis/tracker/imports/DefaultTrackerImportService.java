@@ -40,6 +40,7 @@ import lombok.RequiredArgsConstructor;
 import org.hisp.dhis.common.IndirectTransactional;
 import org.hisp.dhis.feedback.ForbiddenException;
 import org.hisp.dhis.feedback.NotFoundException;
+import org.hisp.dhis.monitoring.metrics.ApplicationMetrics;
 import org.hisp.dhis.scheduling.JobProgress;
 import org.hisp.dhis.tracker.TrackerType;
 import org.hisp.dhis.tracker.imports.bundle.TrackerBundle;
@@ -64,12 +65,16 @@ import org.springframework.stereotype.Service;
 @Service
 @RequiredArgsConstructor
 public class DefaultTrackerImportService implements TrackerImportService {
+  private static final String TRACKER_IMPORT_METRIC = "tracker.import";
+
   @Nonnull private final TrackerBundleService trackerBundleService;
 
   @Nonnull private final ValidationService validationService;
 
   @Nonnull private final TrackerPreprocessService trackerPreprocessService;
 
+  @Nonnull private final ApplicationMetrics metrics;
+
   private PersistenceReport commit(TrackerImportParams params, TrackerBundle trackerBundle)
       throws ForbiddenException, NotFoundException {
     if (TrackerImportStrategy.DELETE == params.getImportStrategy()) {
@@ -87,11 +92,13 @@ public class DefaultTrackerImportService implements TrackerImportService {
       @Nonnull TrackerObjects trackerObjects,
       @Nonnull JobProgress jobProgress) {
     UserDetails currentUser = CurrentUserUtil.getCurrentUserDetails();
+    ApplicationMetrics.Sample preheat = metrics.start();
     jobProgress.startingStage("Running PreHeat");
     TrackerBundle trackerBundle =
         jobProgress.nonNullStagePostCondition(
             jobProgress.runStage(
                 () -> trackerBundleService.create(params, trackerObjects, currentUser)));
+    preheat.stop(TRACKER_IMPORT_METRIC, "phase", "preheat");
 
     jobProgress.startingStage("Calculating Payload Size");
     Map<TrackerType, Integer> bundleSize =
@@ -101,14 +108,17 @@ public class DefaultTrackerImportService implements TrackerImportService {
     jobProgress.startingStage("Running PreProcess");
     jobProgress.runStage(() -> trackerPreprocessService.preprocess(trackerBundle));
 
+    ApplicationMetrics.Sample validation = metrics.start();
     jobProgress.startingStage("Running Validation");
     ValidationResult validationResult =
         jobProgress.nonNullStagePostCondition(
             jobProgress.runStage(() -> validateBundle(trackerBundle)));
+    validation.stop(TRACKER_IMPORT_METRIC, "phase", "validation");
 
     ValidationReport validationReport = ValidationReport.fromResult(validationResult);
 
     if (!trackerBundle.isSkipRuleEngine() && !params.getImportStrategy().isDelete()) {
+      ApplicationMetrics.Sample rules = metrics.start();
       jobProgress.startingStage("Running Rule Engine");
       jobProgress.runStage(() -> trackerBundleService.runRuleEngine(trackerBundle));
 
@@ -120,6 +130,7 @@ public class DefaultTrackerImportService implements TrackerImportService {
       trackerBundle.setEnrollments(result.getEnrollments());
       trackerBundle.setEvents(result.getEvents());
       trackerBundle.setRelationships(result.getRelationships());
+      rules.stop(TRACKER_IMPORT_METRIC, "phase", "rules");
 
       validationReport = ValidationReport.merge(validationResult, result);
     }
@@ -129,10 +140,12 @@ public class DefaultTrackerImportService implements TrackerImportService {
           validationReport, bundleSize.values().stream().mapToInt(Integer::intValue).sum());
     }
 
+    ApplicationMetrics.Sample persist = metrics.start();
     jobProgress.startingStage("Commit Transaction");
     PersistenceReport persistenceReport =
         jobProgress.nonNullStagePostCondition(
             jobProgress.runStage(() -> commit(params, trackerBundle)));
+    persist.stop(TRACKER_IMPORT_METRIC, "phase", "persist");
 
     jobProgress.startingStage("PostCommit");
     jobProgress.runStage(() -> trackerBundleService.postCommit(trackerBundle));
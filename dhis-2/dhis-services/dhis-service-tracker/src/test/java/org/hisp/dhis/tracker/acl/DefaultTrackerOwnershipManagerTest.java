@@ -33,12 +33,15 @@ import static org.hisp.dhis.test.TestBase.createOrganisationUnit;
 import static org.hisp.dhis.test.TestBase.createProgram;
 import static org.hisp.dhis.test.TestBase.createTrackedEntity;
 import static org.hisp.dhis.test.TestBase.createTrackedEntityType;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import org.hisp.dhis.cache.Cache;
 import org.hisp.dhis.cache.CacheProvider;
@@ -125,15 +128,14 @@ class DefaultTrackerOwnershipManagerTest {
     user.setTeiSearchOrganisationUnits(Set.of(orgUnit));
     userDetails = UserDetails.fromUser(user);
     reason = "breaking the glass";
-
-    when(ownerCache.get(any(), any())).thenReturn(orgUnit);
-    when(aclService.canDataRead(userDetails, program)).thenReturn(true);
   }
 
   @Test
   void shouldLogProgramOwnershipChangeWhenTrackedEntityTypeAuditEnabled()
       throws ForbiddenException {
     TrackedEntity trackedEntity = createTrackedEntityWithAuditLog(true);
+    when(ownerCache.get(any(), any())).thenReturn(orgUnit);
+    when(aclService.canDataRead(userDetails, program)).thenReturn(true);
     when(aclService.canDataRead(userDetails, trackedEntity.getTrackedEntityType()))
         .thenReturn(true);
 
@@ -147,6 +149,8 @@ class DefaultTrackerOwnershipManagerTest {
   void shouldNotLogProgramOwnershipChangeWhenTrackedEntityTypeAuditDisabled()
       throws ForbiddenException {
     TrackedEntity trackedEntity = createTrackedEntityWithAuditLog(false);
+    when(ownerCache.get(any(), any())).thenReturn(orgUnit);
+    when(aclService.canDataRead(userDetails, program)).thenReturn(true);
     when(aclService.canDataRead(userDetails, trackedEntity.getTrackedEntityType()))
         .thenReturn(true);
 
@@ -156,6 +160,30 @@ class DefaultTrackerOwnershipManagerTest {
         .addProgramTempOwnershipAudit(any(ProgramTempOwnershipAudit.class));
   }
 
+  @Test
+  void shouldFilterAccessibleTrackedEntitiesUsingBulkFetchedOwners() {
+    OrganisationUnit captureOrgUnit = createOrganisationUnit("capture org unit");
+    captureOrgUnit.setPath(captureOrgUnit.getUid());
+    User user = new User();
+    user.setOrganisationUnits(Set.of(captureOrgUnit));
+    UserDetails captureUser = UserDetails.fromUser(user);
+    TrackedEntity owned = createTrackedEntity('A', orgUnit, trackedEntityType);
+    TrackedEntity registered = createTrackedEntity('B', captureOrgUnit, trackedEntityType);
+    TrackedEntity transferred = createTrackedEntity('C', captureOrgUnit, trackedEntityType);
+    when(trackedEntityProgramOwnerService.getTrackedEntityProgramOwnerOrgUnits(any(), any()))
+        .thenReturn(Map.of(owned.getUid(), captureOrgUnit, transferred.getUid(), orgUnit));
+    when(tempOwnerCache.get(any(), any())).thenReturn(false);
+
+    List<TrackedEntity> accessible =
+        trackerOwnershipManager.filterAccessible(
+            captureUser, List.of(owned, registered, transferred), program);
+
+    assertEquals(List.of(owned, registered), accessible);
+    verify(trackedEntityProgramOwnerService, times(1))
+        .getTrackedEntityProgramOwnerOrgUnits(any(), any());
+    verify(tempOwnerCache, times(1)).get(any(), any());
+  }
+
   private TrackedEntity createTrackedEntityWithAuditLog(boolean isAllowAuditLog) {
     trackedEntityType.setAllowAuditLog(isAllowAuditLog);
     TrackedEntity trackedEntity = createTrackedEntity('A', orgUnit, trackedEntityType);
@@ -42,6 +42,7 @@ import static org.mockito.Mockito.when;
 import java.util.ArrayList;
 import java.util.List;
 import org.hisp.dhis.common.UID;
+import org.hisp.dhis.monitoring.metrics.ApplicationMetrics;
 import org.hisp.dhis.scheduling.JobProgress;
 import org.hisp.dhis.scheduling.RecordingJobProgress;
 import org.hisp.dhis.tracker.imports.DefaultTrackerImportService;
@@ -87,7 +88,10 @@ class TrackerImporterServiceTest {
   public void setUp() {
     subject =
         new DefaultTrackerImportService(
-            trackerBundleService, validationService, trackerPreprocessService);
+            trackerBundleService,
+            validationService,
+            trackerPreprocessService,
+            ApplicationMetrics.noop());
 
     injectSecurityContextNoSettings(user);
 
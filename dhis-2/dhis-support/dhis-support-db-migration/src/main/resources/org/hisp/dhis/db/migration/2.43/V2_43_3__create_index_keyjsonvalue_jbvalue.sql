@@ -0,0 +1,3 @@
+-- Supports containment (@>) filters on datastore entry values, see DatastoreQueryBuilder
+-- Built concurrently to not block writes to the datastore, which requires running outside a transaction
+create index concurrently if not exists in_keyjsonvalue_jbvalue on keyjsonvalue using gin (jbvalue jsonb_path_ops);
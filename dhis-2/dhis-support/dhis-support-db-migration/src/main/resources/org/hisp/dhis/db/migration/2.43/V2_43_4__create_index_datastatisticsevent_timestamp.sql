@@ -0,0 +1,2 @@
+-- Lets the daily data statistics snapshot read only the events of the counted time range
+create index concurrently if not exists in_datastatisticsevent_timestamp on datastatisticsevent (timestamp);
@@ -68,6 +68,12 @@ public enum ConfigurationKey {
    */
   SYSTEM_CACHE_MAX_SIZE_FACTOR("system.cache.max_size.factor", "0.5", false),
 
+  /**
+   * Number of database data integrity checks which are run in parallel, each using a connection of
+   * the pool. (default: 4).
+   */
+  SYSTEM_DATA_INTEGRITY_PARALLELISM("system.data_integrity.parallelism", "4", false),
+
   /** Node identifier, optional, useful in clusters. */
   NODE_ID("node.id", "", false),
 
@@ -362,6 +368,38 @@ public enum ConfigurationKey {
    */
   META_DATA_SYNC_SERVERS_ALLOWED("metadata.sync.remote_servers_allowed", "", false),
 
+  /**
+   * Maximum number of data value pages a data synchronization sends to the remote server at the
+   * same time. (default: 3)
+   */
+  DATA_SYNC_PAGES_IN_FLIGHT("data.sync.pages_in_flight", "3", false),
+
+  /**
+   * Maximum number of rows a maintenance pruning task deletes per chunk. Each chunk is committed on
+   * its own. (default: 10000)
+   */
+  MAINTENANCE_DELETE_CHUNK_SIZE("maintenance.delete.chunk_size", "10000", false),
+
+  /**
+   * Time a maintenance pruning task pauses after each chunk, as percentage of the time the chunk
+   * took to delete. Slow chunks on a busy database result in longer pauses. (default: 50)
+   */
+  MAINTENANCE_DELETE_PAUSE_PERCENT("maintenance.delete.pause_percent", "50", false),
+
+  /**
+   * Maximum replication lag in seconds before a maintenance pruning task waits for replicas to
+   * catch up before deleting the next chunk. Use 0 to disable. The lag is read from
+   * pg_stat_replication, which requires the database user to have the pg_monitor role; without it
+   * the lag is unknown and deletions are not throttled. (default: 30)
+   */
+  MAINTENANCE_DELETE_MAX_REPLICATION_LAG("maintenance.delete.max_replication_lag", "30", false),
+
+  /**
+   * Maximum number of source requests of an aggregate data exchange for which analytics data is
+   * fetched at the same time. (default: 4)
+   */
+  AGGREGATE_DATA_EXCHANGE_CONCURRENCY("aggregate_data_exchange.concurrency", "4", false),
+
   /** EHCache replication host. */
   CLUSTER_HOSTNAME("cluster.hostname", "", false),
 
@@ -423,6 +461,21 @@ public enum ConfigurationKey {
    */
   ANALYTICS_TABLE_SKIP_COLUMN("analytics.table.skip_column", "", false),
 
+  /**
+   * Total cost of analytics queries allowed to run at the same time, where a small query costs 1
+   * and a large query up to 8. Further queries wait for capacity. Zero means no limit. (default: 0)
+   */
+  ANALYTICS_ADMISSION_MAX_COST("analytics.admission.max_cost", "0", false),
+
+  /**
+   * Total cost of analytics queries a single user is allowed to run at the same time. Zero means no
+   * limit. (default: 0)
+   */
+  ANALYTICS_ADMISSION_MAX_USER_COST("analytics.admission.max_user_cost", "0", false),
+
+  /** Seconds an analytics query waits for capacity before it is rejected. (default: 30) */
+  ANALYTICS_ADMISSION_MAX_WAIT("analytics.admission.max_wait", "30", false),
+
   /**
    * Artemis support mode, 2 modes supported: EMBEDDED (starts up an embedded Artemis which lives in
    * the same process as your DHIS2 instance), NATIVE (connects to an external Artemis instance,
@@ -638,6 +691,12 @@ public enum ConfigurationKey {
    */
   ACTIVE_READ_REPLICAS("active.read.replicas", "0", false),
 
+  /**
+   * Replication lag in seconds above which a read replica is no longer used until it caught up.
+   * (default: 30)
+   */
+  READ_REPLICA_MAX_LAG("read.replica.max_lag", "30", false),
+
   /**
    * Allows enabling/disabling audits system-wide (without configuring the audit matrix). (default:
    * true)
@@ -747,6 +806,12 @@ public enum ConfigurationKey {
   /** Ehcache monitoring. (default: off) */
   MONITORING_EHCACHE_ENABLED("monitoring.ehcache.enabled", Constants.OFF, false),
 
+  /**
+   * Application monitoring of analytics queries, imports, jobs and application caches. (default:
+   * off)
+   */
+  MONITORING_APPLICATION_ENABLED("monitoring.application.enabled", Constants.OFF, false),
+
   CACHE_EHCACHE_CONFIG_FILE("cache.ehcache.config.file", "classpath:ehcache.xml", false);
 
   private final String key;
@@ -108,11 +108,18 @@ public class AnalyticsDataSourceConfig {
     return getJdbcTemplate(dataSource);
   }
 
+  @Bean(name = "analyticsReadOnlyDataSourceManager", destroyMethod = "close")
+  @DependsOn("analyticsDataSource")
+  public ReadOnlyDataSourceManager readOnlyDataSourceManager(
+      @Qualifier("analyticsDataSource") DataSource dataSource) {
+    return new ReadOnlyDataSourceManager(config, dataSource);
+  }
+
   @Bean("analyticsReadOnlyJdbcTemplate")
   @DependsOn("analyticsDataSource")
   public JdbcTemplate readOnlyJdbcTemplate(
+      @Qualifier("analyticsReadOnlyDataSourceManager") ReadOnlyDataSourceManager manager,
       @Qualifier("analyticsDataSource") DataSource dataSource) {
-    ReadOnlyDataSourceManager manager = new ReadOnlyDataSourceManager(config);
     DataSource ds = MoreObjects.firstNonNull(manager.getReadOnlyDataSource(), dataSource);
     return getJdbcTemplate(ds);
   }
@@ -0,0 +1,334 @@
+/*
+ * Copyright (c) 2004-2022, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.datasource;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.CheckForNull;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.TransactionAwareDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Data source implementation which routes to the healthiest of the configured target data sources.
+ *
+ * <p>Each target keeps an exponentially weighted moving average of the time it takes to obtain a
+ * connection and to run a periodic probe query, which also determines the replication lag. Targets
+ * which fail to connect are ejected for a while, targets lagging behind more than the maximum or
+ * with unknown lag are skipped until they caught up. Of the remaining targets two are picked at
+ * random and the one with the lower average latency is used. This balances load without sending all
+ * requests to the single fastest target.
+ *
+ * <p>Reads made within a read-write transaction of the calling thread are routed to the primary
+ * data source through a {@link TransactionAwareDataSourceProxy}. They use the connection bound to
+ * that transaction, so they see its uncommitted writes and do not hold a second connection of the
+ * primary pool. Reads in later transactions can still go to a replica which has not caught up yet,
+ * within the bounds of the maximum lag.
+ */
+@Slf4j
+public class LatencyAwareRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+  private static final String LAG_QUERY =
+      "select case when not pg_is_in_recovery() "
+          + "or pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0 "
+          + "else extract(epoch from now() - pg_last_xact_replay_timestamp()) end";
+
+  /** SQL state class of connection exceptions */
+  private static final String CONNECTION_EXCEPTION_CLASS = "08";
+
+  /** Weight of the latest sample in the latency average */
+  private static final double ALPHA = 0.2;
+
+  private static final long EJECTION_MILLIS = 30_000;
+
+  private final List<Target> targets;
+
+  @CheckForNull private final DataSource primary;
+
+  private final double maxLagSeconds;
+
+  @CheckForNull private final ScheduledExecutorService probeExecutor;
+
+  /**
+   * @param targetDataSources the data sources to route to
+   * @param primary the data source to route to within read-write transactions, which must be the
+   *     data source of the transaction manager, null to always use the targets
+   * @param maxLagSeconds replication lag above which a target is skipped
+   * @param probeInterval interval of probing lag and latency of the targets, zero to not probe
+   */
+  public LatencyAwareRoutingDataSource(
+      List<DataSource> targetDataSources,
+      @CheckForNull DataSource primary,
+      double maxLagSeconds,
+      Duration probeInterval) {
+    this.targets = targetDataSources.stream().map(Target::new).toList();
+    this.primary = primary != null ? new TransactionAwareDataSourceProxy(primary) : null;
+    this.maxLagSeconds = maxLagSeconds;
+
+    if (!probeInterval.isZero()) {
+      this.probeExecutor =
+          Executors.newSingleThreadScheduledExecutor(
+              new ThreadFactoryBuilder()
+                  .setNameFormat("READ-REPLICA-PROBE")
+                  .setDaemon(true)
+                  .build());
+      this.probeExecutor.scheduleWithFixedDelay(
+          this::probe, 0, probeInterval.toMillis(), TimeUnit.MILLISECONDS);
+    } else {
+      this.probeExecutor = null;
+    }
+  }
+
+  // -------------------------------------------------------------------------
+  // AbstractDataSource implementation
+  // -------------------------------------------------------------------------
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return getConnection(null, null);
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    if (primary != null && isInReadWriteTransaction()) {
+      // credentials would bypass the transaction bound connection
+      return primary.getConnection();
+    }
+    List<Target> candidates = new ArrayList<>(targets);
+    SQLException error = null;
+    while (!candidates.isEmpty()) {
+      Target target = select(candidates);
+      long start = System.nanoTime();
+      try {
+        Connection connection = getConnection(target.dataSource, username, password);
+        target.recordLatency(System.nanoTime() - start);
+        target.connections.incrementAndGet();
+        return connection;
+      } catch (SQLException ex) {
+        if (isConnectionFailure(ex)) {
+          log.warn("Ejecting read replica after failing to connect: {}", ex.getMessage());
+          target.eject();
+        } else {
+          log.warn("Failed to obtain connection from read replica: {}", ex.getMessage());
+        }
+        candidates.remove(target);
+        error = ex;
+      }
+    }
+    throw error;
+  }
+
+  // -------------------------------------------------------------------------
+  // Public methods
+  // -------------------------------------------------------------------------
+
+  /**
+   * @return the state of the targets in the order of the target data sources, for monitoring
+   */
+  public List<Target> getTargets() {
+    return targets;
+  }
+
+  /** Stops probing the targets. The target data sources are not closed. */
+  @Override
+  public void close() {
+    if (probeExecutor != null) {
+      probeExecutor.shutdownNow();
+    }
+  }
+
+  // -------------------------------------------------------------------------
+  // Supportive methods
+  // -------------------------------------------------------------------------
+
+  private static Connection getConnection(DataSource dataSource, String username, String password)
+      throws SQLException {
+    return username == null
+        ? dataSource.getConnection()
+        : dataSource.getConnection(username, password);
+  }
+
+  private static boolean isInReadWriteTransaction() {
+    return TransactionSynchronizationManager.isActualTransactionActive()
+        && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+  }
+
+  /**
+   * @return true if the exception, or any of its causes, indicates that the database could not be
+   *     reached, as opposed to failures like invalid credentials or an exhausted pool
+   */
+  private static boolean isConnectionFailure(SQLException ex) {
+    for (Throwable t = ex; t != null; t = t.getCause()) {
+      if (t instanceof SQLNonTransientConnectionException) {
+        return true;
+      }
+      if (t instanceof SQLException sqlEx
+          && sqlEx.getSQLState() != null
+          && sqlEx.getSQLState().startsWith(CONNECTION_EXCEPTION_CLASS)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @return the better of two random available candidates, or of all candidates if none is
+   *     available
+   */
+  private Target select(List<Target> candidates) {
+    long now = System.currentTimeMillis();
+    List<Target> available =
+        candidates.stream().filter(target -> target.isAvailable(now, maxLagSeconds)).toList();
+    List<Target> choices = available.isEmpty() ? candidates : available;
+    if (choices.size() == 1) {
+      return choices.get(0);
+    }
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    int i = random.nextInt(choices.size());
+    int j = (i + 1 + random.nextInt(choices.size() - 1)) % choices.size();
+    Target a = choices.get(i);
+    Target b = choices.get(j);
+    return a.latencyNanos <= b.latencyNanos ? a : b;
+  }
+
+  /** Updates replication lag and latency of all targets. */
+  void probe() {
+    for (Target target : targets) {
+      try {
+        probe(target);
+      } catch (RuntimeException ex) {
+        // must not escape as it would cancel all further probes
+        log.warn("Failed to probe read replica", ex);
+        target.lagSeconds = Double.POSITIVE_INFINITY;
+      }
+    }
+  }
+
+  private void probe(Target target) {
+    long start = System.nanoTime();
+    try (Connection connection = target.dataSource.getConnection()) {
+      target.lagSeconds = getLagSeconds(connection);
+      target.recordLatency(System.nanoTime() - start);
+    } catch (SQLException ex) {
+      if (isConnectionFailure(ex)) {
+        log.warn("Ejecting read replica after failed probe: {}", ex.getMessage());
+        target.eject();
+      } else {
+        log.warn("Failed to probe read replica: {}", ex.getMessage());
+      }
+      target.lagSeconds = Double.POSITIVE_INFINITY;
+    }
+    if (target.lagSeconds > maxLagSeconds) {
+      log.warn("Skipping read replica with replication lag of {}s", target.lagSeconds);
+    }
+  }
+
+  /**
+   * @return the replication lag in seconds, infinite if it cannot be determined
+   */
+  private static double getLagSeconds(Connection connection) {
+    try (Statement statement = connection.createStatement();
+        ResultSet rs = statement.executeQuery(LAG_QUERY)) {
+      if (!rs.next()) {
+        return Double.POSITIVE_INFINITY;
+      }
+      double lag = rs.getDouble(1);
+      return rs.wasNull() ? Double.POSITIVE_INFINITY : lag;
+    } catch (SQLException ex) {
+      log.warn("Failed to determine replication lag: {}", ex.getMessage());
+      return Double.POSITIVE_INFINITY;
+    }
+  }
+
+  /** The routing state of a single target data source. */
+  public static final class Target {
+    final DataSource dataSource;
+
+    volatile double latencyNanos;
+
+    volatile double lagSeconds;
+
+    volatile long ejectedUntil;
+
+    final AtomicLong connections = new AtomicLong();
+
+    final AtomicLong ejections = new AtomicLong();
+
+    Target(DataSource dataSource) {
+      this.dataSource = dataSource;
+    }
+
+    boolean isAvailable(long now, double maxLagSeconds) {
+      return now >= ejectedUntil && lagSeconds <= maxLagSeconds;
+    }
+
+    void eject() {
+      ejectedUntil = System.currentTimeMillis() + EJECTION_MILLIS;
+      ejections.incrementAndGet();
+    }
+
+    synchronized void recordLatency(long nanos) {
+      latencyNanos = latencyNanos == 0d ? nanos : ALPHA * nanos + (1 - ALPHA) * latencyNanos;
+    }
+
+    public double getLatencyMillis() {
+      return latencyNanos / 1_000_000d;
+    }
+
+    public double getLagSeconds() {
+      return lagSeconds;
+    }
+
+    public boolean isEjected() {
+      return System.currentTimeMillis() < ejectedUntil;
+    }
+
+    public long getConnectionCount() {
+      return connections.get();
+    }
+
+    public long getEjectionCount() {
+      return ejections.get();
+    }
+  }
+}
@@ -33,9 +33,11 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import static org.hisp.dhis.external.conf.ConfigurationKey.CONNECTION_PASSWORD;
 import static org.hisp.dhis.external.conf.ConfigurationKey.CONNECTION_URL;
 import static org.hisp.dhis.external.conf.ConfigurationKey.CONNECTION_USERNAME;
+import static org.hisp.dhis.external.conf.ConfigurationKey.READ_REPLICA_MAX_LAG;
 
 import java.beans.PropertyVetoException;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
@@ -75,9 +77,20 @@ public class ReadOnlyDataSourceManager {
 
   private static final int MAX_READ_REPLICAS = 5;
 
+  private static final Duration PROBE_INTERVAL = Duration.ofSeconds(10);
+
   public ReadOnlyDataSourceManager(DhisConfigurationProvider config) {
+    this(config, null);
+  }
+
+  /**
+   * @param config the configuration
+   * @param primary the data source used for reads within read-write transactions, or null to always
+   *     read from the replicas
+   */
+  public ReadOnlyDataSourceManager(DhisConfigurationProvider config, DataSource primary) {
     checkNotNull(config);
-    init(config);
+    init(config, primary);
   }
 
   /** State holder for the resolved read only data source. */
@@ -91,10 +104,18 @@ public class ReadOnlyDataSourceManager {
   // -------------------------------------------------------------------------
 
   public void init(DhisConfigurationProvider config) {
+    init(config, null);
+  }
+
+  public void init(DhisConfigurationProvider config, DataSource primary) {
     List<DataSource> ds = getReadOnlyDataSources(config);
 
     this.internalReadOnlyInstanceList = ds;
-    this.internalReadOnlyDataSource = !ds.isEmpty() ? new CircularRoutingDataSource(ds) : null;
+    this.internalReadOnlyDataSource =
+        !ds.isEmpty()
+            ? new LatencyAwareRoutingDataSource(
+                ds, primary, config.getIntProperty(READ_REPLICA_MAX_LAG), PROBE_INTERVAL)
+            : null;
   }
 
   public DataSource getReadOnlyDataSource() {
@@ -105,6 +126,13 @@ public class ReadOnlyDataSourceManager {
     return internalReadOnlyInstanceList != null ? internalReadOnlyInstanceList.size() : 0;
   }
 
+  /** Stops the background work of the resolved read only data source. */
+  public void close() {
+    if (internalReadOnlyDataSource instanceof LatencyAwareRoutingDataSource routing) {
+      routing.close();
+    }
+  }
+
   // -------------------------------------------------------------------------
   // Supportive methods
   // -------------------------------------------------------------------------
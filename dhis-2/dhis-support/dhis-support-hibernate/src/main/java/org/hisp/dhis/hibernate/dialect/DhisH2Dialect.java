@@ -33,6 +33,7 @@ import io.hypersistence.utils.hibernate.type.array.StringArrayType;
 import java.sql.Types;
 import org.hibernate.boot.model.TypeContributions;
 import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.function.SQLFunctionTemplate;
 import org.hibernate.dialect.function.StandardSQLFunction;
 import org.hibernate.service.ServiceRegistry;
 import org.hibernate.type.StandardBasicTypes;
@@ -56,6 +57,9 @@ public class DhisH2Dialect extends H2Dialect {
     registerFunction(
         JsonbFunctions.JSONB_TYPEOF,
         new StandardSQLFunction(JsonbFunctions.JSONB_TYPEOF, StandardBasicTypes.STRING));
+    // containment is only used as index friendly pre-filter which is implied by the actual filter
+    registerFunction(
+        JsonbFunctions.CONTAINS, new SQLFunctionTemplate(StandardBasicTypes.BOOLEAN, "true"));
     registerFunction(
         JsonbFunctions.HAS_USER_GROUP_IDS,
         new StandardSQLFunction(JsonbFunctions.HAS_USER_GROUP_IDS, StandardBasicTypes.BOOLEAN));
@@ -31,6 +31,7 @@ package org.hisp.dhis.hibernate.dialect;
 
 import io.hypersistence.utils.hibernate.type.array.StringArrayType;
 import java.sql.Types;
+import org.hibernate.dialect.function.SQLFunctionTemplate;
 import org.hibernate.dialect.function.StandardSQLFunction;
 import org.hibernate.spatial.dialect.postgis.PostgisPG95Dialect;
 import org.hibernate.type.StandardBasicTypes;
@@ -58,6 +59,9 @@ public class DhisPostgresDialect extends PostgisPG95Dialect {
     registerFunction(
         JsonbFunctions.JSONB_TYPEOF,
         new StandardSQLFunction(JsonbFunctions.JSONB_TYPEOF, StandardBasicTypes.STRING));
+    registerFunction(
+        JsonbFunctions.CONTAINS,
+        new SQLFunctionTemplate(StandardBasicTypes.BOOLEAN, "(?1 @> cast(?2 as jsonb))"));
     registerFunction(
         JsonbFunctions.HAS_USER_GROUP_IDS,
         new StandardSQLFunction(JsonbFunctions.HAS_USER_GROUP_IDS, StandardBasicTypes.BOOLEAN));
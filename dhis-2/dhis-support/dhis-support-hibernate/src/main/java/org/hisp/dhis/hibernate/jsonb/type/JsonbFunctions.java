@@ -76,6 +76,12 @@ public class JsonbFunctions {
   /** Built-in function of PostgresQL */
   public static final String JSONB_TYPEOF = "jsonb_typeof";
 
+  /**
+   * Containment check of PostgresQL rendered as {@code $1 @> cast($2 as jsonb)} so that GIN indexes
+   * on the column can be used. $1 jsonb column $2 JSON text of the contained value
+   */
+  public static final String CONTAINS = "jsonb_contains";
+
   /**
    * Use the regex operator '~*' to match a given string with a given regular expression $1 String
    * to search $2 Regular expression for matching
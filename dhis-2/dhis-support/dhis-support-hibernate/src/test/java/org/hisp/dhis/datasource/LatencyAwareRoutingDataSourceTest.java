@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2004-2022, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.atMostOnce;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class LatencyAwareRoutingDataSourceTest {
+  private final DataSource replicaA = mock(DataSource.class);
+
+  private final DataSource replicaB = mock(DataSource.class);
+
+  private final DataSource primary = mock(DataSource.class);
+
+  private final Connection connection = mock(Connection.class);
+
+  private final LatencyAwareRoutingDataSource dataSource =
+      new LatencyAwareRoutingDataSource(List.of(replicaA, replicaB), primary, 30, Duration.ZERO);
+
+  @Test
+  void testGetConnectionEjectsFailingReplica() throws SQLException {
+    when(replicaA.getConnection()).thenThrow(new SQLException("down", "08001"));
+    when(replicaB.getConnection()).thenReturn(connection);
+
+    for (int i = 0; i < 10; i++) {
+      assertSame(connection, dataSource.getConnection());
+    }
+    verify(replicaA, atMostOnce()).getConnection();
+  }
+
+  @Test
+  void testGetConnectionSkipsLaggingReplica() throws SQLException {
+    when(replicaB.getConnection()).thenReturn(connection);
+    dataSource.getTargets().get(0).lagSeconds = 60;
+
+    for (int i = 0; i < 10; i++) {
+      assertSame(connection, dataSource.getConnection());
+    }
+    verify(replicaA, never()).getConnection();
+  }
+
+  @Test
+  void testGetConnectionDoesNotEjectReplicaOnOtherFailures() throws SQLException {
+    when(replicaA.getConnection()).thenThrow(new SQLException("timeout"));
+    when(replicaB.getConnection()).thenReturn(connection);
+
+    assertSame(connection, dataSource.getConnection());
+    assertFalse(dataSource.getTargets().get(0).isEjected());
+  }
+
+  @Test
+  void testGetConnectionFailsWhenAllReplicasFail() throws SQLException {
+    when(replicaA.getConnection()).thenThrow(new SQLException("down", "08001"));
+    when(replicaB.getConnection()).thenThrow(new SQLException("down", "08001"));
+
+    assertThrows(SQLException.class, dataSource::getConnection);
+  }
+
+  @Test
+  void testGetConnectionUsesTransactionConnectionInReadWriteTransaction() throws SQLException {
+    when(primary.getConnection()).thenReturn(connection);
+    TransactionTemplate transactionTemplate =
+        new TransactionTemplate(new DataSourceTransactionManager(primary));
+
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          try {
+            try (Connection routed = dataSource.getConnection()) {
+              assertSame(connection, ((ConnectionProxy) routed).getTargetConnection());
+              assertSame(connection, DataSourceUtils.getConnection(primary));
+            }
+            verify(connection, never()).close();
+          } catch (SQLException ex) {
+            throw new IllegalStateException(ex);
+          }
+        });
+
+    verify(primary, times(1)).getConnection();
+    verify(connection).commit();
+    verify(connection, times(1)).close();
+    verify(replicaA, never()).getConnection();
+    verify(replicaB, never()).getConnection();
+  }
+
+  @Test
+  void testGetConnectionUsesReplicaInReadOnlyTransaction() throws SQLException {
+    when(replicaA.getConnection()).thenReturn(connection);
+    when(replicaB.getConnection()).thenReturn(connection);
+    TransactionSynchronizationManager.setActualTransactionActive(true);
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    try {
+      assertSame(connection, dataSource.getConnection());
+    } finally {
+      TransactionSynchronizationManager.clear();
+    }
+    verify(primary, never()).getConnection();
+  }
+
+  @Test
+  void testProbeTreatsUnreadableLagAsUnhealthy() throws SQLException {
+    when(replicaA.getConnection()).thenReturn(connection);
+    when(replicaB.getConnection()).thenThrow(new IllegalStateException("broken"));
+    when(connection.createStatement()).thenThrow(new SQLException("no access"));
+
+    dataSource.probe();
+
+    assertEquals(Double.POSITIVE_INFINITY, dataSource.getTargets().get(0).getLagSeconds());
+    assertEquals(Double.POSITIVE_INFINITY, dataSource.getTargets().get(1).getLagSeconds());
+  }
+
+  @Test
+  void testCloseStopsProbing() throws SQLException {
+    when(replicaA.getConnection()).thenReturn(connection);
+    when(connection.createStatement()).thenThrow(new SQLException("no access"));
+    LatencyAwareRoutingDataSource probing =
+        new LatencyAwareRoutingDataSource(List.of(replicaA), null, 30, Duration.ofMillis(10));
+    verify(replicaA, timeout(1000).atLeast(2)).getConnection();
+
+    probing.close();
+    clearInvocations(replicaA);
+
+    verify(replicaA, after(200).never()).getConnection();
+  }
+}
@@ -43,6 +43,7 @@ import org.hisp.dhis.common.event.ApplicationCacheClearedEvent;
 import org.hisp.dhis.common.event.CacheInvalidationEvent;
 import org.hisp.dhis.external.conf.ConfigurationKey;
 import org.hisp.dhis.external.conf.DhisConfigurationProvider;
+import org.hisp.dhis.monitoring.metrics.ApplicationMetrics;
 import org.springframework.context.event.EventListener;
 import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
@@ -69,12 +70,16 @@ public class DefaultCacheProvider implements CacheProvider {
 
   private final Environment environment;
 
+  private final ApplicationMetrics metrics;
+
   public DefaultCacheProvider(
       CacheBuilderProvider cacheBuilderProvider,
       Environment environment,
-      DhisConfigurationProvider dhisConfig) {
+      DhisConfigurationProvider dhisConfig,
+      ApplicationMetrics metrics) {
     this.cacheBuilderProvider = cacheBuilderProvider;
     this.environment = environment;
+    this.metrics = metrics;
     this.cacheFactor =
         Double.parseDouble(dhisConfig.getProperty(ConfigurationKey.SYSTEM_CACHE_MAX_SIZE_FACTOR));
   }
@@ -93,7 +98,9 @@ public class DefaultCacheProvider implements CacheProvider {
 
   @SuppressWarnings("unchecked")
   private <V> Cache<V> registerCache(CacheBuilder<V> builder) {
-    return (Cache<V>) allCaches.computeIfAbsent(builder.getRegion(), region -> builder.build());
+    return (Cache<V>)
+        allCaches.computeIfAbsent(
+            builder.getRegion(), region -> metrics.monitor(region, builder.build()));
   }
 
   private long getActualSize(long size) {
@@ -163,6 +170,22 @@ public class DefaultCacheProvider implements CacheProvider {
             .withMaximumSize(orZeroInTestRun(getActualSize(SIZE_10K))));
   }
 
+  /**
+   * Cache for the raw rows of the data approval status query. The rows drive approval and data
+   * entry locking decisions, so the cache is shared between nodes like the is data approved cache.
+   * Entries are invalidated whenever an approval is added, updated or deleted, and expire after a
+   * short while so that changes to data set assignments and category option sharing are picked up.
+   */
+  @Override
+  public <V> Cache<V> createDataApprovalStatusCache() {
+    return registerCache(
+        this.<V>newBuilder()
+            .forRegion(Region.dataApprovalStatus.name())
+            .expireAfterWrite(10, TimeUnit.MINUTES)
+            .withInitialCapacity((int) getActualSize(SIZE_100))
+            .withMaximumSize(orZeroInTestRun(getActualSize(SIZE_10K))));
+  }
+
   @Override
   public <V> Cache<V> createAllConstantsCache() {
     return registerCache(
@@ -328,6 +351,26 @@ public class DefaultCacheProvider implements CacheProvider {
             .withMaximumSize(orZeroInTestRun(getActualSize(SIZE_10K))));
   }
 
+  @Override
+  public <V> Cache<V> createAnalyticsCountCache() {
+    return registerCache(
+        this.<V>newBuilder()
+            .forRegion(Region.analyticsCount.name())
+            .expireAfterWrite(1, TimeUnit.HOURS)
+            .withInitialCapacity((int) getActualSize(SIZE_100))
+            .withMaximumSize(orZeroInTestRun(getActualSize(SIZE_10K))));
+  }
+
+  @Override
+  public <V> Cache<V> createAnalyticsProgramIndicatorCache() {
+    return registerCache(
+        this.<V>newBuilder()
+            .forRegion(Region.analyticsProgramIndicator.name())
+            .expireAfterWrite(12, TimeUnit.HOURS)
+            .withInitialCapacity((int) getActualSize(SIZE_100))
+            .withMaximumSize(orZeroInTestRun(getActualSize(SIZE_10K))));
+  }
+
   @Override
   public <V> Cache<V> createPropertyTransformerCache() {
     return registerCache(
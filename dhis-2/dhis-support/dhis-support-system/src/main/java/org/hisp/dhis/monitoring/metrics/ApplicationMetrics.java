@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2004-2022, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.monitoring.metrics;
+
+import static org.hisp.dhis.external.conf.ConfigurationKey.MONITORING_APPLICATION_ENABLED;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javax.annotation.CheckForNull;
+import lombok.extern.slf4j.Slf4j;
+import org.hisp.dhis.cache.Cache;
+import org.hisp.dhis.external.conf.DhisConfigurationProvider;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records timings and counts of application operations like analytics queries, imports and jobs to
+ * the {@link MeterRegistry} exposed by the Prometheus endpoint.
+ *
+ * <p>Tags are given as key-value pairs and must only use values from a small, fixed set, like enum
+ * names, so that the number of time series stays bounded. When monitoring is disabled all methods
+ * just run the given work.
+ */
+@Slf4j
+@Component
+public class ApplicationMetrics {
+  @CheckForNull private final MeterRegistry registry;
+
+  @Autowired
+  public ApplicationMetrics(
+      DhisConfigurationProvider config, ObjectProvider<MeterRegistry> meterRegistry) {
+    this(config.isEnabled(MONITORING_APPLICATION_ENABLED) ? meterRegistry.getIfAvailable() : null);
+  }
+
+  ApplicationMetrics(@CheckForNull MeterRegistry registry) {
+    this.registry = registry;
+    log.info("Application monitoring is {}", registry != null ? "enabled" : "disabled");
+  }
+
+  /** Returns an instance which does not record anything, intended for tests. */
+  public static ApplicationMetrics noop() {
+    return new ApplicationMetrics((MeterRegistry) null);
+  }
+
+  public boolean isEnabled() {
+    return registry != null;
+  }
+
+  /**
+   * Runs the given work and records its duration.
+   *
+   * @param name the timer name.
+   * @param work the work to time.
+   * @param tags the tags as key-value pairs.
+   * @return the result of the work.
+   */
+  public <T> T time(String name, Supplier<T> work, String... tags) {
+    return registry == null ? work.get() : timer(name, tags).record(work);
+  }
+
+  /**
+   * Runs the given work and records its duration.
+   *
+   * @param name the timer name.
+   * @param work the work to time.
+   * @param tags the tags as key-value pairs.
+   */
+  public void time(String name, Runnable work, String... tags) {
+    if (registry == null) {
+      work.run();
+    } else {
+      timer(name, tags).record(work);
+    }
+  }
+
+  /**
+   * Starts timing an operation which is not a single block of code. The duration is recorded when
+   * the returned sample is stopped.
+   *
+   * @return a started sample.
+   */
+  public Sample start() {
+    return new Sample(this, System.nanoTime());
+  }
+
+  /**
+   * Wraps the given cache so that hits and misses of lookups are counted by cache region.
+   *
+   * @param region the cache region name.
+   * @param cache the cache to monitor.
+   * @return the monitored cache, or the given cache if monitoring is disabled.
+   */
+  public <V> Cache<V> monitor(String region, Cache<V> cache) {
+    if (registry == null) {
+      return cache;
+    }
+    return new MeteredCache<>(cache, cacheCounter(region, "hit"), cacheCounter(region, "miss"));
+  }
+
+  private Timer timer(String name, String... tags) {
+    return Timer.builder(name).tags(tags).publishPercentileHistogram().register(registry);
+  }
+
+  private Counter cacheCounter(String region, String result) {
+    return Counter.builder("cache.gets")
+        .description("The number of application cache lookups")
+        .tags("region", region, "result", result)
+        .register(registry);
+  }
+
+  /** A running timing started by {@link #start()}. */
+  public static final class Sample {
+    private final ApplicationMetrics metrics;
+
+    private final long startNanos;
+
+    private Sample(ApplicationMetrics metrics, long startNanos) {
+      this.metrics = metrics;
+      this.startNanos = startNanos;
+    }
+
+    /**
+     * Records the time passed since the sample was started.
+     *
+     * @param name the timer name.
+     * @param tags the tags as key-value pairs.
+     */
+    public void stop(String name, String... tags) {
+      if (metrics.registry != null) {
+        metrics.timer(name, tags).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+      }
+    }
+  }
+}
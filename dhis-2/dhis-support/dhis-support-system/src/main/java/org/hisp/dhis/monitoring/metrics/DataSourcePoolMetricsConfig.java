@@ -33,13 +33,18 @@ import static org.hisp.dhis.external.conf.ConfigurationKey.MONITORING_DBPOOL_ENA
 
 import com.mchange.v2.c3p0.ComboPooledDataSource;
 import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import javax.sql.DataSource;
 import org.apache.commons.lang3.StringUtils;
+import org.hisp.dhis.datasource.LatencyAwareRoutingDataSource;
+import org.hisp.dhis.datasource.LatencyAwareRoutingDataSource.Target;
 import org.hisp.dhis.external.conf.ConfigurationKey;
 import org.hisp.dhis.monitoring.metrics.jdbc.C3p0MetadataProvider;
 import org.hisp.dhis.monitoring.metrics.jdbc.HikariMetadataProvider;
@@ -49,6 +54,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 /**
  * @author Luciano Fiandesio
@@ -76,6 +82,46 @@ public class DataSourcePoolMetricsConfig {
       dataSources.forEach(this::bindDataSourceToRegistry);
     }
 
+    /** Binds the state of each read replica of the read-only JDBC templates. */
+    @Autowired
+    public void bindReadReplicasToRegistry(Map<String, JdbcTemplate> jdbcTemplates) {
+      jdbcTemplates.forEach(
+          (beanName, jdbcTemplate) -> {
+            if (jdbcTemplate.getDataSource() instanceof LatencyAwareRoutingDataSource dataSource) {
+              bindReadReplicasToRegistry(beanName, dataSource);
+            }
+          });
+    }
+
+    private void bindReadReplicasToRegistry(
+        String beanName, LatencyAwareRoutingDataSource dataSource) {
+      List<Target> targets = dataSource.getTargets();
+      for (int i = 0; i < targets.size(); i++) {
+        Tags tags = Tags.of("name", beanName, "replica", String.valueOf(i + 1));
+        Target target = targets.get(i);
+        Gauge.builder("jdbc.replica.latency", target, Target::getLatencyMillis)
+            .description("Average time to obtain a connection and run a query in milliseconds")
+            .tags(tags)
+            .register(registry);
+        Gauge.builder("jdbc.replica.lag", target, Target::getLagSeconds)
+            .description("Replication lag in seconds")
+            .tags(tags)
+            .register(registry);
+        Gauge.builder("jdbc.replica.ejected", target, t -> t.isEjected() ? 1 : 0)
+            .description("Whether the replica is currently ejected after failing to connect")
+            .tags(tags)
+            .register(registry);
+        FunctionCounter.builder("jdbc.replica.connections", target, Target::getConnectionCount)
+            .description("Number of connections obtained from the replica")
+            .tags(tags)
+            .register(registry);
+        FunctionCounter.builder("jdbc.replica.ejections", target, Target::getEjectionCount)
+            .description("Number of times the replica was ejected")
+            .tags(tags)
+            .register(registry);
+      }
+    }
+
     private void bindDataSourceToRegistry(String beanName, DataSource dataSource) {
       String dataSourceName = getDataSourceName(beanName);
       new PoolMetrics(dataSource, this.metadataProviders, dataSourceName, Collections.emptyList())
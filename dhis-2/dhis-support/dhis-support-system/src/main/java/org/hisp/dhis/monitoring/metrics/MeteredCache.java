@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2004-2022, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.monitoring.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.hisp.dhis.cache.Cache;
+import org.hisp.dhis.cache.CacheType;
+
+/**
+ * {@link Cache} decorator counting hits and misses of lookups. A lookup that falls back to the
+ * default value of the cache counts as a miss.
+ */
+@RequiredArgsConstructor
+class MeteredCache<V> implements Cache<V> {
+  private final Cache<V> delegate;
+
+  private final Counter hits;
+
+  private final Counter misses;
+
+  @Override
+  public Optional<V> getIfPresent(String key) {
+    return count(delegate.getIfPresent(key));
+  }
+
+  @Override
+  public Optional<V> get(String key) {
+    Optional<V> value = count(delegate.getIfPresent(key));
+    return value.isPresent() ? value : delegate.get(key);
+  }
+
+  @Override
+  public V get(String key, Function<String, V> mappingFunction) {
+    boolean[] loaded = {false};
+    V value =
+        delegate.get(
+            key,
+            k -> {
+              loaded[0] = true;
+              return mappingFunction.apply(k);
+            });
+    (loaded[0] ? misses : hits).increment();
+    return value;
+  }
+
+  @Override
+  public Stream<V> getAll() {
+    return delegate.getAll();
+  }
+
+  @Override
+  public Iterable<String> keys() {
+    return delegate.keys();
+  }
+
+  @Override
+  public void put(String key, V value) {
+    delegate.put(key, value);
+  }
+
+  @Override
+  public void put(String key, V value, long ttlInSeconds) {
+    delegate.put(key, value, ttlInSeconds);
+  }
+
+  @Override
+  public boolean putIfAbsent(String key, V value) {
+    return delegate.putIfAbsent(key, value);
+  }
+
+  @Override
+  public void invalidate(String key) {
+    delegate.invalidate(key);
+  }
+
+  @Override
+  public void invalidateAll() {
+    delegate.invalidateAll();
+  }
+
+  @Override
+  public CacheType getCacheType() {
+    return delegate.getCacheType();
+  }
+
+  private Optional<V> count(Optional<V> value) {
+    (value.isPresent() ? hits : misses).increment();
+    return value;
+  }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2004-2022, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.system.executor;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Central place to obtain named thread pools instead of creating ad-hoc executors.
+ *
+ * <p>All pools are bounded in both threads and queued tasks. A saturated pool runs further tasks on
+ * the submitting thread which slows down the producer instead of growing the pool or failing. Tasks
+ * run with the security context and MDC of the thread that submitted them.
+ *
+ * <p>When a {@link MeterRegistry} is available each pool exports its size, active threads, queue
+ * depth and the number of tasks that had to run on the caller.
+ */
+@Slf4j
+@Component
+public class ExecutorRegistry {
+
+  private final Map<String, ThreadPoolExecutor> executors = new ConcurrentHashMap<>();
+
+  @Autowired(required = false)
+  private MeterRegistry meterRegistry;
+
+  /**
+   * Returns the pool of the given name, creating it on first use.
+   *
+   * @param name the pool name, also used as thread name prefix and metrics tag
+   * @param threads maximum number of threads, for pools doing database work this should be well
+   *     below the connection pool size
+   * @param queueCapacity maximum number of tasks waiting for a thread before tasks run on the
+   *     caller
+   * @return the pool, subsequent calls with the same name return the same pool
+   */
+  public ExecutorService getExecutor(String name, int threads, int queueCapacity) {
+    return executors.computeIfAbsent(name, key -> createExecutor(key, threads, queueCapacity));
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executors.values().forEach(ThreadPoolExecutor::shutdownNow);
+    executors.clear();
+  }
+
+  private ThreadPoolExecutor createExecutor(String name, int threads, int queueCapacity) {
+    AtomicLong callerRuns = new AtomicLong();
+    RejectedExecutionHandler callerRunsPolicy = new ThreadPoolExecutor.CallerRunsPolicy();
+    RejectedExecutionHandler rejectionHandler =
+        (task, executor) -> {
+          callerRuns.incrementAndGet();
+          callerRunsPolicy.rejectedExecution(task, executor);
+        };
+    ThreadPoolExecutor executor =
+        new ContextPropagatingThreadPoolExecutor(
+            threads,
+            new ArrayBlockingQueue<>(queueCapacity),
+            new ThreadFactoryBuilder().setNameFormat(name + "-%d").setDaemon(true).build(),
+            rejectionHandler);
+    executor.allowCoreThreadTimeOut(true);
+
+    if (meterRegistry != null) {
+      new ExecutorServiceMetrics(executor, name, Tags.empty()).bindTo(meterRegistry);
+      FunctionCounter.builder("executor.caller.runs", callerRuns, AtomicLong::get)
+          .description("The number of tasks that ran on the submitting thread")
+          .tag("name", name)
+          .register(meterRegistry);
+    }
+    log.debug("Created executor {} with {} threads", name, threads);
+    return executor;
+  }
+
+  private static final class ContextPropagatingThreadPoolExecutor extends ThreadPoolExecutor {
+
+    ContextPropagatingThreadPoolExecutor(
+        int threads,
+        ArrayBlockingQueue<Runnable> queue,
+        ThreadFactory threadFactory,
+        RejectedExecutionHandler handler) {
+      super(threads, threads, 60, TimeUnit.SECONDS, queue, threadFactory, handler);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+      super.execute(withContext(command));
+    }
+
+    /** Captures the context of the submitting thread to run the task with it. */
+    private static Runnable withContext(Runnable command) {
+      SecurityContext securityContext = SecurityContextHolder.getContext();
+      Map<String, String> mdc = MDC.getCopyOfContextMap();
+      return () -> {
+        SecurityContext previousSecurityContext = SecurityContextHolder.getContext();
+        Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+        setContext(securityContext, mdc);
+        try {
+          command.run();
+        } finally {
+          setContext(previousSecurityContext, previousMdc);
+        }
+      };
+    }
+
+    private static void setContext(SecurityContext securityContext, Map<String, String> mdc) {
+      SecurityContextHolder.setContext(securityContext);
+      if (mdc == null) {
+        MDC.clear();
+      } else {
+        MDC.setContextMap(mdc);
+      }
+    }
+  }
+}
@@ -38,10 +38,12 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
 import java.io.Serializable;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -51,9 +53,11 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.regex.Pattern;
+import java.util.stream.IntStream;
 import lombok.AccessLevel;
 import lombok.Getter;
 import net.sf.jasperreports.engine.JRException;
@@ -354,14 +358,12 @@ public class ListGrid implements Grid, Serializable {
 
   @Override
   public int getVisibleWidth() {
-    verifyGridState();
-
-    return grid != null && !grid.isEmpty() ? getVisibleRows().get(0).size() : 0;
+    return grid != null && !grid.isEmpty() ? getVisibleColumnIndexes().length : 0;
   }
 
   @Override
   public Grid addRow() {
-    grid.add(new ArrayList<>());
+    grid.add(headers.isEmpty() ? new ArrayList<>() : new ArrayList<>(headers.size()));
 
     currentRowWriteIndex++;
 
@@ -455,23 +457,17 @@ public class ListGrid implements Grid, Serializable {
   public List<List<Object>> getVisibleRows() {
     verifyGridState();
 
-    List<List<Object>> tempGrid = new ArrayList<>();
-
-    if (headers != null && !headers.isEmpty()) {
-      for (List<Object> row : grid) {
-        List<Object> tempRow = new ArrayList<>();
+    if (headers == null || headers.isEmpty()) {
+      return new ArrayList<>();
+    }
 
-        for (int i = 0; i < row.size(); i++) {
-          if (!headers.get(i).isHidden()) {
-            tempRow.add(row.get(i));
-          }
-        }
+    int[] visibleColumns = getVisibleColumnIndexes();
 
-        tempGrid.add(tempRow);
-      }
+    if (visibleColumns.length == getWidth()) {
+      return Collections.unmodifiableList(grid);
     }
 
-    return tempGrid;
+    return Lists.transform(grid, row -> new ColumnView(row, visibleColumns));
   }
 
   @Override
@@ -565,14 +561,36 @@ public class ListGrid implements Grid, Serializable {
       return this;
     }
 
-    int lastCol = getWidth() - 1;
+    int width = getWidth();
+    int[] retainedColumns = IntStream.range(0, width).filter(i -> !columnIsEmpty(i)).toArray();
+
+    if (retainedColumns.length == width) {
+      return this;
+    }
+
+    if (!headers.isEmpty()) {
+      List<GridHeader> retainedHeaders = new ArrayList<>(retainedColumns.length);
+
+      for (int i : retainedColumns) {
+        retainedHeaders.add(headers.get(i));
+      }
+
+      headers.clear();
+      headers.addAll(retainedHeaders);
+    }
+
+    for (List<Object> row : grid) {
+      int pos = 0;
 
-    for (int i = lastCol; i >= 0; i--) {
-      if (columnIsEmpty(i)) {
-        removeColumn(i);
+      for (int i : retainedColumns) {
+        row.set(pos++, row.get(i));
       }
+
+      row.subList(pos, row.size()).clear();
     }
 
+    updateColumnIndexMap();
+
     return this;
   }
 
@@ -645,7 +663,7 @@ public class ListGrid implements Grid, Serializable {
     }
 
     if (limit > 0 && limit <= getHeight()) {
-      grid = grid.subList(0, limit);
+      grid = new ArrayList<>(grid.subList(0, limit));
     }
 
     return this;
@@ -658,7 +676,7 @@ public class ListGrid implements Grid, Serializable {
           "Illegal start or end pos: " + startPos + ", " + endPos + ", " + getHeight());
     }
 
-    grid = grid.subList(startPos, endPos);
+    grid = new ArrayList<>(grid.subList(startPos, endPos));
 
     return this;
   }
@@ -829,15 +847,11 @@ public class ListGrid implements Grid, Serializable {
       return this;
     }
 
-    List<Object> sourceColumn = getColumn(sourceColumnIndex);
-
-    for (int rowIndex = 0; rowIndex < sourceColumn.size(); rowIndex++) {
-      Object sourceValue = sourceColumn.get(rowIndex);
-
-      Object metaValue = metaDataMap.get(sourceValue);
+    for (List<Object> row : grid) {
+      Object metaValue = metaDataMap.get(row.get(sourceColumnIndex));
 
       if (metaValue != null) {
-        grid.get(rowIndex).set(targetColumnIndex, metaValue);
+        row.set(targetColumnIndex, metaValue);
       }
     }
 
@@ -866,8 +880,9 @@ public class ListGrid implements Grid, Serializable {
     Set<Object> values = new HashSet<>();
 
     if (columnIndex != -1) {
-      List<Object> column = getColumn(columnIndex);
-      values.addAll(column);
+      for (List<Object> row : grid) {
+        values.add(row.get(columnIndex));
+      }
     }
 
     return values;
@@ -878,16 +893,25 @@ public class ListGrid implements Grid, Serializable {
   public <T> Map<String, T> getAsMap(int valueIndex, String keySeparator) {
     Map<String, T> map = new HashMap<>();
 
+    StringBuilder key = new StringBuilder();
+
     for (List<Object> row : grid) {
-      List<Object> metaDataRow = new ArrayList<>(row);
+      key.setLength(0);
+      boolean first = true;
 
-      metaDataRow.remove(valueIndex);
+      for (int i = 0; i < row.size(); i++) {
+        if (i != valueIndex) {
+          if (!first) {
+            key.append(keySeparator);
+          }
 
-      String key = StringUtils.join(metaDataRow, keySeparator);
+          first = false;
 
-      T value = (T) row.get(valueIndex);
+          key.append(Objects.toString(row.get(i), StringUtils.EMPTY));
+        }
+      }
 
-      map.put(key, value);
+      map.put(key.toString(), (T) row.get(valueIndex));
     }
 
     return map;
@@ -1087,17 +1111,17 @@ public class ListGrid implements Grid, Serializable {
   public void repositionColumns(List<Integer> columnIndexes) {
     verifyGridState();
 
-    List<List<Object>> rows = getRows();
-
-    for (List<Object> row : rows) {
-      List<Object> orderedValues = new ArrayList<>();
+    int[] indexes = columnIndexes.stream().mapToInt(Integer::intValue).toArray();
+    Object[] orderedValues = new Object[getWidth()];
 
+    for (List<Object> row : grid) {
       for (int i = 0; i < row.size(); i++) {
-        orderedValues.add(row.get(columnIndexes.get(i)));
+        orderedValues[i] = row.get(indexes[i]);
       }
 
-      row.clear();
-      row.addAll(orderedValues);
+      for (int i = 0; i < row.size(); i++) {
+        row.set(i, orderedValues[i]);
+      }
     }
 
     // Reposition columns in the row context structure
@@ -1162,6 +1186,16 @@ public class ListGrid implements Grid, Serializable {
     }
   }
 
+  /**
+   * Returns the indexes of the columns which are not hidden, in column order. Columns without a
+   * header are considered visible.
+   */
+  private int[] getVisibleColumnIndexes() {
+    return IntStream.range(0, getWidth())
+        .filter(i -> i >= headers.size() || !headers.get(i).isHidden())
+        .toArray();
+  }
+
   /**
    * Updates the mapping between header columns and grid indexes. This method should be invoked
    * whenever the columns are manipulated.
@@ -1199,6 +1233,32 @@ public class ListGrid implements Grid, Serializable {
     return builder.append("]").toString();
   }
 
+  // -------------------------------------------------------------------------
+  // Row view
+  // -------------------------------------------------------------------------
+
+  /** Read-only view of the given columns of a row which avoids copying the row values. */
+  private static final class ColumnView extends AbstractList<Object> implements RandomAccess {
+    private final List<Object> row;
+
+    private final int[] columnIndexes;
+
+    private ColumnView(List<Object> row, int[] columnIndexes) {
+      this.row = row;
+      this.columnIndexes = columnIndexes;
+    }
+
+    @Override
+    public Object get(int index) {
+      return row.get(columnIndexes[index]);
+    }
+
+    @Override
+    public int size() {
+      return columnIndexes.length;
+    }
+  }
+
   // -------------------------------------------------------------------------
   // Comparator
   // -------------------------------------------------------------------------
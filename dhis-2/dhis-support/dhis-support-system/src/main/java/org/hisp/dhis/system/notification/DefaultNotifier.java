@@ -38,15 +38,15 @@ import java.util.Deque;
 import java.util.EnumMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiFunction;
 import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
 import lombok.extern.slf4j.Slf4j;
 import org.hisp.dhis.common.UID;
@@ -60,13 +60,22 @@ import org.hisp.dhis.setting.SystemSettingsService;
  * Implements the {@link Notifier} API on top of a {@link NotifierStore}.
  *
  * <p>Incoming {@link Notification} messages are decoupled from the caller thread by pushing them
- * into a {@link BlockingQueue}. If the queue is full the message is dropped after a short timeout
- * to not block the source thread. A worker thread constantly takes massages from the queue and
- * pushes them into the {@link NotifierStore.NotificationStore}. This has the big advantage that
- * only one thread ever writes to the store preventing any issues caused by concurrent writes. Also,
- * this removes the burden from the source thread to be slowed down by the cost of storing the
- * messages. Last but not least it also makes sure that any error from persisting messages does not
- * affect the source thread.
+ * into a {@link JobNotificationBuffer} of the job. This is lock-free so concurrent sources never
+ * block each other. If the buffer is full the message is dropped after a short timeout to not block
+ * the source thread. A worker thread flushes the buffers in regular intervals writing all new
+ * messages of a job into its {@link NotifierStore.NotificationStore} as a single batch. This has
+ * the big advantage that only one thread ever writes to the store preventing any issues caused by
+ * concurrent writes. Also, this removes the burden from the source thread to be slowed down by the
+ * cost of storing the messages, and a remote store is only contacted once per interval and job.
+ * Last but not least it also makes sure that any error from persisting messages does not affect the
+ * source thread.
+ *
+ * <p>The buffer of a job keeps a copy of the messages written to the store. Reading the messages of
+ * a job that runs on this node therefore does not need to go to the store. Whenever the store is
+ * changed by other means on this node, like {@link #clear()} or capping, reads fall back to the
+ * store until the copy is synchronized again. Changes made by other nodes to a shared store are not
+ * signalled to this node, so they only become visible once the buffer synchronizes its copy with
+ * the store, which it does periodically while the job is running.
  *
  * <p>Please note that this implementation does not filter on {@link NotificationLevel} other than
  * {@link NotificationLevel#OFF}. The {@link SystemSettings#getNotifierLogLevel()} is applied in the
@@ -80,11 +89,15 @@ import org.hisp.dhis.setting.SystemSettingsService;
 @Slf4j
 public class DefaultNotifier implements Notifier {
 
+  private static final long FLUSH_INTERVAL = 100;
+
+  private record JobKey(JobType type, UID job) {}
+
   private final NotifierStore store;
   private final ObjectMapper jsonMapper;
   private final SystemSettingsService settingsService;
   private final LongSupplier clock;
-  private final BlockingQueue<Entry<UID, Notification>> pushToStore;
+  private final Map<JobKey, JobNotificationBuffer> buffers = new ConcurrentHashMap<>();
   private final AtomicBoolean cleaning = new AtomicBoolean();
 
   private int maxMessagesPerJob;
@@ -104,64 +117,52 @@ public class DefaultNotifier implements Notifier {
     this.maxMessagesPerJob = settings.getNotifierMaxMessagesPerJob();
     this.cleanAfterIdleTime = settings.getNotifierCleanAfterIdleTime();
     this.settingsSince = currentTimeMillis();
-    this.pushToStore = new ArrayBlockingQueue<>(2048);
     Executors.newSingleThreadExecutor().execute(this::asyncPushToStore);
   }
 
   @Override
   public boolean isIdle() {
-    return pushToStore.isEmpty() && !cleaning.get();
+    return buffers.values().stream().allMatch(JobNotificationBuffer::isFlushed) && !cleaning.get();
   }
 
   private void asyncPushToStore() {
-    long lastTime = 0;
+    long idleSince = currentTimeMillis();
     while (true) {
       try {
-        Entry<UID, Notification> e = pushToStore.poll(cleanAfterIdleTime, TimeUnit.MILLISECONDS);
-        while (e != null
-            && e.getValue().getLevel() == NotificationLevel.LOOP
-            && !pushToStore.isEmpty()) {
-          e = pushToStore.take(); // skip pushing LOOP entries which are already outdated
+        Thread.sleep(FLUSH_INTERVAL);
+        boolean pushed = false;
+        for (JobNotificationBuffer buffer : buffers.values()) {
+          pushed |= asyncPushToStore(buffer);
         }
-        if (e != null) {
-          Notification n = e.getValue();
-          // make sure notifications are at least 1ms apart
-          // also, make sure the time is actually reflecting the insert order
-          if (n.getTimestamp() <= lastTime) n.setTimestamp(lastTime + 1);
-          asyncPushToStore(e.getKey(), n);
-          lastTime = n.getTimestamp();
-        } else {
+        long now = currentTimeMillis();
+        if (pushed) {
+          idleSince = now;
+        } else if (now - idleSince >= cleanAfterIdleTime) {
           // when there hasn't been any notifications lately
-          // the poll times out; it is a good time to run some cleanup
+          // it is a good time to run some cleanup
           asyncAutomaticCleanup();
+          idleSince = now;
         }
       } catch (InterruptedException ex) {
-        log.warn("Notification lost due interruption.");
+        log.warn("Notifications lost due interruption.");
         Thread.currentThread().interrupt();
+        return;
       } catch (Exception ex) {
-        log.warn("Notification lost due to: " + ex.getMessage());
+        log.warn("Notification cleanup failed due to: " + ex.getMessage());
       }
     }
   }
 
-  private void asyncPushToStore(UID job, Notification n) {
-    NotifierStore.NotificationStore list = store.notifications(n.getCategory(), job);
-
-    boolean limit = true;
-    Notification newest = list.getNewest();
-    if (newest != null && newest.getLevel() == NotificationLevel.LOOP) {
-      list.removeNewest();
-      limit = false; // we deleted one so there is room for one
-    }
-    if (limit) {
-      int size = list.size();
-      int maxSize = getMaxMessagesPerJob();
-      if (size + 1 > maxSize) {
-        list.removeOldest(size + 1 - maxSize);
-      }
+  private boolean asyncPushToStore(JobNotificationBuffer buffer) {
+    List<Notification> batch = buffer.poll();
+    if (batch.isEmpty()) return false;
+    try {
+      buffer.flush(store.notifications(buffer.type(), buffer.job()), batch, getMaxMessagesPerJob());
+      batch.forEach(DefaultNotifier::logNotificationAdded);
+    } catch (Exception ex) {
+      log.warn("Notifications lost due to: " + ex.getMessage());
     }
-    list.add(n);
-    logNotificationAdded(n);
+    return true;
   }
 
   private static void logNotificationAdded(Notification n) {
@@ -181,11 +182,27 @@ public class DefaultNotifier implements Notifier {
       SystemSettings settings = settingsService.getCurrentSettings();
       store.capMaxAge(settings.getNotifierMaxAgeDays());
       store.capMaxCount(settings.getNotifierMaxJobsPerType());
+      // buffers of jobs that are done are no longer needed
+      buffers.forEach(
+          (key, buffer) -> {
+            if (buffer.close()) {
+              buffers.remove(key, buffer);
+            } else {
+              buffer.invalidate();
+            }
+          });
     } finally {
       cleaning.set(false);
     }
   }
 
+  private void invalidateBuffers(Predicate<JobKey> filter) {
+    buffers.forEach(
+        (key, buffer) -> {
+          if (filter.test(key)) buffer.invalidate();
+        });
+  }
+
   /** This is potentially called so often that it is cached here refreshing it every 10 seconds. */
   private int getMaxMessagesPerJob() {
     long now = currentTimeMillis();
@@ -214,13 +231,11 @@ public class DefaultNotifier implements Notifier {
         new Notification(
             level, id.getJobType(), clock.getAsLong(), message, completed, dataType, data);
 
-    try {
-      if (!pushToStore.offer(Map.entry(UID.of(id.getUid()), n), 50, TimeUnit.MILLISECONDS))
-        log.warn("Notification lost due to timeout: " + n);
-    } catch (InterruptedException e) {
-      log.warn("Notification lost due to interruption: " + n);
-      Thread.currentThread().interrupt();
-    }
+    JobKey key = new JobKey(id.getJobType(), UID.of(id.getUid()));
+    // a closed buffer is about to be removed, retry until there is a new one
+    while (!buffers
+        .computeIfAbsent(key, k -> new JobNotificationBuffer(k.type(), k.job()))
+        .offer(n)) Thread.onSpinWait();
     return this;
   }
 
@@ -239,8 +254,20 @@ public class DefaultNotifier implements Notifier {
     return getAllNotificationsByJobId(jobType, UID.of(jobId));
   }
 
+  /**
+   * @return the notifications of a job running on this node, or null if they have to be read from
+   *     the store
+   */
+  @CheckForNull
+  private List<Notification> getLocalNotificationsByJobId(JobType jobType, UID job) {
+    JobNotificationBuffer buffer = buffers.get(new JobKey(jobType, job));
+    return buffer == null ? null : buffer.getNewestFirst();
+  }
+
   @Nonnull
   private Deque<Notification> getAllNotificationsByJobId(JobType jobType, UID job) {
+    List<Notification> local = getLocalNotificationsByJobId(jobType, job);
+    if (local != null) return new LinkedList<>(local);
     return store
         .notifications(jobType, job)
         .listNewestFirst()
@@ -249,6 +276,13 @@ public class DefaultNotifier implements Notifier {
 
   private Deque<Notification> getGistNotificationsByJobId(JobType jobType, UID job) {
     Deque<Notification> res = new LinkedList<>();
+    List<Notification> local = getLocalNotificationsByJobId(jobType, job);
+    if (local != null) {
+      if (local.isEmpty()) return res;
+      res.addFirst(local.get(0));
+      if (local.size() > 1) res.addLast(local.get(local.size() - 1));
+      return res;
+    }
     NotifierStore.NotificationStore notifications = store.notifications(jobType, job);
     Notification newest = notifications.getNewest();
     if (newest == null) return res;
@@ -274,36 +308,43 @@ public class DefaultNotifier implements Notifier {
   @Override
   public void clear() {
     store.clear();
+    invalidateBuffers(key -> true);
   }
 
   @Override
   public void clear(@Nonnull JobType type) {
     store.clear(type);
+    invalidateBuffers(key -> key.type() == type);
   }
 
   @Override
   public void clear(@Nonnull JobType type, @Nonnull UID job) {
     store.clear(type, job);
+    invalidateBuffers(key -> key.type() == type && key.job().equals(job));
   }
 
   @Override
   public void capMaxAge(int maxAge) {
     store.capMaxAge(maxAge);
+    invalidateBuffers(key -> true);
   }
 
   @Override
   public void capMaxCount(int maxCount) {
     store.capMaxCount(maxCount);
+    invalidateBuffers(key -> true);
   }
 
   @Override
   public void capMaxAge(int maxAge, @Nonnull JobType type) {
     store.capMaxAge(maxAge, type);
+    invalidateBuffers(key -> key.type() == type);
   }
 
   @Override
   public void capMaxCount(int maxCount, @Nonnull JobType type) {
     store.capMaxCount(maxCount, type);
+    invalidateBuffers(key -> key.type() == type);
   }
 
   @Override
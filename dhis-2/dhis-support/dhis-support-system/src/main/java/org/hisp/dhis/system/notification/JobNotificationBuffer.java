@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2004-2022, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.system.notification;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+import org.hisp.dhis.common.UID;
+import org.hisp.dhis.scheduling.JobType;
+
+/**
+ * Buffers the {@link Notification}s of a single job running on this node before they are written to
+ * the {@link NotifierStore}.
+ *
+ * <p>Any number of threads may {@link #offer(Notification)} concurrently. Each producer claims a
+ * slot in a fixed size ring by advancing the write sequence with a CAS, so producers never lock or
+ * block each other. A single flushing thread periodically takes all published entries with {@link
+ * #poll()} and writes them to the store in one batch with {@link #flush(NotifierStore.
+ * NotificationStore, List, int)}.
+ *
+ * <p>The flushing thread also keeps a copy of the notifications it has written to the store. This
+ * allows to read the notifications of jobs running on this node without going to the store. Changes
+ * made to the store on this node {@link #invalidate()} the copy. Changes made by other nodes to a
+ * shared store, like clearing or capping, are not seen until the copy is synchronized with the
+ * store again, which happens at least every {@value #SYNC_INTERVAL} flushes.
+ *
+ * @since 2.42
+ */
+@Slf4j
+final class JobNotificationBuffer {
+
+  private static final int CAPACITY = 1024;
+
+  private static final long CLOSED = -1L;
+
+  /** The number of flushes after which the copy is synchronized with the store again. */
+  private static final int SYNC_INTERVAL = 50;
+
+  private static final long OFFER_TIMEOUT_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+  private record Slot(long seq, Notification value) {}
+
+  private final JobType type;
+  private final UID job;
+
+  private final AtomicReferenceArray<Slot> ring = new AtomicReferenceArray<>(CAPACITY);
+
+  /** The sequence number of the next slot to claim, or {@link #CLOSED}. */
+  private final AtomicLong written = new AtomicLong();
+
+  /** The sequence number of the next slot to flush, only written by the flushing thread. */
+  private volatile long flushed;
+
+  /** Incremented whenever the store was changed by other means than flushing this buffer. */
+  private final AtomicInteger invalidations = new AtomicInteger();
+
+  /** The {@link #invalidations} count at the time {@link #newestFirst} was last in sync. */
+  private volatile int syncedAt = -1;
+
+  private volatile List<Notification> newestFirst = List.of();
+
+  /*
+  State only accessed by the flushing thread
+   */
+
+  private final Deque<Notification> persisted = new ArrayDeque<>();
+  private long lastTime;
+  private int flushesSinceSync;
+
+  JobNotificationBuffer(@Nonnull JobType type, @Nonnull UID job) {
+    this.type = type;
+    this.job = job;
+  }
+
+  JobType type() {
+    return type;
+  }
+
+  UID job() {
+    return job;
+  }
+
+  /**
+   * Adds a notification to the ring. If the ring is full the producer waits a short time for the
+   * flushing thread to catch up before the notification is dropped.
+   *
+   * @param n the notification to add
+   * @return false, if this buffer has been closed and the notification needs to be offered to a new
+   *     buffer for the job, otherwise true
+   */
+  boolean offer(@Nonnull Notification n) {
+    long deadline = System.nanoTime() + OFFER_TIMEOUT_NANOS;
+    while (true) {
+      long seq = written.get();
+      if (seq == CLOSED) return false;
+      if (seq - flushed >= CAPACITY) {
+        if (System.nanoTime() > deadline) {
+          log.warn("Notification lost due to timeout: " + n);
+          return true;
+        }
+        LockSupport.parkNanos(100_000);
+      } else if (written.compareAndSet(seq, seq + 1)) {
+        ring.set((int) (seq % CAPACITY), new Slot(seq, n));
+        return true;
+      }
+    }
+  }
+
+  /**
+   * @return all entries that are published but not yet flushed, oldest first
+   */
+  @Nonnull
+  List<Notification> poll() {
+    long to = written.get();
+    List<Notification> res = new ArrayList<>();
+    for (long seq = flushed; seq < to; seq++) {
+      Slot slot = ring.get((int) (seq % CAPACITY));
+      // slot was claimed but the producer has not yet set it
+      if (slot == null || slot.seq() != seq) break;
+      res.add(slot.value());
+    }
+    return res;
+  }
+
+  /**
+   * Writes a batch of notifications taken by {@link #poll()} to the store. {@link
+   * NotificationLevel#LOOP} entries are replaced by the entry following them, also within the
+   * batch, and the number of entries is capped to the given maximum retaining the first entry.
+   *
+   * @param store the store of the job
+   * @param batch notifications to write, oldest first
+   * @param maxSize the maximum number of notifications kept for the job
+   */
+  void flush(
+      @Nonnull NotifierStore.NotificationStore store,
+      @Nonnull List<Notification> batch,
+      int maxSize) {
+    try {
+      int generation = invalidations.get();
+      if (syncedAt != generation || ++flushesSinceSync >= SYNC_INTERVAL) sync(store);
+      boolean removeNewest = false;
+      List<Notification> added = new ArrayList<>(batch.size());
+      for (Notification n : batch) {
+        // make sure notifications are at least 1ms apart
+        // also, make sure the time is actually reflecting the insert order
+        if (n.getTimestamp() <= lastTime) n.setTimestamp(lastTime + 1);
+        lastTime = n.getTimestamp();
+        Notification newest = persisted.peekFirst();
+        if (newest != null && newest.getLevel() == NotificationLevel.LOOP) {
+          persisted.removeFirst();
+          if (added.isEmpty()) {
+            removeNewest = true;
+          } else {
+            added.remove(added.size() - 1);
+          }
+        }
+        persisted.addFirst(n);
+        added.add(n);
+      }
+      int limit = Math.max(2, maxSize);
+      if (persisted.size() > limit) {
+        Notification first = persisted.removeLast();
+        while (persisted.size() >= limit) persisted.removeLast();
+        persisted.addLast(first);
+      }
+      store.addAll(removeNewest, added, limit);
+      newestFirst = List.copyOf(persisted);
+      syncedAt = generation;
+    } catch (RuntimeException ex) {
+      // the copy might no longer match the store
+      invalidate();
+      throw ex;
+    } finally {
+      flushed += batch.size();
+    }
+  }
+
+  private void sync(NotifierStore.NotificationStore store) {
+    flushesSinceSync = 0;
+    persisted.clear();
+    store.listNewestFirst().forEach(persisted::addLast);
+    Notification newest = persisted.peekFirst();
+    if (newest != null) lastTime = Math.max(lastTime, newest.getTimestamp());
+  }
+
+  /**
+   * @return the notifications of the job, newest first, or null when the local copy might not be in
+   *     sync with the store
+   */
+  @CheckForNull
+  List<Notification> getNewestFirst() {
+    int synced = syncedAt;
+    List<Notification> res = newestFirst;
+    return synced == invalidations.get() ? res : null;
+  }
+
+  /** Marks the local copy as out of sync because the store was changed directly. */
+  void invalidate() {
+    invalidations.incrementAndGet();
+  }
+
+  boolean isFlushed() {
+    long seq = written.get();
+    return seq == CLOSED || seq == flushed;
+  }
+
+  /**
+   * Closes the buffer if it has nothing left to flush. Once closed producers have to use a new
+   * buffer.
+   *
+   * @return true, if the buffer was closed
+   */
+  boolean close() {
+    return written.compareAndSet(flushed, CLOSED);
+  }
+}
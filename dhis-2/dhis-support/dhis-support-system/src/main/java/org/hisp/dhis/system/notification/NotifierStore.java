@@ -193,6 +193,22 @@ public interface NotifierStore {
      */
     void add(@Nonnull Notification n);
 
+    /**
+     * Applies a batch of changes as a single update. Implementations backed by a remote store
+     * should override this to avoid a round-trip per change.
+     *
+     * @param removeNewest true, to remove the entry most recently added before adding the batch
+     * @param batch the entries to add, oldest first
+     * @param maxSize the maximum number of entries to keep after the batch has been added, this
+     *     always retains the first entry (see {@link #removeOldest(int)})
+     */
+    default void addAll(boolean removeNewest, @Nonnull List<Notification> batch, int maxSize) {
+      if (removeNewest) removeNewest();
+      batch.forEach(this::add);
+      int size = size();
+      if (size > maxSize) removeOldest(size - maxSize);
+    }
+
     /**
      * @return the entry most recently added, or null if the store is empty
      */
@@ -49,6 +49,7 @@ import org.hisp.dhis.util.DateUtils;
 import org.springframework.data.redis.core.BoundHashOperations;
 import org.springframework.data.redis.core.BoundZSetOperations;
 import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
 
 /**
  * Provides Redis backed implementation of the {@link NotifierStore}.
@@ -78,7 +79,7 @@ public class RedisNotifierStore implements NotifierStore {
   @Nonnull
   private NotificationStore notifications(@Nonnull JobType type, String key) {
     UID job = UID.of(key.substring(key.lastIndexOf(':') + 1));
-    return new RedisNotificationStore(type, job, redis.boundZSetOps(key));
+    return new RedisNotificationStore(type, job, key, redis, redis.boundZSetOps(key));
   }
 
   @Nonnull
@@ -126,7 +127,11 @@ public class RedisNotifierStore implements NotifierStore {
    * used as score.
    */
   private record RedisNotificationStore(
-      JobType type, UID job, BoundZSetOperations<String, String> collection)
+      JobType type,
+      UID job,
+      String key,
+      RedisOperations<String, String> redis,
+      BoundZSetOperations<String, String> collection)
       implements NotificationStore {
 
     @Override
@@ -150,6 +155,25 @@ public class RedisNotifierStore implements NotifierStore {
       collection.add(toJson(n), n.getTime().getTime());
     }
 
+    /** Sends all changes of the batch in a single pipelined round-trip. */
+    @Override
+    public void addAll(boolean removeNewest, @Nonnull List<Notification> batch, int maxSize) {
+      redis.executePipelined(
+          new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(@Nonnull RedisOperations<K, V> operations) {
+              BoundZSetOperations<String, String> zSet =
+                  ((RedisOperations<String, String>) operations).boundZSetOps(key);
+              if (removeNewest) zSet.removeRange(-1, -1);
+              for (Notification n : batch) zSet.add(toJson(n), n.getTime().getTime());
+              // keep the first and the most recent maxSize - 1
+              zSet.removeRange(1, -maxSize);
+              return null;
+            }
+          });
+    }
+
     @CheckForNull
     @Override
     public Notification getNewest() {
@@ -29,6 +29,8 @@
  */
 package org.hisp.dhis.system.startup;
 
+import java.util.Set;
+
 /**
  * Convenience class for creating startup routines. Contains a setter for the runlevel property
  * which should be used in bean mappings.
@@ -54,6 +56,18 @@ public abstract class AbstractStartupRoutine implements StartupRoutine {
     this.skipInTests = skipInTests;
   }
 
+  private Set<String> dependencies;
+
+  public void setDependencies(String... dependencies) {
+    this.dependencies = Set.of(dependencies);
+  }
+
+  private boolean lazy = false;
+
+  public void setLazy(boolean lazy) {
+    this.lazy = lazy;
+  }
+
   // -------------------------------------------------------------------------
   // StartupRoutine implementation
   // -------------------------------------------------------------------------
@@ -73,6 +87,16 @@ public abstract class AbstractStartupRoutine implements StartupRoutine {
     return skipInTests;
   }
 
+  @Override
+  public Set<String> getDependencies() {
+    return dependencies;
+  }
+
+  @Override
+  public boolean isLazy() {
+    return lazy;
+  }
+
   @Override
   public boolean skip() {
     String skipProperty = "dhis.skip.startup." + this.getName();
@@ -29,16 +29,35 @@
  */
 package org.hisp.dhis.system.startup;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.extern.slf4j.Slf4j;
 import org.hisp.dhis.external.conf.DhisConfigurationProvider;
+import org.hisp.dhis.system.executor.ExecutorRegistry;
+import org.hisp.dhis.system.util.Clock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 /**
  * Default implementation of StartupRoutineExecutor. The execute method will execute the added
- * StartupRoutines ordered by their run levels. Startup routines can be ignored from the command
- * line by appending the below. <code>-Ddhis.skip.startup=true</code>
+ * StartupRoutines ordered by their dependencies. A routine which declares {@link
+ * StartupRoutine#getDependencies() dependencies} starts as soon as these are done, a routine which
+ * does not starts after all routines ordered before it by run level, as if run one after another.
+ * Routines whose dependencies are done run concurrently on a bounded pool. Skipped routines keep
+ * their place in the order. Lazy routines are executed in the background once all other routines
+ * are done. Startup routines can be ignored from the command line by appending the below. <code>
+ * -Ddhis.skip.startup=true</code>
  *
  * @author <a href="mailto:torgeilo@gmail.com">Torgeir Lorange Ostby</a>
  */
@@ -49,11 +68,23 @@ public class DefaultStartupRoutineExecutor implements StartupRoutineExecutor {
 
   private static final String SKIP_PROP = "dhis.skip.startup";
 
+  private static final String TIMER_NAME = "dhis.startup.routine";
+
+  private static final String EXECUTOR_NAME = "startup-routine";
+
+  /** Startup routines are mostly bound by the database, not by the number of processors. */
+  private static final int THREADS = 4;
+
   @Autowired private DhisConfigurationProvider config;
 
+  @Autowired private ExecutorRegistry executorRegistry;
+
   @Autowired(required = false)
   private List<StartupRoutine> startupRoutines;
 
+  @Autowired(required = false)
+  private MeterRegistry meterRegistry;
+
   // -------------------------------------------------------------------------
   // Execute
   // -------------------------------------------------------------------------
@@ -86,29 +117,212 @@ public class DefaultStartupRoutineExecutor implements StartupRoutineExecutor {
 
     startupRoutines.sort(new StartupRoutineComparator());
 
-    int total = startupRoutines.size();
-    int index = 1;
+    List<StartupRoutine> routines = new ArrayList<>();
+    List<StartupRoutine> lazyRoutines = new ArrayList<>();
+
+    // Lazy routines are executed eagerly in tests to keep them deterministic
 
     for (StartupRoutine routine : startupRoutines) {
-      if (!(testing && routine.skipInTests() || routine.skip())) {
-        log.info(
-            "Executing startup routine ["
-                + index
-                + " of "
-                + total
-                + ", runlevel "
-                + routine.getRunlevel()
-                + "]: "
-                + routine.getName());
-
-        routine.execute();
-
-        ++index;
+      if (!testing && routine.isLazy()) {
+        lazyRoutines.add(routine);
       } else {
-        log.warn("Skipped startup routine {}", routine.getName());
+        routines.add(routine);
       }
     }
 
+    int total = startupRoutines.size();
+    AtomicInteger index = new AtomicInteger(1);
+    ExecutorService executor = executorRegistry.getExecutor(EXECUTOR_NAME, THREADS, total);
+
+    new RoutineGraph(routines, testing, executor, index, total).execute();
+
     log.info("All startup routines done");
+
+    if (!lazyRoutines.isEmpty()) {
+      executor.execute(() -> executeLazy(lazyRoutines, index, total));
+    }
+  }
+
+  private void executeLazy(List<StartupRoutine> routines, AtomicInteger index, int total) {
+    for (StartupRoutine routine : routines) {
+      if (isSkipped(routine, false)) {
+        continue;
+      }
+
+      try {
+        executeRoutine(routine, index.getAndIncrement(), total);
+      } catch (Exception ex) {
+        log.error("Lazy startup routine failed: " + routine.getName(), ex);
+      }
+    }
+
+    log.info("All lazy startup routines done");
+  }
+
+  private static boolean isSkipped(StartupRoutine routine, boolean testing) {
+    if (testing && routine.skipInTests() || routine.skip()) {
+      log.warn("Skipped startup routine {}", routine.getName());
+      return true;
+    }
+
+    return false;
+  }
+
+  /**
+   * Schedules each routine once all routines it depends on are done. No routine starts before the
+   * dependencies of all routines are resolved. The first failure prevents routines which have not
+   * started yet from being executed and is rethrown once all started routines are done.
+   */
+  private class RoutineGraph {
+    private final List<StartupRoutine> routines;
+
+    private final boolean testing;
+
+    private final ExecutorService executor;
+
+    private final AtomicInteger index;
+
+    private final int total;
+
+    private final Map<String, StartupRoutine> routinesByName = new HashMap<>();
+
+    private final Map<StartupRoutine, CompletableFuture<Void>> scheduled = new LinkedHashMap<>();
+
+    private final CompletableFuture<Void> start = new CompletableFuture<>();
+
+    private final AtomicBoolean failed = new AtomicBoolean();
+
+    RoutineGraph(
+        List<StartupRoutine> routines,
+        boolean testing,
+        ExecutorService executor,
+        AtomicInteger index,
+        int total) {
+      this.routines = routines;
+      this.testing = testing;
+      this.executor = executor;
+      this.index = index;
+      this.total = total;
+      routines.forEach(routine -> routinesByName.put(routine.getName(), routine));
+    }
+
+    void execute() throws Exception {
+      routines.forEach(routine -> schedule(routine, new ArrayList<>()));
+
+      start.complete(null);
+
+      try {
+        CompletableFuture.allOf(scheduled.values().toArray(CompletableFuture[]::new)).join();
+      } catch (CompletionException ex) {
+        if (ex.getCause() instanceof Exception cause) {
+          throw cause;
+        }
+
+        throw ex;
+      }
+    }
+
+    private CompletableFuture<Void> schedule(StartupRoutine routine, List<String> path) {
+      CompletableFuture<Void> future = scheduled.get(routine);
+
+      if (future != null) {
+        return future;
+      }
+
+      if (path.contains(routine.getName())) {
+        throw new IllegalStateException("Startup routines depend on each other: " + path);
+      }
+
+      path.add(routine.getName());
+
+      CompletableFuture<?>[] dependencies =
+          getDependencies(routine).stream()
+              .map(dependency -> schedule(dependency, path))
+              .toArray(CompletableFuture[]::new);
+
+      path.remove(routine.getName());
+
+      CompletableFuture<Void> ready =
+          dependencies.length == 0 ? start : CompletableFuture.allOf(dependencies);
+
+      future =
+          isSkipped(routine, testing)
+              ? ready
+              : ready.thenRunAsync(() -> executeInGraph(routine), executor);
+
+      scheduled.put(routine, future);
+      return future;
+    }
+
+    /**
+     * @return the declared dependencies of the routine, or all routines before it in run level
+     *     order.
+     */
+    private List<StartupRoutine> getDependencies(StartupRoutine routine) {
+      Set<String> names = routine.getDependencies();
+
+      if (names == null) {
+        return routines.subList(0, routines.indexOf(routine));
+      }
+
+      List<StartupRoutine> dependencies = new ArrayList<>();
+
+      for (String name : names) {
+        StartupRoutine dependency = routinesByName.get(name);
+
+        if (dependency == null) {
+          throw new IllegalStateException(
+              "Startup routine " + routine.getName() + " depends on unknown routine " + name);
+        }
+
+        dependencies.add(dependency);
+      }
+
+      return dependencies;
+    }
+
+    private void executeInGraph(StartupRoutine routine) {
+      if (failed.get()) {
+        return;
+      }
+
+      try {
+        executeRoutine(routine, index.getAndIncrement(), total);
+      } catch (Exception ex) {
+        failed.set(true);
+        throw new CompletionException(ex);
+      }
+    }
+  }
+
+  private void executeRoutine(StartupRoutine routine, int index, int total) throws Exception {
+    log.info(
+        "Executing startup routine ["
+            + index
+            + " of "
+            + total
+            + ", runlevel "
+            + routine.getRunlevel()
+            + "]: "
+            + routine.getName());
+
+    Clock clock = new Clock().startClock();
+
+    try {
+      routine.execute();
+    } finally {
+      clock.stop();
+
+      log.info("Startup routine {} done in {}", routine.getName(), clock.formatTime());
+
+      if (meterRegistry != null) {
+        Timer.builder(TIMER_NAME)
+            .description("Execution time of startup routines")
+            .tag("routine", routine.getName())
+            .tag("lazy", String.valueOf(routine.isLazy()))
+            .register(meterRegistry)
+            .record(clock.getDuration());
+      }
+    }
   }
 }
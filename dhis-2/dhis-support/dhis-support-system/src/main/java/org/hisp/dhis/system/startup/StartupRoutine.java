@@ -29,6 +29,9 @@
  */
 package org.hisp.dhis.system.startup;
 
+import java.util.Set;
+import javax.annotation.CheckForNull;
+
 /**
  * Defines a startup routine which should be executed when the system is started. The runlevel can
  * be used to group startup routines that are dependent on other startup routines, without too much
@@ -84,4 +87,29 @@ public interface StartupRoutine {
    * @return true if this StartupRoutine should be skipped, false otherwise.
    */
   boolean skip();
+
+  /**
+   * Returns the names of the StartupRoutines which must be done before this StartupRoutine is
+   * executed. Routines which only declare their actual dependencies can be executed concurrently
+   * with other routines. Skipped routines still order the routines which depend on them.
+   *
+   * @return the names of the dependencies, or null to depend on all StartupRoutines ordered before
+   *     this one by runlevel.
+   */
+  @CheckForNull
+  default Set<String> getDependencies() {
+    return null;
+  }
+
+  /**
+   * Returns whether this StartupRoutine may complete in the background after all other routines
+   * have finished and the system has started serving requests. Lazy routines run in runlevel order
+   * and their failures are logged rather than failing the startup. Only routines nothing depends on
+   * while serving requests may be lazy, and other routines cannot depend on lazy routines.
+   *
+   * @return true if this StartupRoutine is lazy, false otherwise.
+   */
+  default boolean isLazy() {
+    return false;
+  }
 }
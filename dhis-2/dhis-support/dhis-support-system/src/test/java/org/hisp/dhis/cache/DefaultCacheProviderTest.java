@@ -41,6 +41,7 @@ import org.hisp.dhis.common.cache.Region;
 import org.hisp.dhis.common.event.CacheInvalidationEvent;
 import org.hisp.dhis.external.conf.ConfigurationKey;
 import org.hisp.dhis.external.conf.DhisConfigurationProvider;
+import org.hisp.dhis.monitoring.metrics.ApplicationMetrics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -69,7 +70,11 @@ class DefaultCacheProviderTest {
     when(dhisConfigurationProvider.getProperty(ConfigurationKey.SYSTEM_CACHE_MAX_SIZE_FACTOR))
         .thenReturn("0.5");
     defaultCacheProvider =
-        new DefaultCacheProvider(cacheBuilderProvider, environment, dhisConfigurationProvider);
+        new DefaultCacheProvider(
+            cacheBuilderProvider,
+            environment,
+            dhisConfigurationProvider,
+            ApplicationMetrics.noop());
   }
 
   private void registerCache(Region region, Runnable cacheCreator) {
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2004-2024, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.monitoring.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hisp.dhis.cache.Cache;
+import org.hisp.dhis.cache.LocalCache;
+import org.hisp.dhis.cache.SimpleCacheBuilder;
+import org.junit.jupiter.api.Test;
+
+class ApplicationMetricsTest {
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+  private final ApplicationMetrics metrics = new ApplicationMetrics(registry);
+
+  @Test
+  void testTimeRecordsDurationByTags() {
+    assertEquals("result", metrics.time("test.timer", () -> "result", "phase", "plan"));
+    metrics.time("test.timer", () -> {}, "phase", "plan");
+    metrics.start().stop("test.timer", "phase", "sql");
+
+    assertEquals(2, registry.get("test.timer").tag("phase", "plan").timer().count());
+    assertEquals(1, registry.get("test.timer").tag("phase", "sql").timer().count());
+  }
+
+  @Test
+  void testMonitorCountsCacheHitsAndMisses() {
+    Cache<String> cache = metrics.monitor("test", new LocalCache<>(new SimpleCacheBuilder<>()));
+
+    cache.get("a");
+    cache.put("a", "A");
+    cache.get("a");
+    cache.get("b", key -> "B");
+    cache.get("b", key -> "C");
+
+    assertEquals(2, registry.get("cache.gets").tag("result", "hit").counter().count());
+    assertEquals(2, registry.get("cache.gets").tag("result", "miss").counter().count());
+  }
+
+  @Test
+  void testNoopRunsWorkWithoutRecording() {
+    ApplicationMetrics noop = ApplicationMetrics.noop();
+    Cache<String> cache = new LocalCache<>(new SimpleCacheBuilder<>());
+
+    assertEquals("result", noop.time("test.timer", () -> "result"));
+    noop.start().stop("test.timer");
+
+    assertSame(cache, noop.monitor("test", cache));
+    assertTrue(registry.getMeters().isEmpty());
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2004-2022, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.system.executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ExecutorRegistryTest {
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private ExecutorRegistry registry;
+
+  @BeforeEach
+  void setUp() {
+    registry = new ExecutorRegistry();
+    ReflectionTestUtils.setField(registry, "meterRegistry", meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    registry.shutdown();
+    MDC.clear();
+  }
+
+  @Test
+  void testGetExecutorReturnsSamePoolForName() {
+    assertSame(registry.getExecutor("test", 1, 1), registry.getExecutor("test", 2, 2));
+  }
+
+  @Test
+  void testSaturatedPoolRunsTaskOnCaller() throws Exception {
+    ExecutorService executor = registry.getExecutor("test", 1, 1);
+    CountDownLatch release = new CountDownLatch(1);
+    executor.execute(() -> await(release));
+    executor.execute(() -> await(release));
+
+    Thread caller = Thread.currentThread();
+    Future<Thread> thread = executor.submit(Thread::currentThread);
+
+    assertSame(caller, thread.get());
+    assertEquals(1d, meterRegistry.get("executor.caller.runs").functionCounter().count());
+    release.countDown();
+  }
+
+  @Test
+  void testTaskRunsWithContextOfSubmitter() throws Exception {
+    ExecutorService executor = registry.getExecutor("test", 1, 1);
+    MDC.put("key", "value");
+
+    assertEquals("value", executor.submit(() -> MDC.get("key")).get());
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      assertTrue(latch.await(10, TimeUnit.SECONDS));
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -182,6 +182,11 @@ class GridTest {
     assertEquals(4, grid.getWidth());
     grid.removeEmptyColumns();
     assertEquals(2, grid.getWidth());
+    assertEquals(List.of("H1", "H3"), grid.getHeaders().stream().map(GridHeader::getName).toList());
+    assertEquals(List.of("A1", "A3"), grid.getRow(0));
+    assertEquals(List.of("D1"), grid.getRow(3).subList(0, 1));
+    assertEquals(0, grid.getIndexOfHeader("H1"));
+    assertEquals(1, grid.getIndexOfHeader("H3"));
   }
 
   @Test
@@ -333,6 +338,26 @@ class GridTest {
     assertEquals(2, gridA.getVisibleRows().get(1).size());
     assertEquals(2, gridA.getVisibleRows().get(2).size());
     assertEquals(2, gridA.getVisibleRows().get(3).size());
+    assertEquals(List.of(11, 12), gridA.getVisibleRows().get(0));
+    assertEquals(List.of(41, 42), gridA.getVisibleRows().get(3));
+  }
+
+  @Test
+  void testGetVisibleRowsWithoutHiddenColumns() {
+    Grid grid =
+        new ListGrid()
+            .addHeader(new GridHeader("H1"))
+            .addHeader(new GridHeader("H2"))
+            .addRow()
+            .addValuesVar("A1", "A2");
+    assertEquals(List.of("A1", "A2"), grid.getVisibleRows().get(0));
+    assertEquals(grid.getRows(), grid.getVisibleRows());
+  }
+
+  @Test
+  void testGetVisibleWidth() {
+    assertEquals(2, gridA.getVisibleWidth());
+    assertEquals(0, new ListGrid().getVisibleWidth());
   }
 
   @Test
@@ -706,6 +731,13 @@ class GridTest {
     assertEquals(Integer.valueOf(43), map.get("41-42"));
   }
 
+  @Test
+  void testGetAsMapWithNullKeyValue() {
+    Grid grid = new ListGrid().addRow().addValuesVar(null, "B", 1);
+    Map<String, Integer> map = grid.getAsMap(2, "-");
+    assertEquals(Integer.valueOf(1), map.get("-B"));
+  }
+
   @Test
   void testJRDataSource() throws Exception {
     assertTrue(gridA.next());
@@ -30,6 +30,7 @@
 package org.hisp.dhis.system.notification;
 
 import static java.util.stream.Collectors.toUnmodifiableSet;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -44,6 +45,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.LongSupplier;
@@ -56,6 +58,7 @@ import org.mockito.invocation.InvocationOnMock;
 import org.springframework.data.redis.core.BoundHashOperations;
 import org.springframework.data.redis.core.BoundZSetOperations;
 import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
 
 /**
  * Implementation of {@link RedisOperations} that can be used to simulate redis during tests.
@@ -89,6 +92,12 @@ record FakeRedis(
     when(api.boundHashOps(anyString())).thenAnswer(this::boundHashOps);
     when(api.delete(anyString())).thenAnswer(this::delete);
     when(api.delete(anyCollection())).thenAnswer(this::deleteAll);
+    when(api.executePipelined(any(SessionCallback.class))).thenAnswer(this::executePipelined);
+  }
+
+  private List<Object> executePipelined(InvocationOnMock i) {
+    i.getArgument(0, SessionCallback.class).execute(api);
+    return List.of();
   }
 
   private Set<String> keys(InvocationOnMock i) {
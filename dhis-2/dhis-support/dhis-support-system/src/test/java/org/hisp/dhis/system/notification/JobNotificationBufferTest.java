@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2004-2022, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.system.notification;
+
+import static org.hisp.dhis.scheduling.JobType.DATA_INTEGRITY;
+import static org.hisp.dhis.system.notification.NotificationLevel.INFO;
+import static org.hisp.dhis.system.notification.NotificationLevel.LOOP;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.hisp.dhis.common.UID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the batching, collapsing and capping of the {@link JobNotificationBuffer}.
+ *
+ * @since 2.42
+ */
+class JobNotificationBufferTest {
+
+  private final UID job = UID.generate();
+
+  private NotifierStore notifierStore;
+
+  private JobNotificationBuffer buffer;
+
+  @BeforeEach
+  void setUp() {
+    notifierStore = new InMemoryNotifierStore();
+    buffer = new JobNotificationBuffer(DATA_INTEGRITY, job);
+  }
+
+  @Test
+  void testFlush_LoopCollapsesWithinBatch() {
+    offerAndFlush(buffer, 100, loop("a"), loop("b"), info("c"));
+
+    assertMessages(List.of("c"), buffer.getNewestFirst());
+    assertMessages(List.of("c"), storeNewestFirst());
+  }
+
+  @Test
+  void testFlush_LoopCollapsesAcrossBatches() {
+    offerAndFlush(buffer, 100, info("x"), loop("a"));
+    offerAndFlush(buffer, 100, loop("b"));
+    offerAndFlush(buffer, 100, info("c"));
+
+    assertMessages(List.of("c", "x"), buffer.getNewestFirst());
+    assertMessages(List.of("c", "x"), storeNewestFirst());
+  }
+
+  @Test
+  void testFlush_CapRetainsFirstEntry() {
+    offerAndFlush(buffer, 3, info("1"), info("2"), info("3"));
+    offerAndFlush(buffer, 3, info("4"), info("5"));
+
+    assertMessages(List.of("5", "4", "1"), buffer.getNewestFirst());
+    assertMessages(List.of("5", "4", "1"), storeNewestFirst());
+  }
+
+  @Test
+  void testFlush_TimestampsFollowInsertOrder() {
+    Notification a = info("a");
+    Notification b = info("b");
+    b.setTimestamp(a.getTimestamp() - 1000);
+    offerAndFlush(buffer, 100, a, b);
+
+    assertTrue(b.getTimestamp() > a.getTimestamp());
+  }
+
+  @Test
+  void testGetNewestFirst_AfterClear() {
+    offerAndFlush(buffer, 100, info("a"), info("b"));
+    assertMessages(List.of("b", "a"), buffer.getNewestFirst());
+
+    notifierStore.clear(DATA_INTEGRITY, job);
+    buffer.invalidate();
+    assertNull(buffer.getNewestFirst());
+
+    offerAndFlush(buffer, 100, info("c"));
+    assertMessages(List.of("c"), buffer.getNewestFirst());
+    assertMessages(List.of("c"), storeNewestFirst());
+  }
+
+  @Test
+  void testGetNewestFirst_AfterUnsignalledClear() {
+    offerAndFlush(buffer, 100, info("a"));
+    // like a clear made by another node sharing the store
+    notifierStore.clear(DATA_INTEGRITY, job);
+
+    for (int i = 0; i < 50; i++) offerAndFlush(buffer, 100, loop("b" + i));
+
+    assertMessages(List.of("b49"), buffer.getNewestFirst());
+    assertMessages(List.of("b49"), storeNewestFirst());
+  }
+
+  @Test
+  void testClose() {
+    assertTrue(buffer.offer(info("a")));
+    assertFalse(buffer.close());
+
+    buffer.flush(store(), buffer.poll(), 100);
+    assertTrue(buffer.isFlushed());
+    assertTrue(buffer.close());
+    assertFalse(buffer.offer(info("b")));
+    assertTrue(buffer.isFlushed());
+  }
+
+  @Test
+  void testOfferAndFlush_Concurrent() throws Exception {
+    int producers = 4;
+    int perProducer = 500;
+    AtomicReference<JobNotificationBuffer> current = new AtomicReference<>(buffer);
+    ExecutorService executor = Executors.newFixedThreadPool(producers);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int p = 0; p < producers; p++) {
+        int producer = p;
+        futures.add(
+            executor.submit(
+                () -> {
+                  for (int i = 0; i < perProducer; i++) {
+                    Notification n = info(producer + ":" + i);
+                    // a closed buffer is replaced, retry until there is a new one
+                    while (!current.get().offer(n)) Thread.onSpinWait();
+                  }
+                }));
+      }
+      while (!futures.stream().allMatch(Future::isDone) || !current.get().isFlushed()) {
+        JobNotificationBuffer b = current.get();
+        List<Notification> batch = b.poll();
+        if (!batch.isEmpty()) {
+          b.flush(store(), batch, 10_000);
+        } else if (b.close()) {
+          current.set(new JobNotificationBuffer(DATA_INTEGRITY, job));
+        }
+      }
+      for (Future<?> f : futures) f.get();
+    } finally {
+      executor.shutdownNow();
+      executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    List<Notification> stored = store().listNewestFirst().toList();
+    Set<String> messages = new HashSet<>();
+    stored.forEach(n -> messages.add(n.getMessage()));
+    assertEquals(producers * perProducer, stored.size());
+    assertEquals(producers * perProducer, messages.size());
+  }
+
+  private void offerAndFlush(JobNotificationBuffer target, int maxSize, Notification... batch) {
+    for (Notification n : batch) assertTrue(target.offer(n));
+    target.flush(store(), target.poll(), maxSize);
+  }
+
+  private NotifierStore.NotificationStore store() {
+    return notifierStore.notifications(DATA_INTEGRITY, job);
+  }
+
+  private List<Notification> storeNewestFirst() {
+    return store().listNewestFirst().toList();
+  }
+
+  private static Notification info(String message) {
+    return notification(INFO, message);
+  }
+
+  private static Notification loop(String message) {
+    return notification(LOOP, message);
+  }
+
+  private static Notification notification(NotificationLevel level, String message) {
+    return new Notification(
+        level, DATA_INTEGRITY, System.currentTimeMillis(), message, false, null, null);
+  }
+
+  private static void assertMessages(List<String> expected, List<Notification> actual) {
+    assertEquals(expected, actual.stream().map(Notification::getMessage).toList());
+  }
+}
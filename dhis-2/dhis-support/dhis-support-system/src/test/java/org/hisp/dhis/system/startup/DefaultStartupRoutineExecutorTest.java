@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2004-2022, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.system.startup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import org.hisp.dhis.external.conf.DhisConfigurationProvider;
+import org.hisp.dhis.system.executor.ExecutorRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class DefaultStartupRoutineExecutorTest {
+  private final List<String> executed = Collections.synchronizedList(new ArrayList<>());
+
+  private final Map<String, Thread> threads = new ConcurrentHashMap<>();
+
+  private final ExecutorRegistry executorRegistry = new ExecutorRegistry();
+
+  private DefaultStartupRoutineExecutor executor;
+
+  @BeforeEach
+  void setUp() {
+    executor = new DefaultStartupRoutineExecutor();
+    ReflectionTestUtils.setField(executor, "config", mock(DhisConfigurationProvider.class));
+    ReflectionTestUtils.setField(executor, "executorRegistry", executorRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executorRegistry.shutdown();
+  }
+
+  @Test
+  void testExecuteInRunlevelOrder() throws Exception {
+    setRoutines(routine("C", 3, () -> {}), routine("A", 1, () -> {}), routine("B", 2, () -> {}));
+
+    executor.execute();
+
+    assertEquals(List.of("A", "B", "C"), executed);
+  }
+
+  @Test
+  void testExecuteIndependentRoutinesConcurrently() throws Exception {
+    CyclicBarrier barrier = new CyclicBarrier(2);
+
+    AbstractStartupRoutine b = routine("B", 2, () -> await(barrier));
+    b.setDependencies("A");
+    AbstractStartupRoutine c = routine("C", 3, () -> await(barrier));
+    c.setDependencies("A");
+
+    setRoutines(routine("D", 4, () -> {}), c, b, routine("A", 1, () -> {}));
+
+    executor.execute();
+
+    assertEquals(4, executed.size());
+    assertEquals("A", executed.get(0));
+    assertEquals("D", executed.get(3));
+    assertNotEquals(threads.get("B"), threads.get("C"));
+  }
+
+  @Test
+  void testExecuteDependencyWithHigherRunlevel() throws Exception {
+    AbstractStartupRoutine a = routine("A", 1, () -> {});
+    a.setDependencies("B");
+    AbstractStartupRoutine b = routine("B", 2, () -> {});
+    b.setDependencies();
+
+    setRoutines(a, b);
+
+    executor.execute();
+
+    assertEquals(List.of("B", "A"), executed);
+  }
+
+  @Test
+  void testExecuteAfterSkippedDependency() throws Exception {
+    AbstractStartupRoutine b = routine("B", 2, () -> {});
+    b.setSkipInTests(true);
+    AbstractStartupRoutine c = routine("C", 3, () -> {});
+    c.setDependencies("B");
+
+    setRoutines(c, b, routine("A", 1, () -> {}));
+
+    executor.executeForTesting();
+
+    assertEquals(List.of("A", "C"), executed);
+  }
+
+  @Test
+  void testExecuteRoutineFailure() {
+    AbstractStartupRoutine c = routine("C", 3, () -> {});
+    c.setDependencies("A");
+
+    setRoutines(
+        routine(
+            "A",
+            1,
+            () -> {
+              throw new IllegalStateException("Failed");
+            }),
+        routine("B", 2, () -> {}),
+        c);
+
+    assertThrows(IllegalStateException.class, executor::execute);
+    assertEquals(List.of("A"), executed);
+  }
+
+  @Test
+  void testExecuteUnknownDependency() {
+    AbstractStartupRoutine a = routine("A", 1, () -> {});
+    a.setDependencies("B");
+
+    setRoutines(a);
+
+    assertThrows(IllegalStateException.class, executor::execute);
+    assertTrue(executed.isEmpty());
+  }
+
+  @Test
+  void testExecuteCyclicDependencies() {
+    AbstractStartupRoutine a = routine("A", 1, () -> {});
+    a.setDependencies("B");
+    AbstractStartupRoutine b = routine("B", 2, () -> {});
+    b.setDependencies("A");
+
+    setRoutines(a, b);
+
+    assertThrows(IllegalStateException.class, executor::execute);
+    assertTrue(executed.isEmpty());
+  }
+
+  @Test
+  void testExecuteLazyRoutinesInBackground() throws Exception {
+    CountDownLatch latch = new CountDownLatch(1);
+
+    AbstractStartupRoutine lazy = routine("A", 1, latch::countDown);
+    lazy.setLazy(true);
+
+    setRoutines(lazy, routine("B", 2, () -> {}));
+
+    executor.execute();
+
+    assertTrue(latch.await(10, TimeUnit.SECONDS));
+    assertEquals(List.of("B", "A"), executed);
+  }
+
+  private void setRoutines(StartupRoutine... routines) {
+    ReflectionTestUtils.setField(executor, "startupRoutines", new ArrayList<>(List.of(routines)));
+  }
+
+  private AbstractStartupRoutine routine(String name, int runlevel, Runnable work) {
+    AbstractStartupRoutine routine =
+        new AbstractStartupRoutine() {
+          @Override
+          public void execute() {
+            executed.add(getName());
+            threads.put(getName(), Thread.currentThread());
+            work.run();
+          }
+        };
+    routine.setName(name);
+    routine.setRunlevel(runlevel);
+    return routine;
+  }
+
+  /** Returns once both concurrent routines are running, fails if they run one after another. */
+  private static void await(CyclicBarrier barrier) {
+    try {
+      barrier.await(10, TimeUnit.SECONDS);
+    } catch (Exception ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+}
@@ -81,6 +81,7 @@ public enum HttpStatus {
   PAYLOAD_TOO_LARGE(413, "Payload Too Large"),
   REQUEST_URI_TOO_LONG(414, "Request-URI Too Long"),
   UNSUPPORTED_MEDIA_TYPE(415, "Unsupported Media Type"),
+  REQUESTED_RANGE_NOT_SATISFIABLE(416, "Requested Range Not Satisfiable"),
   UNPROCESSABLE_ENTITY(422, "Unprocessable Entity"),
   LOCKED(423, "Locked"),
   FAILED_DEPENDENCY(424, "Failed Dependency"),
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2004-2022, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.dataintegrity;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Set;
+import org.hisp.dhis.test.integration.PostgresIntegrationTestBase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Tests {@link DataIntegrityStore#getModificationState(Set)} which decides whether data integrity
+ * checks can be skipped.
+ */
+class DataIntegrityStoreTest extends PostgresIntegrationTestBase {
+  private static final String TABLE = "dataintegritystoretest";
+
+  private static final String VIEW = "dataintegritystoretest_view";
+
+  @Autowired private DataIntegrityStore dataIntegrityStore;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  void setUp() {
+    jdbcTemplate.execute("create table " + TABLE + " (id bigint)");
+  }
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.execute("drop view if exists " + VIEW);
+    jdbcTemplate.execute("drop table if exists " + TABLE);
+  }
+
+  @Test
+  void testGetModificationState_NoTables() {
+    assertNull(dataIntegrityStore.getModificationState(Set.of()));
+  }
+
+  @Test
+  void testGetModificationState_UnchangedWithoutWrites() {
+    String state = dataIntegrityStore.getModificationState(Set.of(TABLE, "no_such_table"));
+
+    assertNotNull(state);
+    assertEquals(state, dataIntegrityStore.getModificationState(Set.of(TABLE)));
+  }
+
+  @Test
+  void testGetModificationState_View() {
+    jdbcTemplate.execute("create view " + VIEW + " as select id from " + TABLE);
+
+    assertNull(dataIntegrityStore.getModificationState(Set.of(TABLE, VIEW)));
+  }
+
+  @Test
+  void testGetModificationState_ChangedAfterWrite() {
+    String state = dataIntegrityStore.getModificationState(Set.of(TABLE));
+
+    // statistics are reported by the connection that did the write once it is idle and the
+    // reporting interval has passed, so the write and the follow-up statements share a connection
+    jdbcTemplate.execute(
+        (ConnectionCallback<Void>)
+            connection -> {
+              try (Statement statement = connection.createStatement()) {
+                statement.execute("insert into " + TABLE + " values (1)");
+                await()
+                    .atMost(Duration.ofSeconds(30))
+                    .pollInterval(Duration.ofSeconds(1))
+                    .until(
+                        () -> {
+                          statement.execute("select 1");
+                          return !state.equals(
+                              dataIntegrityStore.getModificationState(Set.of(TABLE)));
+                        });
+              }
+              return null;
+            });
+  }
+}
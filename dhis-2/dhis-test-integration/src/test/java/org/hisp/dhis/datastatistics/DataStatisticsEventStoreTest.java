@@ -39,6 +39,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.IntStream;
 import org.hisp.dhis.analytics.SortOrder;
 import org.hisp.dhis.dashboard.Dashboard;
 import org.hisp.dhis.dashboard.DashboardService;
@@ -165,4 +166,32 @@ class DataStatisticsEventStoreTest extends PostgresIntegrationTestBase {
     assertEquals(1, activeDashboardStats.getViews());
     assertEquals(2, activePlusPassiveDashboardStats.getViews());
   }
+
+  @Test
+  void insertAllInMultipleBatchesTest() {
+    // Given more events than fit into a single insert statement
+    Date batchDate = getDate(2017, 5, 10);
+    List<DataStatisticsEvent> events =
+        IntStream.range(0, 1201)
+            .mapToObj(
+                i ->
+                    i % 2 == 0
+                        ? new DataStatisticsEvent(VISUALIZATION_VIEW, batchDate, "user" + i % 7)
+                        : new DataStatisticsEvent(
+                            DASHBOARD_VIEW, batchDate, "user" + i % 7, DASHBOARD_UID))
+            .toList();
+
+    // When
+    dataStatisticsEventStore.insertAll(events);
+
+    // Then
+    final Map<DataStatisticsEventType, Double> eventsMap =
+        dataStatisticsEventStore.getDataStatisticsEventCount(
+            getDate(2017, 5, 9), getDate(2017, 5, 11));
+    assertEquals(601.0, eventsMap.get(VISUALIZATION_VIEW));
+    assertEquals(600.0, eventsMap.get(DASHBOARD_VIEW));
+    assertEquals(1201.0, eventsMap.get(DataStatisticsEventType.TOTAL_VIEW));
+    assertEquals(7.0, eventsMap.get(DataStatisticsEventType.ACTIVE_USERS));
+    assertEquals(601, dataStatisticsService.getFavoriteStatistics(DASHBOARD_UID).getViews());
+  }
 }
@@ -273,6 +273,62 @@ class DatastoreIntegrationTest extends PostgresIntegrationTestBase {
         "pig");
   }
 
+  @Test
+  void test_Filter_PathEq_Boolean() {
+    assertEntries("cute:eq:true", "cat", "cow", "hamster", "pig");
+    assertEntries("cute:eq:false");
+  }
+
+  @Test
+  void test_Filter_PathEq_Decimal() throws Exception {
+    addJsonEntry("owl", "{\"weight\": 2.5}");
+    addJsonEntry("crow", "{\"weight\": 2}");
+
+    assertEntries("weight:eq:2.5", "owl");
+    assertEntries("weight:eq:2.50", "owl");
+    assertEntries("weight:eq:2", "crow");
+  }
+
+  @Test
+  void test_Filter_PathEq_NumericDoesNotMatchString() throws Exception {
+    addJsonEntry("parrot", "{\"age\": \"5\"}");
+
+    assertEntries("age:eq:5", "cow");
+  }
+
+  @Test
+  void test_Filter_PathEq_BooleanDoesNotMatchString() throws Exception {
+    addJsonEntry("parrot", "{\"name\": \"true\"}");
+
+    assertEntries("name:eq:true");
+    assertEntries("name:eq:'true'", "parrot");
+  }
+
+  @Test
+  void test_Filter_NestedPathEq() throws Exception {
+    addJsonEntry("fish", "{\"home\": {\"tank\": {\"size\": \"large\", \"litres\": 200}}}");
+    addJsonEntry("frog", "{\"home\": {\"tank\": {\"size\": \"small\", \"heated\": true}}}");
+
+    assertEntries("home.tank.size:eq:large", "fish");
+    assertEntries("home.tank.litres:eq:200", "fish");
+    assertEntries("home.tank.heated:eq:true", "frog");
+    assertEntries("home.tank.size:eq:medium");
+  }
+
+  @Test
+  void test_Filter_PathEq_StringWithCharactersToEscape() throws Exception {
+    addJsonEntry("goat", "{\"name\": \"Bil\\\"ly \\\\ {Goat} \\u00dcber\"}");
+    addJsonEntry("sheep", "{\"name\": \"Bil ly\"}");
+
+    assertEntries("name:eq:Bil\"ly \\ {Goat} \u00dcber", "goat");
+    assertEntries("name:eq:Bil\"ly");
+  }
+
+  private void addJsonEntry(String key, String json)
+      throws ConflictException, BadRequestException, ForbiddenException {
+    datastore.addEntry(new DatastoreEntry("pets", key, json, false));
+  }
+
   private DatastoreQuery createQuery(String... filters) {
     return DatastoreQuery.builder()
         .namespace("pets")
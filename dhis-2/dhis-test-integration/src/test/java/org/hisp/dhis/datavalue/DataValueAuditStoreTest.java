@@ -68,6 +68,9 @@ class DataValueAuditStoreTest extends PostgresIntegrationTestBase {
   private CategoryOptionCombo coc1;
   private CategoryOptionCombo coc2;
   private CategoryOptionCombo coc3;
+  private DataElement dataElementA;
+  private DataElement dataElementB;
+  private DataElement dataElementC;
 
   @BeforeEach
   void setUp() {
@@ -83,9 +86,9 @@ class DataValueAuditStoreTest extends PostgresIntegrationTestBase {
     coc3.setCategoryCombo(categoryService.getDefaultCategoryCombo());
     categoryService.addCategoryOptionCombo(coc3);
 
-    DataElement dataElementA = createDataElement('A');
-    DataElement dataElementB = createDataElement('B');
-    DataElement dataElementC = createDataElement('C');
+    dataElementA = createDataElement('A');
+    dataElementB = createDataElement('B');
+    dataElementC = createDataElement('C');
     manager.save(List.of(dataElementA, dataElementB, dataElementC));
 
     Period periodA =
@@ -212,4 +215,34 @@ class DataValueAuditStoreTest extends PostgresIntegrationTestBase {
         dvaCoc3After.containsAll(List.of(dataValueAuditC1, dataValueAuditC2)),
         "Retrieved entries should contain both audits referencing cat opt combo 3");
   }
+
+  @Test
+  @DisplayName("Deleting audits by data elements deletes the entries of all given data elements")
+  void testDeleteDataValueAuditsByDataElements() {
+    // given
+    for (DataValue dv :
+        List.of(dataValueA1, dataValueA2, dataValueB1, dataValueB2, dataValueC1, dataValueC2)) {
+      dataValueAuditService.addDataValueAudit(
+          new DataValueAudit(dv, dv.getValue(), dv.getStoredBy(), AuditOperationType.UPDATE));
+    }
+
+    // when
+    dataValueAuditStore.deleteDataValueAudits(List.of(dataElementA, dataElementB));
+
+    // then
+    assertTrue(
+        dataValueAuditStore
+            .getDataValueAudits(
+                new DataValueAuditQueryParams()
+                    .setDataElements(List.of(dataElementA, dataElementB)))
+            .isEmpty(),
+        "There should be 0 audits referencing data elements A and B");
+    assertEquals(
+        2,
+        dataValueAuditStore
+            .getDataValueAudits(
+                new DataValueAuditQueryParams().setDataElements(List.of(dataElementC)))
+            .size(),
+        "There should be 2 audits referencing data element C");
+  }
 }
@@ -34,7 +34,9 @@ import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import org.awaitility.Awaitility;
 import org.hisp.dhis.common.IdentifiableObjectManager;
@@ -123,6 +125,25 @@ class DeletedObjectServiceTest extends PostgresIntegrationTestBase {
     assertTrue(deletedObjectService.getDeletedObjectsByKlass("Indicator").isEmpty());
   }
 
+  @Test
+  void testGetLastDeletedAt() {
+    DeletedObject elementA = new DeletedObject(createDataElement('A'));
+    elementA.setDeletedAt(new Date(1000));
+    DeletedObject elementB = new DeletedObject(createDataElement('B'));
+    elementB.setDeletedAt(new Date(3000));
+    DeletedObject unitA = new DeletedObject(createOrganisationUnit('A'));
+    unitA.setDeletedAt(new Date(2000));
+
+    deletedObjectService.addDeletedObject(elementA);
+    deletedObjectService.addDeletedObject(elementB);
+    deletedObjectService.addDeletedObject(unitA);
+
+    Map<String, Date> lastDeletedAt =
+        deletedObjectService.getLastDeletedAt(List.of("DataElement", "Indicator"));
+    assertEquals(Map.of("DataElement", new Date(3000)), lastDeletedAt);
+    assertTrue(deletedObjectService.getLastDeletedAt(List.of()).isEmpty());
+  }
+
   @Test
   void testDeleteDataElement() {
     DataElement dataElementA = createDataElement('A');
@@ -39,7 +39,10 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.Sets;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import org.hisp.dhis.attribute.Attribute;
 import org.hisp.dhis.attribute.AttributeService;
@@ -72,6 +75,7 @@ import org.hisp.dhis.user.User;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 /**
  * @author Lars Helge Overland
@@ -97,6 +101,8 @@ class DataValueSetServiceExportTest extends PostgresIntegrationTestBase {
 
   @Autowired private ObjectMapper jsonMapper;
 
+  @Autowired private JdbcTemplate jdbcTemplate;
+
   private DataElement deA;
 
   private DataElement deB;
@@ -479,6 +485,44 @@ class DataValueSetServiceExportTest extends PostgresIntegrationTestBase {
     assertEquals(14, dvs.getDataValues().size());
   }
 
+  @Test
+  void testExportLastUpdatedPagedWithEqualTimestamps() throws IOException {
+    jdbcTemplate.update("update datavalue set lastupdated = '2020-01-01 10:00:00.123456'");
+    Date lastUpdated = getDate(1970, 1, 1);
+    Set<String> exported = new HashSet<>();
+    List<Integer> pageSizes = new ArrayList<>();
+    DataValueSyncCursor cursor = null;
+    while (true) {
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      // the cursor is resumed from its text form as from a checkpoint
+      cursor =
+          dataValueSetService.exportDataValueSetJson(
+              lastUpdated,
+              cursor == null ? null : DataValueSyncCursor.decode(cursor.encode()),
+              out,
+              new IdSchemes(),
+              5);
+      if (cursor == null) {
+        break;
+      }
+      assertEquals(123456000, cursor.lastUpdated().getNanos());
+      DataValueSet dvs = jsonMapper.readValue(out.toByteArray(), DataValueSet.class);
+      pageSizes.add(dvs.getDataValues().size());
+      for (org.hisp.dhis.dxf2.datavalue.DataValue dv : dvs.getDataValues()) {
+        exported.add(
+            String.join(
+                "-",
+                dv.getDataElement(),
+                dv.getPeriod(),
+                dv.getOrgUnit(),
+                dv.getCategoryOptionCombo(),
+                dv.getAttributeOptionCombo()));
+      }
+    }
+    assertEquals(List.of(5, 5, 2), pageSizes);
+    assertEquals(12, exported.size());
+  }
+
   @Test
   void testMissingDataSetElementGroup() {
     ByteArrayOutputStream out = new ByteArrayOutputStream();
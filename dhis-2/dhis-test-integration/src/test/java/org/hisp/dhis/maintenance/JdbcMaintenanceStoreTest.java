@@ -0,0 +1,276 @@
+/*
+ * Copyright (c) 2004-2022, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.maintenance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.hisp.dhis.analytics.AggregationType;
+import org.hisp.dhis.artemis.audit.AuditManager;
+import org.hisp.dhis.category.CategoryOptionCombo;
+import org.hisp.dhis.category.CategoryService;
+import org.hisp.dhis.common.IdentifiableObjectManager;
+import org.hisp.dhis.dataelement.DataElement;
+import org.hisp.dhis.dataelement.DataElementService;
+import org.hisp.dhis.datavalue.DataValueService;
+import org.hisp.dhis.external.conf.ConfigurationKey;
+import org.hisp.dhis.external.conf.DhisConfigurationProvider;
+import org.hisp.dhis.maintenance.jdbc.JdbcMaintenanceStore;
+import org.hisp.dhis.note.Note;
+import org.hisp.dhis.organisationunit.OrganisationUnit;
+import org.hisp.dhis.organisationunit.OrganisationUnitService;
+import org.hisp.dhis.period.Period;
+import org.hisp.dhis.program.Enrollment;
+import org.hisp.dhis.program.Event;
+import org.hisp.dhis.program.Program;
+import org.hisp.dhis.program.ProgramService;
+import org.hisp.dhis.program.ProgramStage;
+import org.hisp.dhis.program.ProgramStageService;
+import org.hisp.dhis.scheduling.JobProgress;
+import org.hisp.dhis.security.Authorities;
+import org.hisp.dhis.test.integration.PostgresIntegrationTestBase;
+import org.hisp.dhis.trackedentity.TrackedEntity;
+import org.hisp.dhis.trackedentity.TrackedEntityType;
+import org.hisp.dhis.trackedentity.TrackedEntityTypeService;
+import org.hisp.dhis.user.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Tests the chunked deletion of the {@link JdbcMaintenanceStore} with a chunk size of 2.
+ *
+ * @since 2.43
+ */
+class JdbcMaintenanceStoreTest extends PostgresIntegrationTestBase {
+
+  private static final int CHUNK_SIZE = 2;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @Autowired private AuditManager auditManager;
+
+  @Autowired private TransactionTemplate transactionTemplate;
+
+  @Autowired private CategoryService categoryService;
+
+  @Autowired private DataElementService dataElementService;
+
+  @Autowired private DataValueService dataValueService;
+
+  @Autowired private OrganisationUnitService organisationUnitService;
+
+  @Autowired private TrackedEntityTypeService trackedEntityTypeService;
+
+  @Autowired private ProgramService programService;
+
+  @Autowired private ProgramStageService programStageService;
+
+  @Autowired private IdentifiableObjectManager manager;
+
+  private JdbcMaintenanceStore store;
+
+  private JobProgress progress;
+
+  private CategoryOptionCombo coc;
+
+  private OrganisationUnit orgUnit;
+
+  private Program program;
+
+  private ProgramStage stage;
+
+  private TrackedEntityType trackedEntityType;
+
+  @BeforeEach
+  void setUp() {
+    DhisConfigurationProvider config = mock(DhisConfigurationProvider.class);
+    when(config.getIntProperty(ConfigurationKey.MAINTENANCE_DELETE_CHUNK_SIZE))
+        .thenReturn(CHUNK_SIZE);
+    when(config.getIntProperty(ConfigurationKey.MAINTENANCE_DELETE_PAUSE_PERCENT)).thenReturn(0);
+    when(config.getIntProperty(ConfigurationKey.MAINTENANCE_DELETE_MAX_REPLICATION_LAG))
+        .thenReturn(0);
+    store = new JdbcMaintenanceStore(jdbcTemplate, auditManager, config, transactionTemplate);
+    progress = mock(JobProgress.class);
+
+    coc = categoryService.getDefaultCategoryOptionCombo();
+    orgUnit = createOrganisationUnit('A');
+    organisationUnitService.addOrganisationUnit(orgUnit);
+    trackedEntityType = createTrackedEntityType('A');
+    trackedEntityTypeService.addTrackedEntityType(trackedEntityType);
+    program = createProgram('A', new HashSet<>(), orgUnit);
+    program.setTrackedEntityType(trackedEntityType);
+    programService.addProgram(program);
+    stage = createProgramStage('A', program);
+    programStageService.saveProgramStage(stage);
+    User superUser =
+        createAndAddUser(
+            true, "username", Set.of(orgUnit), Set.of(orgUnit), Authorities.ALL.toString());
+    injectSecurityContextUser(superUser);
+  }
+
+  @Test
+  void testDeleteSoftDeletedDataValues() {
+    DataElement deA = addDataElement('A', false);
+    DataElement deB = addDataElement('B', false);
+    addDataValues(deA, 5);
+    addDataValues(deB, 1);
+    jdbcTemplate.update("update datavalue set deleted = true where dataelementid = ?", deA.getId());
+
+    assertEquals(5, store.deleteSoftDeletedDataValues(progress));
+
+    assertEquals(1, count("select count(*) from datavalue"));
+    // 2 + 2 + 1 rows, the 4th chunk deletes nothing and ends the deletion
+    assertEquals(4, countChunks());
+  }
+
+  @Test
+  void testDeleteSoftDeletedDataValues_Cancelled() {
+    DataElement deA = addDataElement('A', false);
+    addDataValues(deA, 5);
+    jdbcTemplate.update("update datavalue set deleted = true");
+    when(progress.isCancelled()).thenReturn(false, true);
+
+    assertEquals(CHUNK_SIZE, store.deleteSoftDeletedDataValues(progress));
+
+    assertEquals(3, count("select count(*) from datavalue where deleted is true"));
+    assertEquals(1, countChunks());
+  }
+
+  @Test
+  void testDeleteZeroDataValues() {
+    DataElement deA = addDataElement('A', false);
+    DataElement deB = addDataElement('B', true);
+    addDataValues(deA, 4);
+    addDataValues(deB, 2);
+    // the values of the first 3 days are zero
+    jdbcTemplate.update(
+        "update datavalue set value = '0' where periodid in "
+            + "(select periodid from period where startdate < '2020-01-04')");
+
+    assertEquals(3, store.deleteZeroDataValues(progress));
+
+    assertEquals(3, count("select count(*) from datavalue"));
+    assertEquals(
+        0,
+        count(
+            "select count(*) from datavalue where value = '0' and dataelementid = " + deA.getId()));
+    assertEquals(3, countChunks());
+  }
+
+  @Test
+  void testDeleteSoftDeletedEvents() {
+    Enrollment enrollment = addEnrollment();
+    List<Event> events = new ArrayList<>();
+    for (int i = 0; i < 4; i++) events.add(addEvent(enrollment));
+    jdbcTemplate.update(
+        "update event set deleted = true where eventid <> ?", events.get(0).getId());
+
+    assertEquals(3, store.deleteSoftDeletedEvents(progress));
+
+    assertEquals(1, count("select count(*) from event"));
+    // notes of the deleted events are deleted with their links
+    assertEquals(1, count("select count(*) from event_notes"));
+    assertEquals(1, count("select count(*) from note"));
+    assertEquals(3, countChunks());
+  }
+
+  @Test
+  void testDeleteSoftDeletedEnrollments() {
+    Enrollment enrollmentA = addEnrollment();
+    Enrollment enrollmentB = addEnrollment();
+    addEvent(enrollmentA);
+    addEvent(enrollmentB);
+    jdbcTemplate.update(
+        "update enrollment set deleted = true where enrollmentid = ?", enrollmentA.getId());
+
+    assertEquals(1, store.deleteSoftDeletedEnrollments(progress));
+
+    assertEquals(1, count("select count(*) from enrollment"));
+    assertEquals(1, count("select count(*) from event"));
+    assertEquals(1, count("select count(*) from note"));
+    assertEquals(2, countChunks());
+  }
+
+  private DataElement addDataElement(char uniqueCharacter, boolean zeroIsSignificant) {
+    DataElement dataElement = createDataElement(uniqueCharacter);
+    dataElement.setAggregationType(AggregationType.SUM);
+    dataElement.setZeroIsSignificant(zeroIsSignificant);
+    dataElementService.addDataElement(dataElement);
+    return dataElement;
+  }
+
+  /** Adds a value for the given data element on each day starting 2020-01-01. */
+  private void addDataValues(DataElement dataElement, int days) {
+    for (int day = 1; day <= days; day++) {
+      Period period = createPeriod("2020010" + day);
+      dataValueService.addDataValue(createDataValue(dataElement, period, orgUnit, coc, coc, "1"));
+    }
+  }
+
+  private Enrollment addEnrollment() {
+    TrackedEntity trackedEntity = createTrackedEntity(orgUnit, trackedEntityType);
+    manager.save(trackedEntity);
+    Enrollment enrollment = createEnrollment(program, trackedEntity, orgUnit);
+    manager.save(enrollment);
+    return enrollment;
+  }
+
+  private Event addEvent(Enrollment enrollment) {
+    Event event = createEvent(stage, enrollment, orgUnit);
+    event.setOccurredDate(new Date());
+    event.setAttributeOptionCombo(coc);
+    Note note = new Note("note", "admin");
+    note.setAutoFields();
+    event.setNotes(List.of(note));
+    manager.save(event);
+    return event;
+  }
+
+  private long count(String sql) {
+    Long count = jdbcTemplate.queryForObject(sql, Long.class);
+    return count == null ? 0 : count;
+  }
+
+  private long countChunks() {
+    return mockingDetails(progress).getInvocations().stream()
+        .filter(i -> i.getMethod().getName().equals("startingWorkItem"))
+        .count();
+  }
+}
@@ -33,20 +33,31 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import com.google.common.collect.Sets;
 import java.util.stream.Stream;
+import org.hisp.dhis.audit.AuditOperationType;
 import org.hisp.dhis.category.CategoryCombo;
 import org.hisp.dhis.category.CategoryOptionCombo;
 import org.hisp.dhis.category.CategoryService;
 import org.hisp.dhis.common.IdentifiableObjectManager;
 import org.hisp.dhis.dataapproval.DataApproval;
+import org.hisp.dhis.dataapproval.DataApprovalAction;
+import org.hisp.dhis.dataapproval.DataApprovalAudit;
+import org.hisp.dhis.dataapproval.DataApprovalAuditStore;
 import org.hisp.dhis.dataapproval.DataApprovalLevel;
 import org.hisp.dhis.dataapproval.DataApprovalService;
 import org.hisp.dhis.dataapproval.DataApprovalWorkflow;
 import org.hisp.dhis.dataelement.DataElement;
+import org.hisp.dhis.dataset.DataSet;
+import org.hisp.dhis.dataset.DataSetService;
+import org.hisp.dhis.dataset.LockException;
 import org.hisp.dhis.datavalue.DataValue;
+import org.hisp.dhis.datavalue.DataValueAudit;
+import org.hisp.dhis.datavalue.DataValueAuditService;
 import org.hisp.dhis.datavalue.DataValueService;
 import org.hisp.dhis.merge.DataMergeStrategy;
 import org.hisp.dhis.merge.orgunit.OrgUnitMergeRequest;
 import org.hisp.dhis.merge.orgunit.OrgUnitMergeRequest.Builder;
+import org.hisp.dhis.minmax.MinMaxDataElement;
+import org.hisp.dhis.minmax.MinMaxDataElementService;
 import org.hisp.dhis.organisationunit.OrganisationUnit;
 import org.hisp.dhis.period.MonthlyPeriodType;
 import org.hisp.dhis.period.Period;
@@ -59,6 +70,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * @author Lars Helge Overland
@@ -79,6 +91,16 @@ class DataOrgUnitMergeHandlerTest extends PostgresIntegrationTestBase {
 
   @Autowired private NamedParameterJdbcTemplate jdbcTemplate;
 
+  @Autowired private DataValueAuditService dataValueAuditService;
+
+  @Autowired private DataApprovalAuditStore dataApprovalAuditStore;
+
+  @Autowired private DataSetService dataSetService;
+
+  @Autowired private MinMaxDataElementService minMaxDataElementService;
+
+  @Autowired private TransactionTemplate transactionTemplate;
+
   private DataElement deA;
 
   private DataElement deB;
@@ -174,6 +196,76 @@ class DataOrgUnitMergeHandlerTest extends PostgresIntegrationTestBase {
     assertEquals(2, getDataApprovalCount(ouC));
   }
 
+  @Test
+  void testMergeDataValueAudits() {
+    Stream.of(ouA, ouB, ouC)
+        .forEach(
+            ou ->
+                dataValueAuditService.addDataValueAudit(
+                    new DataValueAudit(
+                        createDataValue(deA, peA, ou, cocA, cocA, "10"),
+                        "10",
+                        usA.getUsername(),
+                        AuditOperationType.UPDATE)));
+    handler.mergeDataValueAudits(createMergeRequest());
+    assertEquals(0, getCount("datavalueaudit", "organisationunitid", ouA));
+    assertEquals(0, getCount("datavalueaudit", "organisationunitid", ouB));
+    assertEquals(1, getCount("datavalueaudit", "organisationunitid", ouC));
+  }
+
+  @Test
+  void testMergeDataApprovalAudits() {
+    transactionTemplate.executeWithoutResult(
+        status ->
+            Stream.of(ouA, ouB, ouC)
+                .forEach(
+                    ou ->
+                        dataApprovalAuditStore.save(
+                            new DataApprovalAudit(
+                                new DataApproval(
+                                    dlA, dwA, peA, ou, cocA, false, date(2021, 1, 1), usA),
+                                DataApprovalAction.APPROVE))));
+    handler.mergeDataApprovalAudits(createMergeRequest());
+    assertEquals(0, getCount("dataapprovalaudit", "organisationunitid", ouA));
+    assertEquals(0, getCount("dataapprovalaudit", "organisationunitid", ouB));
+    assertEquals(1, getCount("dataapprovalaudit", "organisationunitid", ouC));
+  }
+
+  @Test
+  void testMergeLockExceptions() {
+    DataSet dsA = createDataSet('A', peA.getPeriodType());
+    idObjectManager.save(dsA);
+    Stream.of(ouA, ouB, ouC)
+        .forEach(ou -> dataSetService.addLockException(new LockException(peA, ou, dsA)));
+    handler.mergeLockExceptions(createMergeRequest());
+    assertEquals(0, getCount("lockexception", "organisationunitid", ouA));
+    assertEquals(0, getCount("lockexception", "organisationunitid", ouB));
+    assertEquals(1, getCount("lockexception", "organisationunitid", ouC));
+  }
+
+  @Test
+  void testMergeMinMaxDataElements() {
+    Stream.of(ouA, ouB, ouC)
+        .forEach(
+            ou ->
+                minMaxDataElementService.addMinMaxDataElement(
+                    new MinMaxDataElement(deA, ou, cocA, 1, 100)));
+    handler.mergeMinMaxDataElements(createMergeRequest());
+    assertEquals(0, getCount("minmaxdataelement", "sourceid", ouA));
+    assertEquals(0, getCount("minmaxdataelement", "sourceid", ouB));
+    assertEquals(1, getCount("minmaxdataelement", "sourceid", ouC));
+  }
+
+  private OrgUnitMergeRequest createMergeRequest() {
+    return new Builder().addSource(ouA).addSource(ouB).withTarget(ouC).build();
+  }
+
+  private long getCount(String table, String column, OrganisationUnit ou) {
+    final String sql = "select count(*) from " + table + " where " + column + " = :id";
+    return jdbcTemplate.queryForObject(
+        sql, new MapSqlParameterSource().addValue("id", ou.getId()), Long.class);
+  }
+
   private long getDataValueCount(OrganisationUnit target) {
     final String sql = "select count(*) from datavalue dv where dv.sourceid = :target_id";
     return jdbcTemplate.queryForObject(
@@ -291,6 +291,37 @@ class EventChangeLogServiceTest extends PostgresIntegrationTestBase {
         () -> assertDataElementCreate(dataElement, "13", changeLogs.get(2)));
   }
 
+  @Test
+  void shouldDeleteDataValueChangeLogsOfAllGivenDataElements() throws NotFoundException {
+    String event = "OTmjvJDn0Fu";
+    DataElement dataElement = manager.get(DataElement.class, getDataElement(event));
+
+    eventChangeLogService.deleteEventChangeLog(
+        List.of(dataElement, manager.get(DataElement.class, "DATAEL00001")));
+
+    Page<EventChangeLog> changeLogs =
+        eventChangeLogService.getEventChangeLog(
+            UID.of(event), defaultOperationParams, defaultPageParams);
+
+    assertNumberOfChanges(0, getDataElementChangeLogs(changeLogs));
+    assertNumberOfChanges(1, getChangeLogsByField(changeLogs, "scheduledAt"));
+    assertNumberOfChanges(1, getChangeLogsByField(changeLogs, "occurredAt"));
+  }
+
+  @Test
+  void shouldNotDeleteDataValueChangeLogsWhenNoDataElementsAreGiven() throws NotFoundException {
+    String event = "OTmjvJDn0Fu";
+
+    eventChangeLogService.deleteEventChangeLog(List.of());
+
+    List<EventChangeLog> changeLogs =
+        getDataElementChangeLogs(
+            eventChangeLogService.getEventChangeLog(
+                UID.of(event), defaultOperationParams, defaultPageParams));
+
+    assertNumberOfChanges(1, changeLogs);
+  }
+
   @Test
   void shouldReturnOnlyUserNameWhenUserDoesNotExistInDatabase() throws NotFoundException {
     Event event = getEvent("OTmjvJDn0Fu");
@@ -30,6 +30,7 @@
 package org.hisp.dhis.webapi.controller;
 
 import static java.nio.file.Files.createTempDirectory;
+import static org.hisp.dhis.http.HttpClientAdapter.Header;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -108,6 +109,29 @@ class AppControllerTest extends H2ControllerIntegrationTestBase {
     assertTrue(content.contains("<!doctype html>"));
   }
 
+  @Test
+  void testGetInstalledAppResourceRange() throws IOException {
+    appManager.installApp(
+        new ClassPathResource("app/test-app-with-index-html.zip").getFile(),
+        "test-app-with-index-html.zip");
+
+    HttpResponse response = GET("/apps/myapp/index.html", Header("Range", "bytes=0-8"));
+    assertEquals(HttpStatus.PARTIAL_CONTENT, response.status());
+    assertEquals("bytes", response.header("Accept-Ranges"));
+    assertTrue(response.header("Content-Range").startsWith("bytes 0-8/"));
+    assertEquals("<!doctype", response.content("text/html"));
+  }
+
+  @Test
+  void testGetInstalledAppResourceRangeNotSatisfiable() throws IOException {
+    appManager.installApp(
+        new ClassPathResource("app/test-app-with-index-html.zip").getFile(),
+        "test-app-with-index-html.zip");
+
+    HttpResponse response = GET("/apps/myapp/index.html", Header("Range", "bytes=1000000-"));
+    assertEquals(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE, response.status());
+  }
+
   @Test
   void testInstallReturnsAppInfo() throws IOException {
     var result =
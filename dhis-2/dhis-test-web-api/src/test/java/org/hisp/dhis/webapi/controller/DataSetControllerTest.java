@@ -30,7 +30,11 @@
 package org.hisp.dhis.webapi.controller;
 
 import static org.hisp.dhis.http.HttpAssertions.assertStatus;
+import static org.hisp.dhis.http.HttpClientAdapter.Header;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
@@ -93,6 +97,52 @@ class DataSetControllerTest extends H2ControllerIntegrationTestBase {
     assertEquals(1, groups.size());
   }
 
+  @Test
+  void testGetObjectListEtag() {
+    String etag = GET("/dataSets?fields=id,name,dataSetElements[dataElement[id]]").header("ETag");
+    assertNotNull(etag);
+    assertEquals(
+        etag, GET("/dataSets?fields=id,name,dataSetElements[dataElement[id]]").header("ETag"));
+
+    assertStatus(
+        HttpStatus.OK,
+        PUT(
+            "/dataSets/" + dsId,
+            "{'name':'My renamed data set', 'shortName':'MDS', 'periodType':'Monthly'}"));
+
+    assertNotEquals(
+        etag, GET("/dataSets?fields=id,name,dataSetElements[dataElement[id]]").header("ETag"));
+  }
+
+  @Test
+  void testGetObjectListEtag_NotModified() {
+    String etag = GET("/dataSets?fields=id,name&filter=name:like:data&order=name").header("ETag");
+    assertNotNull(etag);
+
+    HttpResponse response =
+        GET(
+            "/dataSets?fields=id,name&filter=name:like:data&order=name",
+            Header("If-None-Match", etag));
+    assertEquals(HttpStatus.NOT_MODIFIED, response.status());
+    assertEquals(etag, response.header("ETag"));
+  }
+
+  @Test
+  void testGetObjectListEtag_NotCoveredByEtagTypes() {
+    String etag = GET("/dataSets?fields=id,name").header("ETag");
+    assertNotNull(etag);
+
+    assertNotModifiedIgnored("/dataSets?fields=id,createdBy[id]", etag);
+    assertNotModifiedIgnored("/dataSets?fields=id,name&filter=createdBy.id:eq:" + dsId, etag);
+    assertNotModifiedIgnored("/dataSets?fields=id,name&order=createdBy.name", etag);
+  }
+
+  private void assertNotModifiedIgnored(String url, String etag) {
+    HttpResponse response = GET(url, Header("If-None-Match", etag));
+    assertNotEquals(HttpStatus.NOT_MODIFIED, response.status());
+    assertNull(response.header("ETag"));
+  }
+
   @Test
   void testGetWithDependenciesAsZipFile() {
     HttpResponse res =
@@ -29,6 +29,7 @@
  */
 package org.hisp.dhis.webapi.controller;
 
+import static org.hisp.dhis.common.collection.CollectionUtils.mapToList;
 import static org.springframework.http.CacheControl.noCache;
 
 import com.fasterxml.jackson.databind.SequenceWriter;
@@ -44,6 +45,7 @@ import java.io.IOException;
 import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Date;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -63,12 +65,16 @@ import org.hisp.dhis.common.OpenApi.PropertyNames;
 import org.hisp.dhis.common.Pager;
 import org.hisp.dhis.common.PrimaryKeyObject;
 import org.hisp.dhis.common.UID;
+import org.hisp.dhis.deletedobject.DeletedObjectService;
 import org.hisp.dhis.feedback.BadRequestException;
 import org.hisp.dhis.feedback.ConflictException;
 import org.hisp.dhis.feedback.ForbiddenException;
 import org.hisp.dhis.feedback.NotFoundException;
 import org.hisp.dhis.fieldfilter.FieldFilterService;
 import org.hisp.dhis.fieldfiltering.FieldFilterParams;
+import org.hisp.dhis.fieldfiltering.FieldFilterParser;
+import org.hisp.dhis.fieldfiltering.FieldPath;
+import org.hisp.dhis.fieldfiltering.FieldPathHelper;
 import org.hisp.dhis.query.Filter;
 import org.hisp.dhis.query.Filters;
 import org.hisp.dhis.query.GetObjectListParams;
@@ -81,7 +87,7 @@ import org.hisp.dhis.schema.Property;
 import org.hisp.dhis.schema.PropertyType;
 import org.hisp.dhis.schema.Schema;
 import org.hisp.dhis.security.acl.AclService;
-import org.hisp.dhis.system.util.ReflectionUtils;
+import org.hisp.dhis.setting.UserSettings;
 import org.hisp.dhis.user.CurrentUser;
 import org.hisp.dhis.user.User;
 import org.hisp.dhis.user.UserDetails;
@@ -90,8 +96,10 @@ import org.hisp.dhis.webapi.mvc.annotation.ApiVersion;
 import org.hisp.dhis.webapi.service.ContextService;
 import org.hisp.dhis.webapi.service.LinkService;
 import org.hisp.dhis.webapi.utils.ContextUtils;
+import org.hisp.dhis.webapi.utils.ResponseEntityUtils;
 import org.hisp.dhis.webapi.webdomain.StreamingJsonRoot;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -124,10 +132,14 @@ public abstract class AbstractFullReadOnlyController<
 
   @Autowired protected org.hisp.dhis.fieldfiltering.FieldFilterService fieldFilterService;
 
+  @Autowired protected FieldPathHelper fieldPathHelper;
+
   @Autowired protected LinkService linkService;
 
   @Autowired protected AclService aclService;
 
+  @Autowired protected DeletedObjectService deletedObjectService;
+
   @Autowired protected AttributeService attributeService;
 
   @Autowired protected CsvMapper csvMapper;
@@ -157,6 +169,21 @@ public abstract class AbstractFullReadOnlyController<
 
   protected void addProgrammaticFilters(Consumer<String> add) {}
 
+  /**
+   * Override to let {@link #getObjectList} answer conditional requests with a deep ETag instead of
+   * relying on the shallow ETag filter. The max last updated timestamp and the time of the latest
+   * deletion of each returned type are combined into a validator, so the returned types must
+   * include every type whose changes can affect the list response. The validator is only used when
+   * all types the requested fields, filters and orders traverse are among the returned types. In
+   * that case {@code If-None-Match} is answered before any query runs and the response is streamed
+   * without being buffered.
+   *
+   * @return the types of the validator, or an empty list to use the shallow ETag filter.
+   */
+  protected List<Class<? extends IdentifiableObject>> getObjectListEtagTypes() {
+    return List.of();
+  }
+
   // --------------------------------------------------------------------------
   // GET Full
   // --------------------------------------------------------------------------
@@ -174,7 +201,28 @@ public abstract class AbstractFullReadOnlyController<
   public @ResponseBody ResponseEntity<StreamingJsonRoot<T>> getObjectList(
       P params, HttpServletResponse response, @CurrentUser UserDetails currentUser)
       throws ForbiddenException, BadRequestException, ConflictException {
-    return getObjectListInternal(params, response, currentUser, getAdditionalFilters(params));
+    String etag = getObjectListEtag(params, currentUser);
+
+    if (etag == null) {
+      return getObjectListInternal(params, response, currentUser, getAdditionalFilters(params));
+    }
+
+    HttpServletRequest request = contextService.getRequest();
+    ResponseEntityUtils.disableShallowEtag(request);
+
+    if (aclService.canRead(currentUser, getEntityClass())
+        && ResponseEntityUtils.checkNotModified(etag, request)) {
+      cachePrivate(response);
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+    }
+
+    ResponseEntity<StreamingJsonRoot<T>> entity =
+        getObjectListInternal(params, response, currentUser, getAdditionalFilters(params));
+
+    return ResponseEntity.status(entity.getStatusCode())
+        .headers(entity.getHeaders())
+        .eTag(etag)
+        .body(entity.getBody());
   }
 
   protected final ResponseEntity<StreamingJsonRoot<T>> getObjectListWith(
@@ -370,16 +418,14 @@ public abstract class AbstractFullReadOnlyController<
               property.getCollectionName(), obj -> getCollectionValue(obj, property));
         } else if (property.isSimple()) {
           schemaBuilder.addColumn(property.getName());
-          obj2valueByProperty.put(
-              property.getName(),
-              obj -> ReflectionUtils.invokeMethod(obj, property.getGetterMethod()));
+          obj2valueByProperty.put(property.getName(), obj -> property.getValue(obj));
         }
       }
     }
   }
 
   private static List<String> getCollectionValue(Object obj, Property property) {
-    Object value = ReflectionUtils.invokeMethod(obj, property.getGetterMethod());
+    Object value = property.getValue(obj);
 
     @SuppressWarnings("unchecked")
     Collection<IdentifiableObject> collection = (Collection<IdentifiableObject>) value;
@@ -519,6 +565,125 @@ public abstract class AbstractFullReadOnlyController<
     return queryService.count(query);
   }
 
+  /**
+   * Returns the deep ETag of the object list for the current request and user, based on the max
+   * last updated timestamp of each type of {@link #getObjectListEtagTypes()}, the time of the
+   * latest deletion of each type as recorded by the {@link DeletedObjectService} and the locale
+   * used for display names. Deletions are taken from the recorded deleted objects rather than
+   * counting the objects of each type, which would scan large tables like the organisation units on
+   * every request.
+   *
+   * @param params the request parameters.
+   * @param currentUser the current user.
+   * @return the ETag, or null if this endpoint or the request do not allow a deep ETag.
+   */
+  @CheckForNull
+  private String getObjectListEtag(P params, UserDetails currentUser) {
+    List<Class<? extends IdentifiableObject>> types = getObjectListEtagTypes();
+
+    if (types.isEmpty() || !isCoveredByEtagTypes(params, types)) {
+      return null;
+    }
+
+    Map<String, Date> lastDeletedAt =
+        deletedObjectService.getLastDeletedAt(mapToList(types, Class::getSimpleName));
+
+    StringBuilder validator = new StringBuilder();
+    validator.append(UserSettings.getCurrentSettings().evalUserLocale()).append(';');
+
+    for (Class<? extends IdentifiableObject> type : types) {
+      Date lastUpdated = manager.getLastUpdated(type);
+      Date deletedAt = lastDeletedAt.get(type.getSimpleName());
+
+      validator
+          .append(type.getSimpleName())
+          .append(':')
+          .append(lastUpdated == null ? 0 : lastUpdated.getTime())
+          .append(':')
+          .append(deletedAt == null ? 0 : deletedAt.getTime())
+          .append(';');
+    }
+
+    return ContextUtils.getEtag(validator.toString(), contextService.getRequest(), currentUser);
+  }
+
+  /**
+   * Checks whether every object the requested fields traverse, including references which are
+   * expanded to their identifier, and every object the filter and order properties traverse is of
+   * one of the given types. Fields which reach other types, like users, legend sets, attribute
+   * values or translations, can change without affecting the validator of the deep ETag.
+   *
+   * @param params the request parameters.
+   * @param types the types of the validator.
+   * @return true if the request only traverses the given types.
+   */
+  private boolean isCoveredByEtagTypes(
+      GetObjectListParams params, List<Class<? extends IdentifiableObject>> types) {
+    List<FieldPath> fieldPaths =
+        fieldPathHelper.apply(
+            FieldFilterParser.parse(String.join(",", params.getFieldsJsonList())),
+            getEntityClass());
+
+    for (FieldPath fieldPath : fieldPaths) {
+      List<String> segments = new ArrayList<>(fieldPath.getPath());
+      segments.add(fieldPath.getName());
+
+      if (!isCoveredByEtagTypes(segments, types)) {
+        return false;
+      }
+    }
+
+    List<String> expressions = new ArrayList<>();
+    if (params.getFilters() != null) {
+      expressions.addAll(params.getFilters());
+    }
+    if (params.getOrders() != null) {
+      expressions.addAll(params.getOrders());
+    }
+
+    for (String expression : expressions) {
+      String path = expression.split(":", 2)[0];
+
+      if (!isCoveredByEtagTypes(List.of(path.split("\\.")), types)) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * @param segments the property names of a path starting at the entity of this controller.
+   * @param types the types of the validator.
+   * @return true if all objects on the path are of one of the given types.
+   */
+  private boolean isCoveredByEtagTypes(
+      List<String> segments, List<Class<? extends IdentifiableObject>> types) {
+    Schema schema = getSchema();
+
+    for (String segment : segments) {
+      Property property = schema == null ? null : schema.getProperty(segment);
+
+      if (property == null) {
+        return false;
+      }
+
+      if (property.isSimple()) {
+        break;
+      }
+
+      Class<?> klass = property.isCollection() ? property.getItemKlass() : property.getKlass();
+
+      if (!types.contains(klass)) {
+        return false;
+      }
+
+      schema = getSchema(klass);
+    }
+
+    return true;
+  }
+
   private void cachePrivate(HttpServletResponse response) {
     response.setHeader(
         ContextUtils.HEADER_CACHE_CONTROL, noCache().cachePrivate().getHeaderValue());
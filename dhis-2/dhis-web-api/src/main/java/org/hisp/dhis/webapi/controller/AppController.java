@@ -41,6 +41,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -50,6 +51,7 @@ import org.hisp.dhis.appmanager.App;
 import org.hisp.dhis.appmanager.AppManager;
 import org.hisp.dhis.appmanager.AppStatus;
 import org.hisp.dhis.appmanager.AppStorageSource;
+import org.hisp.dhis.appmanager.JCloudsAppStorageService;
 import org.hisp.dhis.appmanager.ResourceResult;
 import org.hisp.dhis.appmanager.ResourceResult.Redirect;
 import org.hisp.dhis.appmanager.ResourceResult.ResourceFound;
@@ -67,7 +69,13 @@ import org.hisp.dhis.security.RequiresAuthority;
 import org.hisp.dhis.webapi.mvc.annotation.ApiVersion;
 import org.hisp.dhis.webapi.service.ContextService;
 import org.hisp.dhis.webapi.utils.ContextUtils;
+import org.hisp.dhis.webapi.utils.ResponseEntityUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
@@ -97,6 +105,14 @@ public class AppController {
 
   public static final Pattern REGEX_REMOVE_PROTOCOL = Pattern.compile(".+:/+");
 
+  private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+
+  private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+
+  private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+
+  private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
   @Autowired private AppManager appManager;
 
   @Autowired private RenderService renderService;
@@ -226,21 +242,36 @@ public class AppController {
       ResourceFound resourceResult,
       App app)
       throws IOException {
-    String filename = resourceResult.resource().getFilename();
+    Resource resource = resourceResult.resource();
+    String filename = resource.getFilename();
     log.debug("Serving app resource, filename: {}", filename);
 
+    File file = getFile(resource);
+    File gzipFile = file != null && acceptsGzip(request) ? getPrecompressedFile(file) : null;
+
     // Use a combination of app version and last modified timestamp to generate an ETag
     // This is to ensure that the ETag changes when the app is updated
     // There is no guarantee that a new app uploaded will have a different version number, so we
     // need to include the last modified timestamp
     // Similarly, with classPath resources the lastModified timestamp may be missing or not
     // reliable, so we need to include the version number
+    // The gzip variant is a different representation and needs an ETag of its own
     // See also AppHtmlNoCacheFilter for cache control headers set on index.html responses
 
-    long lastModified = resourceResult.resource().lastModified();
-    String etagSource = String.format("%s-%s", app.getVersion(), String.valueOf(lastModified));
+    long lastModified = resource.lastModified();
+    String etagSource =
+        String.format(
+            "%s-%s%s",
+            app.getVersion(), String.valueOf(lastModified), gzipFile != null ? "-gzip" : "");
     String etag = HashUtils.hashMD5(etagSource.getBytes());
 
+    // The ETag is computed from the app version, avoid buffering the content for a shallow ETag
+    ResponseEntityUtils.disableShallowEtag(request);
+
+    if (file != null) {
+      response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    }
+
     if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
       log.debug("Resource not modified (etag {}, source {})", etag, etagSource);
       response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
@@ -256,9 +287,15 @@ public class AppController {
       response.setContentType(mimeType);
     }
 
-    long contentLength = appManager.getUriContentLength(resourceResult.resource());
+    if (gzipFile != null) {
+      log.debug("Serving precompressed resource: {} (etag: {})", filename, etag);
+      response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+      writeContent(
+          request, response, new FileSystemResource(gzipFile), gzipFile, 0, gzipFile.length());
+      return;
+    }
 
-    response.setContentLengthLong(contentLength);
+    long contentLength = appManager.getUriContentLength(resource);
 
     log.debug(
         "Serving resource: {} (contentType: {}, contentLength: {}, lastModified: {}, etag: {})",
@@ -267,8 +304,128 @@ public class AppController {
         contentLength,
         String.valueOf(lastModified),
         etag);
-    StreamUtils.copyThenCloseInputStream(
-        resourceResult.resource().getInputStream(), response.getOutputStream());
+
+    if (contentLength < 0) {
+      StreamUtils.copyThenCloseInputStream(resource.getInputStream(), response.getOutputStream());
+      return;
+    }
+
+    response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+    HttpRange range;
+    try {
+      range = getRange(request, etag);
+    } catch (IllegalArgumentException ex) {
+      sendRangeNotSatisfiable(response, contentLength);
+      return;
+    }
+
+    if (range == null) {
+      writeContent(request, response, resource, file, 0, contentLength);
+      return;
+    }
+
+    long start = range.getRangeStart(contentLength);
+    long end = range.getRangeEnd(contentLength);
+
+    if (start >= contentLength || start > end) {
+      sendRangeNotSatisfiable(response, contentLength);
+      return;
+    }
+
+    response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+    response.setHeader(
+        HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + contentLength);
+    writeContent(request, response, resource, file, start, end - start + 1);
+  }
+
+  private static void sendRangeNotSatisfiable(HttpServletResponse response, long contentLength)
+      throws IOException {
+    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + contentLength);
+    response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+  }
+
+  /**
+   * Writes the given section of the resource to the response. File system resources are handed to
+   * the servlet container for zero-copy transfer when it supports sendfile, other resources are
+   * streamed.
+   */
+  private static void writeContent(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      Resource resource,
+      File file,
+      long start,
+      long length)
+      throws IOException {
+    response.setContentLengthLong(length);
+
+    if (length == 0) {
+      return;
+    }
+
+    if (file != null && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+      request.setAttribute(SENDFILE_FILENAME, file.getCanonicalPath());
+      request.setAttribute(SENDFILE_START, start);
+      request.setAttribute(SENDFILE_END, start + length);
+      return;
+    }
+
+    try (InputStream input = resource.getInputStream()) {
+      org.springframework.util.StreamUtils.copyRange(
+          input, response.getOutputStream(), start, start + length - 1);
+    }
+  }
+
+  /**
+   * Returns the single byte range requested by the client, or null if the whole content should be
+   * served. Requests for multiple ranges and conditional range requests with an outdated {@code
+   * If-Range} validator are answered with the whole content.
+   *
+   * @throws IllegalArgumentException if the range header is malformed.
+   */
+  private static HttpRange getRange(HttpServletRequest request, String etag) {
+    String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+
+    if (rangeHeader == null) {
+      return null;
+    }
+
+    String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+
+    if (ifRange != null && !ifRange.equals("\"" + etag + "\"")) {
+      return null;
+    }
+
+    List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+    return ranges.size() == 1 ? ranges.get(0) : null;
+  }
+
+  /**
+   * Returns the file backing the given resource, or null if the resource is not a plain file, for
+   * instance because its content was rewritten by the {@link AppManager}.
+   */
+  private static File getFile(Resource resource) {
+    if (resource instanceof ByteArrayResource || !resource.isFile()) {
+      return null;
+    }
+
+    try {
+      File file = resource.getFile();
+      return file.isFile() ? file : null;
+    } catch (IOException ex) {
+      return null;
+    }
+  }
+
+  private static File getPrecompressedFile(File file) {
+    File gzipFile = new File(file.getPath() + JCloudsAppStorageService.GZIP_EXTENSION);
+    return gzipFile.isFile() && gzipFile.lastModified() >= file.lastModified() ? gzipFile : null;
+  }
+
+  private static boolean acceptsGzip(HttpServletRequest request) {
+    String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+    return acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
   }
 
   @DeleteMapping("/{app}")
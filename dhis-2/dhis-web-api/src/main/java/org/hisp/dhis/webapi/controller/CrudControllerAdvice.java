@@ -60,6 +60,7 @@ import org.hibernate.exception.ConstraintViolationException;
 import org.hisp.dhis.common.DeleteNotAllowedException;
 import org.hisp.dhis.common.IdentifiableProperty;
 import org.hisp.dhis.common.IllegalQueryException;
+import org.hisp.dhis.common.QueryRejectedException;
 import org.hisp.dhis.common.QueryRuntimeException;
 import org.hisp.dhis.common.UID;
 import org.hisp.dhis.common.exception.InvalidIdentifierReferenceException;
@@ -379,6 +380,14 @@ public class CrudControllerAdvice {
     return conflict(ex.getMessage(), ex.getErrorCode());
   }
 
+  @ExceptionHandler(QueryRejectedException.class)
+  @ResponseBody
+  public WebMessage queryRejectedExceptionHandler(QueryRejectedException ex) {
+    HttpStatus status =
+        ex.isUserLimit() ? HttpStatus.TOO_MANY_REQUESTS : HttpStatus.SERVICE_UNAVAILABLE;
+    return createWebMessage(ex.getMessage(), Status.ERROR, status, ex.getErrorCode());
+  }
+
   @ExceptionHandler(DeleteNotAllowedException.class)
   @ResponseBody
   public WebMessage deleteNotAllowedExceptionHandler(DeleteNotAllowedException ex) {
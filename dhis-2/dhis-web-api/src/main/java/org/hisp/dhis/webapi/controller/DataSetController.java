@@ -61,7 +61,9 @@ import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.stream.StreamResult;
 import javax.xml.transform.stream.StreamSource;
 import org.apache.commons.lang3.StringUtils;
+import org.hisp.dhis.category.Category;
 import org.hisp.dhis.category.CategoryCombo;
+import org.hisp.dhis.category.CategoryOption;
 import org.hisp.dhis.category.CategoryOptionCombo;
 import org.hisp.dhis.common.DhisApiVersion;
 import org.hisp.dhis.common.DisplayDensity;
@@ -76,6 +78,7 @@ import org.hisp.dhis.dataentryform.DataEntryFormService;
 import org.hisp.dhis.dataset.DataSet;
 import org.hisp.dhis.dataset.DataSetElement;
 import org.hisp.dhis.dataset.DataSetService;
+import org.hisp.dhis.dataset.Section;
 import org.hisp.dhis.datavalue.DataExportParams;
 import org.hisp.dhis.datavalue.DataValue;
 import org.hisp.dhis.datavalue.DataValueService;
@@ -86,7 +89,9 @@ import org.hisp.dhis.dxf2.util.InputUtils;
 import org.hisp.dhis.dxf2.webmessage.WebMessageException;
 import org.hisp.dhis.feedback.NotFoundException;
 import org.hisp.dhis.fieldfiltering.FieldPath;
+import org.hisp.dhis.indicator.Indicator;
 import org.hisp.dhis.node.types.RootNode;
+import org.hisp.dhis.option.OptionSet;
 import org.hisp.dhis.organisationunit.OrganisationUnit;
 import org.hisp.dhis.period.Period;
 import org.hisp.dhis.period.PeriodService;
@@ -142,6 +147,24 @@ public class DataSetController extends AbstractCrudController<DataSet, GetObject
   @Qualifier("xmlMapper")
   protected ObjectMapper xmlMapper;
 
+  // -------------------------------------------------------------------------
+  // Hooks
+  // -------------------------------------------------------------------------
+
+  @Override
+  protected List<Class<? extends IdentifiableObject>> getObjectListEtagTypes() {
+    return List.of(
+        DataSet.class,
+        Section.class,
+        DataElement.class,
+        Indicator.class,
+        CategoryCombo.class,
+        Category.class,
+        CategoryOption.class,
+        OptionSet.class,
+        OrganisationUnit.class);
+  }
+
   // -------------------------------------------------------------------------
   // Controller
   // -------------------------------------------------------------------------
@@ -96,7 +96,7 @@ public class DataStatisticsController {
     String username = CurrentUserUtil.getCurrentUsername();
 
     DataStatisticsEvent event = new DataStatisticsEvent(eventType, timestamp, username, favorite);
-    dataStatisticsService.addEvent(event);
+    dataStatisticsService.recordEvent(event);
 
     addStatisticsForEventChartOrReport(eventType, favorite, timestamp, username);
   }
@@ -117,7 +117,7 @@ public class DataStatisticsController {
     if (eventType == EVENT_CHART_VIEW || eventType == EVENT_REPORT_VIEW) {
       // For each EVENT_CHART_VIEW or EVENT_REPORT_VIEW we also add a
       // EVENT_VISUALIZATION_VIEW event.
-      dataStatisticsService.addEvent(
+      dataStatisticsService.recordEvent(
           new DataStatisticsEvent(EVENT_VISUALIZATION_VIEW, timestamp, username, favorite));
     }
   }
@@ -36,6 +36,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.util.Collection;
 import java.util.Date;
+import java.util.TreeSet;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.apache.commons.lang3.StringUtils;
@@ -293,6 +294,34 @@ public class ContextUtils {
     return HashUtils.hashMD5(value.getBytes());
   }
 
+  /**
+   * Returns an ETag based on the given validator, request and user, returned as 32 character string
+   * representation of an MD5 hash. The request URI and query string make the ETag unique per
+   * representation, and the user and user groups make it unique for responses where sharing is
+   * applied.
+   *
+   * @param validator the validator, which must change whenever the response could change.
+   * @param request the {@link HttpServletRequest}.
+   * @param user the {@link UserDetails}.
+   * @return an ETag string.
+   */
+  public static String getEtag(String validator, HttpServletRequest request, UserDetails user) {
+    if (validator == null || user == null) {
+      return null;
+    }
+
+    String value =
+        String.format(
+            "%s-%s?%s-%s-%s",
+            validator,
+            request.getRequestURI(),
+            request.getQueryString(),
+            user.getUid(),
+            new TreeSet<>(user.getUserGroupIds()));
+
+    return HashUtils.hashMD5(value.getBytes());
+  }
+
   /**
    * Indicates whether the given requests indicates that it accepts a compressed response.
    *
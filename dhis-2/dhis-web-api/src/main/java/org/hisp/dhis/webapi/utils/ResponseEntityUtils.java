@@ -41,6 +41,7 @@ import java.util.function.Supplier;
 import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
 
 /**
  * Utilities for {@link ResponseEntity}.
@@ -55,7 +56,8 @@ public class ResponseEntityUtils {
    * ETag indicates that the requested resource has not been modified, a response entity indicating
    * {@code 304 Not Modified} is returned, otherwise, a response entity indicating {@code 200 OK} is
    * returned. In both cases, the {@code Cache-Control} header is set to no cache, and the {@code
-   * ETag} header is set to the given ETag value.
+   * ETag} header is set to the given ETag value. The response body is not buffered by the shallow
+   * ETag filter.
    *
    * @param <T>
    * @param etag the ETag value.
@@ -65,6 +67,8 @@ public class ResponseEntityUtils {
    */
   public static <T> ResponseEntity<T> withEtagCaching(
       String etag, HttpServletRequest request, Supplier<T> bodySupplier) {
+    disableShallowEtag(request);
+
     if (checkNotModified(etag, request)) {
       return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
           .cacheControl(CacheControl.maxAge(0, TimeUnit.SECONDS).cachePrivate().mustRevalidate())
@@ -78,6 +82,17 @@ public class ResponseEntityUtils {
         .body(bodySupplier.get());
   }
 
+  /**
+   * Disables the buffering and hashing of the response body by the shallow ETag filter for the
+   * given request. Used by endpoints which set a deep ETag computed from a cheap validator, so that
+   * the response is streamed to the client as it is rendered.
+   *
+   * @param request the {@link HttpServletRequest}.
+   */
+  public static void disableShallowEtag(HttpServletRequest request) {
+    ShallowEtagHeaderFilter.disableContentCaching(request);
+  }
+
   /**
    * Checks whether the given ETag matches the {@code If-None-Match} header value, indicating that
    * the requested resource has not been modified.
@@ -31,11 +31,14 @@ package org.hisp.dhis.webapi.utils;
 
 import static org.hisp.dhis.test.TestBase.getDate;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 import java.util.Date;
 import org.hisp.dhis.user.User;
 import org.hisp.dhis.user.UserDetails;
 import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
 
 class ContextUtilsTest {
   @Test
@@ -48,6 +51,28 @@ class ContextUtilsTest {
         "7c9d6fd16b668638ca0e722aa2451054", ContextUtils.getEtag(date, UserDetails.fromUser(user)));
   }
 
+  @Test
+  void testGetEtagForValidator() {
+    User user = new User();
+    user.setUid("kYt56BgfED2");
+    UserDetails userDetails = UserDetails.fromUser(user);
+
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/dataSets");
+    request.setQueryString("fields=id,name");
+
+    MockHttpServletRequest otherRequest = new MockHttpServletRequest("GET", "/api/dataSets");
+    otherRequest.setQueryString("fields=id");
+
+    String etag = ContextUtils.getEtag("DataSet:1646870400000:12;", request, userDetails);
+
+    assertEquals(32, etag.length());
+    assertEquals(etag, ContextUtils.getEtag("DataSet:1646870400000:12;", request, userDetails));
+    assertNotEquals(etag, ContextUtils.getEtag("DataSet:1646870400000:11;", request, userDetails));
+    assertNotEquals(
+        etag, ContextUtils.getEtag("DataSet:1646870400000:12;", otherRequest, userDetails));
+    assertNull(ContextUtils.getEtag(null, request, userDetails));
+  }
+
   @Test
   void testQuote() {
     assertEquals("\"2022-03-10T00:00:00\"", ContextUtils.quote("2022-03-10T00:00:00"));